@@ -0,0 +1,78 @@
+package com.blockscore.net;
+
+import com.blockscore.models.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit.converter.ConversionException;
+import retrofit.mime.TypedByteArray;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of listing and watchlist search responses through the shared
+ * {@link ModelConverter}, and of listings read one record at a time through {@link StreamingPage}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeserializationBenchmark {
+  @Param({"25", "100"})
+  public int recordCount;
+
+  private final ModelConverter converter = ModelConverter.getInstance();
+
+  private TypedByteArray personListing;
+  private TypedByteArray watchlistSearchResults;
+  private Type personListingType;
+  private Type watchlistSearchResultsType;
+
+  @Setup
+  public void setUp() throws IOException, NoSuchMethodException {
+    personListing = json(Fixtures.personListing(recordCount));
+    watchlistSearchResults = json(Fixtures.watchlistSearchResults(recordCount));
+    personListingType = BlockscoreRestAdapter.class.getMethod("listPeople").getGenericReturnType();
+    watchlistSearchResultsType = BlockscoreRestAdapter.class.getMethod("searchWatchlists", Map.class)
+                                                            .getGenericReturnType();
+  }
+
+  @Benchmark
+  public Object personListing() throws ConversionException {
+    return converter.fromBody(personListing, personListingType);
+  }
+
+  @Benchmark
+  public int personListingStreamed() throws IOException {
+    StreamingPage<Person> page = new StreamingPage<Person>(personListing, Person.class, null);
+    int count = 0;
+    while (page.hasNext()) {
+      page.next();
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public Object watchlistSearchResults() throws ConversionException {
+    return converter.fromBody(watchlistSearchResults, watchlistSearchResultsType);
+  }
+
+  private static TypedByteArray json(String body) throws IOException {
+    return new TypedByteArray("application/json", body.getBytes("UTF-8"));
+  }
+}
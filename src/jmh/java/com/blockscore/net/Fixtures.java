@@ -0,0 +1,90 @@
+package com.blockscore.net;
+
+/**
+ * Builds realistic API response bodies for the benchmarks.
+ */
+final class Fixtures {
+  private static final long CREATED_AT = 1433462400L;
+
+  private Fixtures() {
+    // Not instantiable.
+  }
+
+  /**
+   * Builds a page of people as returned by the list people route.
+   *
+   * @param count  the number of people on the page
+   * @return the response body
+   */
+  static String personListing(int count) {
+    StringBuilder json = new StringBuilder();
+    json.append("{\"object\":\"list\",\"total_count\":").append(count).append(",\"has_more\":false,\"data\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(person("5f0c1e4b8d6c4a0001" + i));
+    }
+    return json.append("]}").toString();
+  }
+
+  /**
+   * Builds a single person as returned by the retrieve person route.
+   *
+   * @param id  the person's ID
+   * @return the response body
+   */
+  static String person(String id) {
+    return "{\"object\":\"person\",\"id\":\"" + id + "\",\"created_at\":" + CREATED_AT
+        + ",\"updated_at\":" + CREATED_AT + ",\"livemode\":false,\"status\":\"valid\","
+        + "\"name_first\":\"John\",\"name_middle\":\"Pearce\",\"name_last\":\"Doe\","
+        + "\"document_type\":\"ssn\",\"document_value\":\"0000\","
+        + "\"birth_day\":23,\"birth_month\":8,\"birth_year\":1980,"
+        + "\"address_street1\":\"1 Infinite Loop\",\"address_street2\":\"Apt 6\","
+        + "\"address_city\":\"Cupertino\",\"address_subdivision\":\"CA\","
+        + "\"address_postal_code\":\"95014\",\"address_country_code\":\"US\","
+        + "\"phone_number\":\"123-456-78910\",\"ip_address\":\"127.0.0.1\",\"note\":null,"
+        + "\"details\":{\"address\":\"mismatch\",\"address_risk\":\"low\",\"identification\":\"match\","
+        + "\"date_of_birth\":\"match\",\"ofac\":\"no_match\",\"pep\":\"no_match\"},"
+        + "\"question_sets\":[\"55f4a5ef3962330003000000\"]}";
+  }
+
+  /**
+   * Builds the result of a watchlist search.
+   *
+   * @param hitCount  the number of matches
+   * @return the response body
+   */
+  static String watchlistSearchResults(int hitCount) {
+    StringBuilder json = new StringBuilder();
+    json.append("{\"searched_lists\":[\"us_ofac\",\"ca_osfi\",\"eu_consolidated\",\"un_consolidated\"],");
+    json.append("\"count\":").append(hitCount).append(",\"matches\":[");
+    for (int i = 0; i < hitCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(watchlistHit(i));
+    }
+    return json.append("]}").toString();
+  }
+
+  private static String watchlistHit(int index) {
+    return "{\"watchlist_name\":\"US Office of Foreign Asset Control\",\"entry_type\":\"person\","
+        + "\"matching_info\":[\"name\",\"date_of_birth\"],\"confidence\":0." + (index % 10) + "5,"
+        + "\"url\":\"http://www.treasury.gov/sdn/" + index + "\",\"notes\":\"Program SDGT\","
+        + "\"title\":null,\"name_full\":\"John Doe " + index + "\",\"alternate_names\":\"Jon Doe\","
+        + "\"date_of_birth\":\"1980-08-23\",\"passport\":\"X1234567\",\"ssn\":null,"
+        + "\"address_street1\":\"1 Main St\",\"address_street2\":null,\"address_city\":\"Kabul\","
+        + "\"address_state\":null,\"address_postal_code\":null,\"address_country_code\":\"AF\","
+        + "\"address_raw\":\"1 Main St, Kabul, Afghanistan\","
+        + "\"names\":[{\"name_primary\":true,\"name_full\":\"John Doe\",\"name_strength\":\"strong\"},"
+        + "{\"name_primary\":false,\"name_full\":\"Jon Doe\",\"name_strength\":\"weak\"}],"
+        + "\"births\":[{\"birth_day\":23,\"birth_month\":8,\"birth_year\":1980,"
+        + "\"birth_day_end\":null,\"birth_month_end\":null,\"birth_year_end\":null}],"
+        + "\"documents\":[{\"document_type\":\"passport\",\"document_value\":\"X1234567\","
+        + "\"document_country_code\":\"AF\"}],"
+        + "\"addresses\":[{\"address_street1\":\"1 Main St\",\"address_street2\":null,"
+        + "\"address_city\":\"Kabul\",\"address_subdivision\":null,\"address_postal_code\":null,"
+        + "\"address_country_code\":\"AF\"}]}";
+  }
+}
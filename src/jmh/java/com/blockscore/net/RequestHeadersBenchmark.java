@@ -0,0 +1,118 @@
+package com.blockscore.net;
+
+import com.blockscore.common.Constants;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit.RequestInterceptor;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.DatatypeConverter;
+
+/**
+ * Compares {@link RequestHeaderInterceptor} with the interceptor it replaced, which encoded the API key
+ * and formatted the Accept header on every request. Run with {@code -PjmhProfiler=gc} to compare the
+ * bytes allocated per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestHeadersBenchmark {
+  private static final String API_KEY = "sk_test_a1ed66cc16a7cbc9f262f51869da31b3";
+
+  private final RequestInterceptor current = new RequestHeaderInterceptor(new RotatingCredentialsProvider(API_KEY));
+  private final RequestInterceptor legacy = new LegacyInterceptor(API_KEY);
+  private final HeaderSink sink = new HeaderSink();
+
+  @Benchmark
+  public HeaderSink current() {
+    current.intercept(sink);
+    return sink;
+  }
+
+  @Benchmark
+  public HeaderSink legacy() {
+    legacy.intercept(sink);
+    return sink;
+  }
+
+  /**
+   * The interceptor as it was before the header values were precomputed.
+   */
+  private static class LegacyInterceptor implements RequestInterceptor {
+    private final String apiKey;
+
+    LegacyInterceptor(String apiKey) {
+      this.apiKey = apiKey + ":";
+    }
+
+    @Override
+    public void intercept(RequestFacade request) {
+      request.addHeader(Constants.AUTHORIZATION_HEADER, getEncodedAuthorization());
+      request.addHeader(Constants.ACCEPT_HEADER,
+                        String.format("application/vnd.blockscore+json;version=%s", "4"));
+    }
+
+    private String getEncodedAuthorization() {
+      try {
+        return "Basic " + DatatypeConverter.printBase64Binary(apiKey.getBytes("UTF-8"));
+      } catch (UnsupportedEncodingException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Keeps the last value of each header so that the values cannot be optimized away.
+   */
+  public static class HeaderSink implements RequestInterceptor.RequestFacade {
+    private String authorization;
+    private String accept;
+
+    @Override
+    public void addHeader(String name, String value) {
+      if (Constants.AUTHORIZATION_HEADER.equals(name)) {
+        authorization = value;
+      } else {
+        accept = value;
+      }
+    }
+
+    @Override
+    public void addPathParam(String name, String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addEncodedPathParam(String name, String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addQueryParam(String name, String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addEncodedQueryParam(String name, String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+      return authorization + " " + accept;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.blockscore.net;
+
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.Person;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete API calls, from building the request to decoding the response, against a stub
+ * server on the loopback interface.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+  private static final String PERSON_ID = "5f0c1e4b8d6c4a0001";
+
+  @Param({"false", "true"})
+  public boolean useNativeCalls;
+
+  private HttpServer server;
+  private BlockscoreApiClient client;
+
+  @Setup
+  public void setUp() throws IOException {
+    final byte[] person = Fixtures.person(PERSON_ID).getBytes("UTF-8");
+    final byte[] listing = Fixtures.personListing(25).getBytes("UTF-8");
+
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/people", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        respond(exchange, exchange.getRequestURI().getPath().equals("/people") ? listing : person);
+      }
+    });
+    server.start();
+
+    BlockscoreClientConfig config = new BlockscoreClientConfig()
+        .setEndpoint("http://127.0.0.1:" + server.getAddress().getPort())
+        .useNativeCalls(useNativeCalls);
+    client = new BlockscoreApiClient("sk_test_benchmark", config);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Benchmark
+  public Person retrievePerson() {
+    return client.retrievePerson(PERSON_ID);
+  }
+
+  @Benchmark
+  public PaginatedResult<Person> listPeople() {
+    return client.listPeople();
+  }
+
+  private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    OutputStream out = exchange.getResponseBody();
+    try {
+      out.write(body);
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.blockscore.net;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SecondsDateDeserializer} with the formatter based implementation it replaced, by
+ * reading a listing of 100 records carrying two timestamps each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecondsDateDeserializerBenchmark {
+  private static final int RECORD_COUNT = 100;
+
+  private byte[] listing;
+  private ObjectReader currentReader;
+  private ObjectReader legacyReader;
+
+  @Setup
+  public void setUp() throws IOException {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      long timestamp = 1433462400L + i;
+      json.append("{\"created_at\":").append(timestamp).append(",\"updated_at\":").append(timestamp).append('}');
+    }
+    listing = json.append(']').toString().getBytes("UTF-8");
+
+    ObjectMapper mapper = new ObjectMapper();
+    currentReader = mapper.reader(CurrentRecord[].class);
+    legacyReader = mapper.reader(LegacyRecord[].class);
+  }
+
+  @Benchmark
+  public CurrentRecord[] current() throws IOException {
+    return currentReader.readValue(listing);
+  }
+
+  @Benchmark
+  public LegacyRecord[] legacy() throws IOException {
+    return legacyReader.readValue(listing);
+  }
+
+  public static class CurrentRecord {
+    @JsonDeserialize(using = SecondsDateDeserializer.class)
+    @JsonProperty("created_at")
+    private Date createdAt;
+
+    @JsonDeserialize(using = SecondsDateDeserializer.class)
+    @JsonProperty("updated_at")
+    private Date updatedAt;
+  }
+
+  public static class LegacyRecord {
+    @JsonDeserialize(using = LegacySecondsDateDeserializer.class)
+    @JsonProperty("created_at")
+    private Date createdAt;
+
+    @JsonDeserialize(using = LegacySecondsDateDeserializer.class)
+    @JsonProperty("updated_at")
+    private Date updatedAt;
+  }
+
+  /**
+   * The previous implementation, which built a formatter for every timestamp.
+   */
+  public static class LegacySecondsDateDeserializer extends JsonDeserializer<Date> {
+    @Override
+    public Date deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+      String date = jsonParser.getText();
+
+      SimpleDateFormat formatter = new SimpleDateFormat("ssssssssss");
+      formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+      try {
+        return formatter.parse(date);
+      } catch (ParseException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.blockscore.net;
+
+import com.blockscore.models.Address;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.Person;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import retrofit.mime.TypedOutput;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building request bodies: encoding a candidate and filling in a person's query map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+  private final ModelConverter converter = ModelConverter.getInstance();
+  private final Address address = new Address("1 Infinite Loop", "Apt 6", "Cupertino", "CA", "95014", "US");
+  private final Date dateOfBirth = new Date(335836800000L);
+
+  private BlockscoreApiClient client;
+  private Candidate candidate;
+
+  @Setup
+  public void setUp() {
+    client = new BlockscoreApiClient("sk_test_benchmark");
+    candidate = new Candidate.Builder(client).setFirstName("John")
+                                             .setMiddleName("Pearce")
+                                             .setLastName("Doe")
+                                             .setNote("12341234")
+                                             .setSsn("001")
+                                             .setPassport("1")
+                                             .setDateOfBirth(dateOfBirth)
+                                             .setAddress(address)
+                                             .build();
+  }
+
+  @Benchmark
+  public TypedOutput candidateBody() {
+    return converter.toBody(candidate);
+  }
+
+  @Benchmark
+  public Person.Builder personQuery() {
+    return new Person.Builder(client).setFirstName("John")
+                                     .setMiddleName("Pearce")
+                                     .setLastName("Doe")
+                                     .setDocumentType("ssn")
+                                     .setDocumentValue("0000")
+                                     .setDateOfBirth(dateOfBirth)
+                                     .setAddress(address)
+                                     .setPhoneNumber("123-456-78910")
+                                     .setIpAddress("127.0.0.1")
+                                     .setNote("12341234");
+  }
+}
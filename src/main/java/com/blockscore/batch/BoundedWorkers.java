@@ -0,0 +1,108 @@
+package com.blockscore.batch;
+
+import com.blockscore.tracing.TraceContext;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Processes a lazily consumed input on a fixed number of worker threads.
+ *
+ * <p>
+ * At most twice as many inputs as there are workers are taken from the input before their results have
+ * been handled, so the input may be a stream of any length. Results are passed to {@link #handle} one at a
+ * time in completion order, and the first exception thrown while processing or handling an input stops the
+ * run and is rethrown by {@link #run}. Inputs are processed with the {@link TraceContext trace context} of
+ * the thread calling {@code run}.
+ *
+ * @param <I>  the input type
+ * @param <R>  the result type
+ */
+abstract class BoundedWorkers<I, R> {
+  private final int concurrency;
+  private final int maxPending;
+
+  BoundedWorkers(int concurrency) {
+    this.concurrency = concurrency;
+    this.maxPending = concurrency * 2;
+  }
+
+  /**
+   * Processes every input and waits for all results to be handled.
+   *
+   * @param inputs  the inputs, consumed lazily on the calling thread
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  final void run(@NotNull final Iterator<? extends I> inputs) throws InterruptedException {
+    final Semaphore pending = new Semaphore(maxPending);
+    final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+    final Object handlerLock = new Object();
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+    try {
+      long index = 0;
+      while (failure.get() == null && inputs.hasNext()) {
+        pending.acquire();
+        beforeEach();
+        final I input = inputs.next();
+        final long inputIndex = index++;
+
+        executor.execute(TraceContext.wrap(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              R result = process(inputIndex, input);
+              synchronized (handlerLock) {
+                if (failure.get() == null) {
+                  handle(result);
+                }
+              }
+            } catch (RuntimeException e) {
+              failure.compareAndSet(null, e);
+            } finally {
+              pending.release();
+            }
+          }
+        }));
+      }
+
+      pending.acquire(maxPending);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  /**
+   * Invoked on the calling thread before each input is taken, once a worker is free.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void beforeEach() throws InterruptedException {
+  }
+
+  /**
+   * Processes one input on a worker thread.
+   *
+   * @param index  the position of the input, starting at 0
+   * @param input  the input
+   * @return the result
+   */
+  @NotNull
+  abstract R process(long index, @NotNull I input);
+
+  /**
+   * Handles one result. Never invoked concurrently.
+   *
+   * @param result  the result
+   */
+  abstract void handle(@NotNull R result);
+}
@@ -0,0 +1,94 @@
+package com.blockscore.batch;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.Candidate;
+import com.blockscore.net.BlockscoreApiClient;
+import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.IdempotencyKeyTable;
+import com.blockscore.tracing.TraceContext;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates and updates candidates in bulk.
+ *
+ * <p>
+ * Candidates without an ID are created, candidates with an ID are updated. Writes run on a fixed
+ * number of worker threads and the input is consumed only as fast as the workers complete, so the
+ * input may be a lazily produced stream of any length. Every candidate yields exactly one
+ * {@link CandidateWriteResult}; a failed write never aborts the load, but an exception thrown by the
+ * result handler does. Writes run with the {@link TraceContext trace context} of the thread calling
+ * {@link #load}.
+ */
+public class CandidateBulkLoader {
+  private final BlockscoreRestAdapter restAdapter;
+  private final int concurrency;
+
+  /**
+   * Creates a bulk loader.
+   *
+   * @param client  the client used to write candidates
+   * @param concurrency  the maximum number of writes in flight at once
+   */
+  public CandidateBulkLoader(@NotNull final BlockscoreApiClient client, final int concurrency) {
+    this(client.getAdapter(), concurrency);
+  }
+
+  CandidateBulkLoader(BlockscoreRestAdapter restAdapter, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be at least 1");
+    }
+    this.restAdapter = restAdapter;
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Writes every candidate produced by the input.
+   *
+   * @param candidates  the candidates to write, consumed lazily
+   * @param resultHandler  receives one result per candidate, never invoked concurrently
+   * @return the number of candidates written successfully
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  public long load(@NotNull final Iterator<Candidate> candidates,
+                   @NotNull final RecordHandler<CandidateWriteResult> resultHandler) throws InterruptedException {
+    final AtomicLong succeeded = new AtomicLong();
+
+    new BoundedWorkers<Candidate, CandidateWriteResult>(concurrency) {
+      @NotNull
+      @Override
+      CandidateWriteResult process(long index, @NotNull Candidate candidate) {
+        return write(index, candidate);
+      }
+
+      @Override
+      void handle(@NotNull CandidateWriteResult result) {
+        if (result.isSuccess()) {
+          succeeded.incrementAndGet();
+        }
+        resultHandler.handle(result);
+      }
+    }.run(candidates);
+
+    return succeeded.get();
+  }
+
+  @NotNull
+  private CandidateWriteResult write(long index, @NotNull Candidate candidate) {
+    try {
+      Candidate written;
+      if (candidate.getId() == null) {
+        written = restAdapter.createCandidate(IdempotencyKeyTable.generateKey(), candidate);
+      } else {
+        written = restAdapter.updateCandidate(candidate.getId(), candidate);
+      }
+      written.setAdapter(restAdapter);
+      return new CandidateWriteResult(index, written, null);
+    } catch (RuntimeException e) {
+      return new CandidateWriteResult(index, candidate, e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.blockscore.batch;
+
+import com.blockscore.exceptions.InvalidRequestException;
+import com.blockscore.models.Candidate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The outcome of writing a single candidate during a bulk load.
+ */
+public class CandidateWriteResult {
+  private final long index;
+  private final Candidate candidate;
+  private final RuntimeException error;
+
+  CandidateWriteResult(long index, @NotNull Candidate candidate, @Nullable RuntimeException error) {
+    this.index = index;
+    this.candidate = candidate;
+    this.error = error;
+  }
+
+  /**
+   * Gets the position of the candidate in the bulk load input, starting at 0.
+   *
+   * @return the input position
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the candidate. On success this is the candidate as stored by Blockscore, otherwise it is the
+   * candidate that was submitted.
+   *
+   * @return the candidate
+   */
+  @NotNull
+  public Candidate getCandidate() {
+    return candidate;
+  }
+
+  /**
+   * Gets the ID of the written candidate.
+   *
+   * @return the candidate ID, or null if the write failed
+   */
+  @Nullable
+  public String getId() {
+    return isSuccess() ? candidate.getId() : null;
+  }
+
+  /**
+   * Indicates whether the candidate was written successfully.
+   *
+   * @return true if the write succeeded
+   */
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  /**
+   * Gets the error that caused the write to fail.
+   *
+   * @return the error, or null if the write succeeded
+   */
+  @Nullable
+  public RuntimeException getError() {
+    return error;
+  }
+
+  /**
+   * Gets the parameter rejected by Blockscore, if the write failed validation.
+   *
+   * @return the invalid parameter, or null if there is none
+   */
+  @Nullable
+  public String getInvalidParam() {
+    if (error instanceof InvalidRequestException) {
+      return ((InvalidRequestException) error).getInvalidParam();
+    }
+    return null;
+  }
+}
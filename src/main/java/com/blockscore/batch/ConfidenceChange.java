@@ -0,0 +1,37 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.WatchlistHit;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A known watchlist hit whose confidence changed since it was last seen.
+ */
+public class ConfidenceChange {
+  private final WatchlistHit hit;
+  private final double previousConfidence;
+
+  ConfidenceChange(@NotNull WatchlistHit hit, double previousConfidence) {
+    this.hit = hit;
+    this.previousConfidence = previousConfidence;
+  }
+
+  /**
+   * Gets the hit as returned by the latest search.
+   *
+   * @return the hit
+   */
+  @NotNull
+  public WatchlistHit getHit() {
+    return hit;
+  }
+
+  /**
+   * Gets the confidence of the hit when it was previously seen.
+   *
+   * @return the previous confidence value
+   */
+  public double getPreviousConfidence() {
+    return previousConfidence;
+  }
+}
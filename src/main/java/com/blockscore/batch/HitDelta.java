@@ -0,0 +1,75 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.WatchlistHit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The difference between a candidate's latest watchlist hits and those previously recorded.
+ */
+public class HitDelta {
+  private final String candidateId;
+  private final List<WatchlistHit> newHits;
+  private final List<RecordedHit> removedHits;
+  private final List<ConfidenceChange> confidenceChanges;
+
+  HitDelta(@NotNull String candidateId, @NotNull List<WatchlistHit> newHits, @NotNull List<RecordedHit> removedHits,
+           @NotNull List<ConfidenceChange> confidenceChanges) {
+    this.candidateId = candidateId;
+    this.newHits = newHits;
+    this.removedHits = removedHits;
+    this.confidenceChanges = confidenceChanges;
+  }
+
+  /**
+   * Gets the ID of the candidate.
+   *
+   * @return the candidate ID
+   */
+  @NotNull
+  public String getCandidateId() {
+    return candidateId;
+  }
+
+  /**
+   * Gets the hits never seen before for this candidate.
+   *
+   * @return the new hits
+   */
+  @NotNull
+  public List<WatchlistHit> getNewHits() {
+    return Collections.unmodifiableList(newHits);
+  }
+
+  /**
+   * Gets the previously recorded hits missing from the latest search.
+   *
+   * @return the removed hits
+   */
+  @NotNull
+  public List<RecordedHit> getRemovedHits() {
+    return Collections.unmodifiableList(removedHits);
+  }
+
+  /**
+   * Gets the known hits whose confidence changed.
+   *
+   * @return the confidence changes
+   */
+  @NotNull
+  public List<ConfidenceChange> getConfidenceChanges() {
+    return Collections.unmodifiableList(confidenceChanges);
+  }
+
+  /**
+   * Indicates whether nothing changed.
+   *
+   * @return true if there are no new, removed or changed hits
+   */
+  public boolean isEmpty() {
+    return newHits.isEmpty() && removedHits.isEmpty() && confidenceChanges.isEmpty();
+  }
+}
@@ -0,0 +1,66 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.WatchlistHit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Computes stable fingerprints identifying a watchlist hit across searches.
+ *
+ * <p>
+ * A fingerprint covers the watchlist, the full name, the date of birth and the matching info, but not
+ * the confidence, so a hit whose confidence changes keeps its fingerprint. The order of the matching
+ * info does not matter.
+ */
+final class HitFingerprints {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final char FIELD_SEPARATOR = '\u001f';
+
+  private HitFingerprints() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Computes the fingerprint of a hit.
+   *
+   * @param hit  the hit
+   * @return the fingerprint, as 40 hexadecimal digits
+   */
+  @NotNull
+  static String of(@NotNull WatchlistHit hit) {
+    String[] matchingInfo = hit.getMatchingInfo();
+    Arrays.sort(matchingInfo);
+    Date dateOfBirth = hit.getDateOfBirth();
+
+    StringBuilder key = new StringBuilder(128);
+    key.append(hit.getWatchlist()).append(FIELD_SEPARATOR);
+    key.append(hit.getName()).append(FIELD_SEPARATOR);
+    key.append(dateOfBirth == null ? "" : String.valueOf(dateOfBirth.getTime()));
+    for (String info : matchingInfo) {
+      key.append(FIELD_SEPARATOR).append(info);
+    }
+
+    byte[] digest = sha1().digest(key.toString().getBytes(UTF_8));
+    char[] hex = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xf];
+    }
+    return new String(hex);
+  }
+
+  private static MessageDigest sha1() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-1 is required by every Java platform", e);
+    }
+  }
+}
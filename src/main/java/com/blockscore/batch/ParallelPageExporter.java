@@ -0,0 +1,141 @@
+package com.blockscore.batch;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.PaginatedIterable;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.tracing.TraceContext;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exports a complete listing by fetching several pages concurrently.
+ *
+ * <p>
+ * The first page is fetched to learn the listing's total count, after which the remaining page
+ * offsets are known up front. Up to {@code concurrency} pages are requested at once and records are
+ * handed to the consumer strictly in listing order, so at most {@code concurrency + 1} pages are held
+ * in memory regardless of the listing's size.
+ *
+ * <p>
+ * Listings are ordered newest first, so records created while an export is running shift later pages
+ * and may be handed to the consumer twice. Consumers should de-duplicate by record ID if that matters.
+ * Pages are fetched with the {@link TraceContext trace context} of the thread calling {@link #export}.
+ */
+public class ParallelPageExporter<T> {
+  private final PaginatedIterable.PageFetcher<T> fetcher;
+  private final int pageSize;
+  private final int concurrency;
+
+  /**
+   * Creates an exporter for a listing.
+   *
+   * @param listing  the listing to export, whose page size is used for every request
+   * @param concurrency  the maximum number of pages fetched at once
+   */
+  public ParallelPageExporter(@NotNull final PaginatedIterable<T> listing, final int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be at least 1");
+    }
+    this.fetcher = listing.getFetcher();
+    this.pageSize = listing.getPageSize();
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Exports every record of the listing using a dedicated pool of worker threads.
+   *
+   * @param handler  the consumer of the records, invoked on the calling thread
+   * @return the number of records exported
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a page
+   */
+  public long export(@NotNull final RecordHandler<T> handler) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    try {
+      return export(handler, executor);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Exports every record of the listing, fetching pages on the given executor.
+   *
+   * @param handler  the consumer of the records, invoked on the calling thread
+   * @param executor  the executor used to fetch pages
+   * @return the number of records exported
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a page
+   */
+  public long export(@NotNull final RecordHandler<T> handler, @NotNull final ExecutorService executor)
+      throws InterruptedException {
+    PaginatedResult<T> firstPage = fetcher.fetchPage(0, pageSize);
+    long exported = emit(firstPage, handler);
+
+    int pageCount = (firstPage.getTotalCount() + pageSize - 1) / pageSize;
+    Deque<Future<PaginatedResult<T>>> window = new ArrayDeque<Future<PaginatedResult<T>>>(concurrency);
+    int nextPage = 1;
+
+    try {
+      while (nextPage < pageCount && window.size() < concurrency) {
+        window.addLast(executor.submit(TraceContext.wrap(new PageCall(nextPage++))));
+      }
+
+      while (!window.isEmpty()) {
+        PaginatedResult<T> page = await(window.removeFirst());
+        if (nextPage < pageCount) {
+          window.addLast(executor.submit(TraceContext.wrap(new PageCall(nextPage++))));
+        }
+        exported += emit(page, handler);
+      }
+    } finally {
+      for (Future<PaginatedResult<T>> pending : window) {
+        pending.cancel(true);
+      }
+    }
+
+    return exported;
+  }
+
+  private long emit(PaginatedResult<T> page, RecordHandler<T> handler) {
+    long count = 0;
+    for (T record : page.getData()) {
+      handler.handle(record);
+      count++;
+    }
+    return count;
+  }
+
+  private PaginatedResult<T> await(Future<PaginatedResult<T>> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+  }
+
+  private class PageCall implements Callable<PaginatedResult<T>> {
+    private final int pageIndex;
+
+    PageCall(int pageIndex) {
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public PaginatedResult<T> call() {
+      return fetcher.fetchPage(pageIndex * pageSize, pageSize);
+    }
+  }
+}
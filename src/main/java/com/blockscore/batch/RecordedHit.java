@@ -0,0 +1,79 @@
+package com.blockscore.batch;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Date;
+
+/**
+ * What a {@link WatchlistHitStore} remembers about a watchlist hit.
+ */
+public class RecordedHit {
+  private final String fingerprint;
+  private final String watchlist;
+  private final String name;
+  private final double confidence;
+  private final long firstSeenMillis;
+
+  RecordedHit(@NotNull String fingerprint, @NotNull String watchlist, @Nullable String name, double confidence,
+              long firstSeenMillis) {
+    this.fingerprint = fingerprint;
+    this.watchlist = watchlist;
+    this.name = name;
+    this.confidence = confidence;
+    this.firstSeenMillis = firstSeenMillis;
+  }
+
+  /**
+   * Gets the fingerprint identifying the hit across searches.
+   *
+   * @return the fingerprint
+   */
+  @NotNull
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Gets the watchlist on which the hit took place.
+   *
+   * @return the watchlist
+   */
+  @NotNull
+  public String getWatchlist() {
+    return watchlist;
+  }
+
+  /**
+   * Gets the full name of the watchlist entry.
+   *
+   * @return the full name
+   */
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the confidence of the hit when it was last seen.
+   *
+   * @return the confidence value
+   */
+  public double getConfidence() {
+    return confidence;
+  }
+
+  /**
+   * Gets the time the hit was first seen.
+   *
+   * @return the time of the first search returning the hit
+   */
+  @NotNull
+  public Date getFirstSeenAt() {
+    return new Date(firstSeenMillis);
+  }
+
+  long getFirstSeenMillis() {
+    return firstSeenMillis;
+  }
+}
@@ -0,0 +1,69 @@
+package com.blockscore.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The outcome of a {@link RescreeningScheduler} run.
+ */
+public class RescreeningReport {
+  private final long listedCount;
+  private final long dueCount;
+  private final int prunedCount;
+  private final boolean watchlistsChanged;
+  private final ScreeningSummary summary;
+
+  RescreeningReport(long listedCount, long dueCount, int prunedCount, boolean watchlistsChanged,
+                    @NotNull ScreeningSummary summary) {
+    this.listedCount = listedCount;
+    this.dueCount = dueCount;
+    this.prunedCount = prunedCount;
+    this.watchlistsChanged = watchlistsChanged;
+    this.summary = summary;
+  }
+
+  /**
+   * Gets the number of candidates in the candidate book.
+   *
+   * @return the number of listed candidates
+   */
+  public long getListedCount() {
+    return listedCount;
+  }
+
+  /**
+   * Gets the number of candidates that were due and therefore screened.
+   *
+   * @return the number of screened candidates, including failed searches
+   */
+  public long getDueCount() {
+    return dueCount;
+  }
+
+  /**
+   * Gets the number of candidates forgotten because the API confirmed they were deleted.
+   *
+   * @return the number of pruned candidates
+   */
+  public int getPrunedCount() {
+    return prunedCount;
+  }
+
+  /**
+   * Indicates whether the watchlists searched differ from those of the previous run.
+   *
+   * @return true if the searched watchlists changed
+   */
+  public boolean isWatchlistsChanged() {
+    return watchlistsChanged;
+  }
+
+  /**
+   * Gets the summary of the searches made during the run.
+   *
+   * @return the screening summary
+   */
+  @NotNull
+  public ScreeningSummary getSummary() {
+    return summary;
+  }
+}
@@ -0,0 +1,249 @@
+package com.blockscore.batch;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.WatchlistSearchResults;
+import com.blockscore.net.ApiFailures;
+import com.blockscore.net.BlockscoreApiClient;
+import com.blockscore.net.BlockscoreRestAdapter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rescreens only the candidates whose screening may be out of date, instead of the whole candidate book.
+ *
+ * <p>
+ * A run lists the candidate book and compares every candidate against the {@link ScreeningStateStore}.
+ * A candidate is due if it was never screened, if it was updated since it was screened, if it was last
+ * screened against other watchlists than those searched now, or if its screening is older than the
+ * maximum age. The watchlists searched now are only known from a search response, so every run first
+ * screens the least recently screened candidate alone and compares its searched watchlists with those
+ * of the previous run; a change makes every candidate screened against the old watchlists due. This
+ * costs one search per run even when nothing else is due. The probe's result is passed to the result
+ * handler and counted in the summary, but not reported to the progress listener.
+ *
+ * <p>
+ * The store is updated with every successful search and saved at the end of the run, even when the run
+ * fails, so an interrupted run resumes where it stopped. Failed searches leave their candidates due.
+ * Candidates missing from the listing are retrieved one by one and forgotten only if they were deleted.
+ */
+public class RescreeningScheduler {
+  private final Iterable<Candidate> candidates;
+  private final BlockscoreRestAdapter restAdapter;
+  private final WatchlistScreener screener;
+  private final ScreeningStateStore store;
+  private WatchlistHitStore hitStore;
+  private long maxAgeMillis;
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param client  the client used to list and screen the candidates
+   * @param options  the settings shared by every search
+   * @param concurrency  the maximum number of searches in flight at once
+   * @param store  the record of previous screenings
+   */
+  public RescreeningScheduler(@NotNull final BlockscoreApiClient client,
+                              @NotNull final ScreeningOptions options,
+                              final int concurrency,
+                              @NotNull final ScreeningStateStore store) {
+    this(client.iterateCandidates(), client.getAdapter(), new WatchlistScreener(client, options, concurrency),
+         store);
+  }
+
+  RescreeningScheduler(Iterable<Candidate> candidates, BlockscoreRestAdapter restAdapter, WatchlistScreener screener,
+                       ScreeningStateStore store) {
+    this.candidates = candidates;
+    this.restAdapter = restAdapter;
+    this.screener = screener;
+    this.store = store;
+  }
+
+  /**
+   * Sets the age after which a candidate is rescreened even if nothing changed. Disabled by default.
+   *
+   * @param maxAge  the maximum age, or 0 to never rescreen unchanged candidates
+   * @param unit  the unit of the maximum age
+   * @return this
+   */
+  @NotNull
+  public RescreeningScheduler setMaxAge(final long maxAge, @NotNull final TimeUnit unit) {
+    this.maxAgeMillis = unit.toMillis(maxAge);
+    return this;
+  }
+
+  /**
+   * Sets a hit store to keep in step with the candidate book. Deleted candidates are pruned from it on
+   * every run, and it is saved along with the screening state. Hits are only recorded
+   * in it by a result handler such as {@link WatchlistHitStore#deltaHandler}. No hit store is kept by default.
+   *
+   * @param hitStore  the hit store, or null for none
+   * @return this
+   */
+  @NotNull
+  public RescreeningScheduler setHitStore(@Nullable final WatchlistHitStore hitStore) {
+    this.hitStore = hitStore;
+    return this;
+  }
+
+  /**
+   * Screens every candidate that is due and saves the store.
+   *
+   * @return the report of the run
+   * @throws IOException if the store cannot be saved
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  @NotNull
+  public RescreeningReport run() throws IOException, InterruptedException {
+    return run(null, null);
+  }
+
+  /**
+   * Screens every candidate that is due, reporting each result and the progress of the run, and saves
+   * the store.
+   *
+   * @param resultHandler  receives one result per screened candidate, never invoked concurrently, or null
+   * @param progressListener  notified after each candidate, never invoked concurrently, or null
+   * @return the report of the run
+   * @throws IOException if the store cannot be saved
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  @NotNull
+  public RescreeningReport run(@Nullable final RecordHandler<ScreeningResult> resultHandler,
+                               @Nullable final ScreeningProgressListener progressListener)
+      throws IOException, InterruptedException {
+    final Map<String, Long> listed = new LinkedHashMap<String, Long>();
+    for (Candidate candidate : candidates) {
+      listed.put(candidate.getId(), candidate.getUpdatedAtDate().getTime());
+    }
+
+    try {
+      final long now = System.currentTimeMillis();
+      final List<ScreeningResult> probeResult = new ArrayList<ScreeningResult>(1);
+      final RecordHandler<ScreeningResult> recorder = new RecordHandler<ScreeningResult>() {
+        @Override
+        public void handle(ScreeningResult result) {
+          WatchlistSearchResults results = result.getResults();
+          if (results != null) {
+            String[] searchedLists = results.getSearchedLists();
+            store.put(result.getCandidateId(), listed.get(result.getCandidateId()), now,
+                      searchedLists == null ? new String[0] : searchedLists);
+          }
+          if (resultHandler != null) {
+            resultHandler.handle(result);
+          }
+        }
+      };
+
+      String probeId = leastRecentlyScreened(listed.keySet());
+      List<String> previousLists = store.getLatestLists();
+      if (probeId != null) {
+        screener.screen(Collections.singletonList(probeId), new RecordHandler<ScreeningResult>() {
+          @Override
+          public void handle(ScreeningResult result) {
+            probeResult.add(result);
+            recorder.handle(result);
+          }
+        }, null);
+      }
+      List<String> currentLists = store.getLatestLists();
+
+      List<String> due = new ArrayList<String>();
+      for (Map.Entry<String, Long> entry : listed.entrySet()) {
+        String candidateId = entry.getKey();
+        if (!candidateId.equals(probeId) && isDue(store.get(candidateId), entry.getValue(), currentLists, now)) {
+          due.add(candidateId);
+        }
+      }
+
+      ScreeningSummary summary = screener.screen(due, recorder, progressListener);
+      for (ScreeningResult result : probeResult) {
+        summary.add(result);
+      }
+      boolean watchlistsChanged = previousLists != null && !previousLists.equals(currentLists);
+      Set<String> retained = retainedCandidateIds(listed.keySet());
+      int prunedCount = store.retainAll(retained);
+      if (hitStore != null) {
+        hitStore.retainAll(retained);
+      }
+      return new RescreeningReport(listed.size(), due.size() + probeResult.size(), prunedCount,
+                                   watchlistsChanged, summary);
+    } finally {
+      try {
+        store.save();
+      } finally {
+        if (hitStore != null) {
+          hitStore.save();
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the IDs of the candidates to keep in the stores: every listed candidate, plus every unlisted one
+   * that still exists. The listing pages by offset while candidates may be created or deleted, so it can
+   * skip live candidates; only a candidate the API no longer finds is treated as deleted.
+   */
+  private Set<String> retainedCandidateIds(Set<String> listedIds) {
+    Set<String> known = store.getCandidateIds();
+    if (hitStore != null) {
+      known.addAll(hitStore.getCandidateIds());
+    }
+
+    Set<String> retained = new HashSet<String>(listedIds);
+    for (String candidateId : known) {
+      if (!listedIds.contains(candidateId) && !isDeleted(candidateId)) {
+        retained.add(candidateId);
+      }
+    }
+    return retained;
+  }
+
+  private boolean isDeleted(String candidateId) {
+    try {
+      restAdapter.retrieveCandidate(candidateId);
+      return false;
+    } catch (RuntimeException e) {
+      return ApiFailures.isNotFound(e);
+    }
+  }
+
+  /**
+   * Picks the listed candidate with the oldest screening, which is the one most worth screening again.
+   */
+  @Nullable
+  private String leastRecentlyScreened(Iterable<String> candidateIds) {
+    String oldestId = null;
+    long oldestScreenedAt = Long.MAX_VALUE;
+    for (String candidateId : candidateIds) {
+      ScreenedCandidate screened = store.get(candidateId);
+      if (screened != null && screened.getScreenedAtMillis() < oldestScreenedAt) {
+        oldestId = candidateId;
+        oldestScreenedAt = screened.getScreenedAtMillis();
+      }
+    }
+    return oldestId;
+  }
+
+  private boolean isDue(@Nullable ScreenedCandidate screened, long updatedAtMillis,
+                        @Nullable List<String> currentLists, long now) {
+    if (screened == null || updatedAtMillis > screened.getUpdatedAtMillis()) {
+      return true;
+    }
+    if (currentLists != null && !currentLists.equals(screened.getSearchedLists())) {
+      return true;
+    }
+    return maxAgeMillis > 0 && now - screened.getScreenedAtMillis() >= maxAgeMillis;
+  }
+}
@@ -0,0 +1,59 @@
+package com.blockscore.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * What a {@link ScreeningStateStore} remembers about the last screening of a candidate.
+ */
+public class ScreenedCandidate {
+  private final long updatedAtMillis;
+  private final long screenedAtMillis;
+  private final List<String> searchedLists;
+
+  ScreenedCandidate(long updatedAtMillis, long screenedAtMillis, @NotNull List<String> searchedLists) {
+    this.updatedAtMillis = updatedAtMillis;
+    this.screenedAtMillis = screenedAtMillis;
+    this.searchedLists = searchedLists;
+  }
+
+  /**
+   * Gets the time the candidate had last been updated when it was screened.
+   *
+   * @return the candidate's update time
+   */
+  @NotNull
+  public Date getUpdatedAt() {
+    return new Date(updatedAtMillis);
+  }
+
+  /**
+   * Gets the time the candidate was last screened.
+   *
+   * @return the screening time
+   */
+  @NotNull
+  public Date getScreenedAt() {
+    return new Date(screenedAtMillis);
+  }
+
+  /**
+   * Gets the watchlists the candidate was last screened against, in name order.
+   *
+   * @return the searched watchlists
+   */
+  @NotNull
+  public List<String> getSearchedLists() {
+    return searchedLists;
+  }
+
+  long getUpdatedAtMillis() {
+    return updatedAtMillis;
+  }
+
+  long getScreenedAtMillis() {
+    return screenedAtMillis;
+  }
+}
@@ -0,0 +1,108 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.EntityType;
+import com.blockscore.net.RateLimiter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings shared by every watchlist search of a {@link WatchlistScreener} run.
+ */
+public class ScreeningOptions {
+  public static final double DEFAULT_MINIMUM_CONFIDENCE = 0.9;
+
+  private EntityType entityType;
+  private Double similarityThreshold;
+  private double minimumConfidence = DEFAULT_MINIMUM_CONFIDENCE;
+  private RateLimiter rateLimiter;
+
+  /**
+   * Restricts the searches to one type of entity. Both types are searched by default.
+   *
+   * @param entityType  the type of entity, or null for both
+   * @return this
+   */
+  @NotNull
+  public ScreeningOptions setEntityType(@Nullable final EntityType entityType) {
+    this.entityType = entityType;
+    return this;
+  }
+
+  /**
+   * Sets the similarity threshold of the searches. The API's default threshold is used by default.
+   *
+   * @param similarityThreshold  the tolerated similarity threshold, or null for the default
+   * @return this
+   */
+  @NotNull
+  public ScreeningOptions setSimilarityThreshold(@Nullable final Double similarityThreshold) {
+    this.similarityThreshold = similarityThreshold;
+    return this;
+  }
+
+  /**
+   * Sets the confidence at or above which a hit flags its candidate in the {@link ScreeningSummary}.
+   *
+   * @param minimumConfidence  the confidence, between 0 and 1.0
+   * @return this
+   */
+  @NotNull
+  public ScreeningOptions setMinimumConfidence(final double minimumConfidence) {
+    this.minimumConfidence = minimumConfidence;
+    return this;
+  }
+
+  /**
+   * Sets a rate limiter for the screening run alone, on top of any limiter configured on the client, so
+   * that a large run leaves part of the account's request rate to interactive traffic. Searches are not
+   * limited by default.
+   *
+   * @param rateLimiter  the rate limiter, or null to disable it
+   * @return this
+   */
+  @NotNull
+  public ScreeningOptions setRateLimiter(@Nullable final RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  @Nullable
+  EntityType getEntityType() {
+    return entityType;
+  }
+
+  @Nullable
+  Double getSimilarityThreshold() {
+    return similarityThreshold;
+  }
+
+  double getMinimumConfidence() {
+    return minimumConfidence;
+  }
+
+  @Nullable
+  RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  /**
+   * Builds the search options shared by every candidate, without a candidate ID.
+   *
+   * @return the shared search options
+   */
+  @NotNull
+  Map<String, String> toQueryOptions() {
+    Map<String, String> options = new HashMap<String, String>();
+    if (entityType != null) {
+      options.put("match_type", String.valueOf(entityType));
+    }
+    if (similarityThreshold != null) {
+      options.put("similarity_threshold", String.valueOf(similarityThreshold));
+    }
+    return options;
+  }
+}
@@ -0,0 +1,14 @@
+package com.blockscore.batch;
+
+/**
+ * Receives progress updates from a {@link WatchlistScreener} run.
+ */
+public interface ScreeningProgressListener {
+  /**
+   * Called after each candidate has been screened. Never invoked concurrently.
+   *
+   * @param screened  the number of candidates screened successfully so far
+   * @param failed  the number of candidates whose search failed so far
+   */
+  void onProgress(long screened, long failed);
+}
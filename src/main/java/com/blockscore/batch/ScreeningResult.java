@@ -0,0 +1,72 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.WatchlistSearchResults;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The outcome of screening a single candidate during a {@link WatchlistScreener} run.
+ */
+public class ScreeningResult {
+  private final long index;
+  private final String candidateId;
+  private final WatchlistSearchResults results;
+  private final RuntimeException error;
+
+  ScreeningResult(long index, @NotNull String candidateId, @Nullable WatchlistSearchResults results,
+                  @Nullable RuntimeException error) {
+    this.index = index;
+    this.candidateId = candidateId;
+    this.results = results;
+    this.error = error;
+  }
+
+  /**
+   * Gets the position of the candidate in the screening input, starting at 0.
+   *
+   * @return the input position
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the ID of the screened candidate.
+   *
+   * @return the candidate ID
+   */
+  @NotNull
+  public String getCandidateId() {
+    return candidateId;
+  }
+
+  /**
+   * Gets the results of the watchlist search.
+   *
+   * @return the search results, or null if the search failed
+   */
+  @Nullable
+  public WatchlistSearchResults getResults() {
+    return results;
+  }
+
+  /**
+   * Indicates whether the candidate was screened successfully.
+   *
+   * @return true if the search succeeded
+   */
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  /**
+   * Gets the error that caused the search to fail.
+   *
+   * @return the error, or null if the search succeeded
+   */
+  @Nullable
+  public RuntimeException getError() {
+    return error;
+  }
+}
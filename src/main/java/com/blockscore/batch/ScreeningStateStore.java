@@ -0,0 +1,265 @@
+package com.blockscore.batch;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers, in a local file, when each candidate was last screened and against which watchlists.
+ *
+ * <p>
+ * Candidates screened against the same watchlists share one copy of the list names, both in memory
+ * and in the file, so the state of a large candidate book stays small. The file is replaced
+ * atomically by {@link #save()}, so a crash while saving leaves the previous state intact.
+ */
+public class ScreeningStateStore {
+  private static final int FORMAT_VERSION = 1;
+
+  private final File file;
+  private final Map<String, ScreenedCandidate> candidates = new HashMap<String, ScreenedCandidate>();
+  private final Map<List<String>, List<String>> listSets = new HashMap<List<String>, List<String>>();
+  private List<String> latestLists;
+
+  private ScreeningStateStore(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens a store, loading its state if the file exists.
+   *
+   * @param file  the file holding the state
+   * @return the store
+   * @throws IOException if the file cannot be read
+   */
+  @NotNull
+  public static ScreeningStateStore open(@NotNull final File file) throws IOException {
+    ScreeningStateStore store = new ScreeningStateStore(file);
+    if (file.exists()) {
+      store.load();
+    }
+    return store;
+  }
+
+  /**
+   * Gets what is known about a candidate's last screening.
+   *
+   * @param candidateId  the candidate ID
+   * @return the last screening, or null if the candidate was never screened
+   */
+  @Nullable
+  public synchronized ScreenedCandidate get(@NotNull final String candidateId) {
+    return candidates.get(candidateId);
+  }
+
+  /**
+   * Gets the number of candidates in the store.
+   *
+   * @return the number of screened candidates
+   */
+  public synchronized int size() {
+    return candidates.size();
+  }
+
+  /**
+   * Gets the watchlists searched by the most recent screening.
+   *
+   * @return the searched watchlists in name order, or null if nothing was screened yet
+   */
+  @Nullable
+  public synchronized List<String> getLatestLists() {
+    return latestLists;
+  }
+
+  /**
+   * Records a screening of a candidate.
+   *
+   * @param candidateId  the candidate ID
+   * @param updatedAtMillis  the time the candidate had last been updated
+   * @param screenedAtMillis  the time of the screening
+   * @param searchedLists  the watchlists searched
+   */
+  synchronized void put(@NotNull String candidateId, long updatedAtMillis, long screenedAtMillis,
+                        @NotNull String[] searchedLists) {
+    List<String> lists = canonical(searchedLists);
+    candidates.put(candidateId, new ScreenedCandidate(updatedAtMillis, screenedAtMillis, lists));
+    latestLists = lists;
+  }
+
+  /**
+   * Gets the IDs of the candidates in the store.
+   *
+   * @return a snapshot of the candidate IDs
+   */
+  synchronized Set<String> getCandidateIds() {
+    return new HashSet<String>(candidates.keySet());
+  }
+
+  /**
+   * Forgets every candidate not in the given set, for example candidates that were deleted.
+   *
+   * @param candidateIds  the IDs of the candidates to keep
+   * @return the number of candidates forgotten
+   */
+  synchronized int retainAll(@NotNull Set<String> candidateIds) {
+    int removed = 0;
+    for (Iterator<String> ids = candidates.keySet().iterator(); ids.hasNext();) {
+      if (!candidateIds.contains(ids.next())) {
+        ids.remove();
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Writes the state to the store's file.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void save() throws IOException {
+    StoreFiles.replace(file, new StoreFiles.ContentWriter() {
+      @Override
+      public void write(@NotNull File target) throws IOException {
+        writeTo(target);
+      }
+    });
+  }
+
+  private void writeTo(File target) throws IOException {
+    Map<List<String>, Integer> indexes = referencedListSets();
+    JsonGenerator generator = StoreFiles.JSON.createGenerator(target, JsonEncoding.UTF8);
+    try {
+      generator.writeStartObject();
+      generator.writeNumberField("version", FORMAT_VERSION);
+
+      generator.writeArrayFieldStart("list_sets");
+      for (List<String> lists : indexes.keySet()) {
+        generator.writeStartArray();
+        for (String list : lists) {
+          generator.writeString(list);
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndArray();
+
+      generator.writeNumberField("latest_lists", latestLists == null ? -1 : indexes.get(latestLists));
+
+      generator.writeArrayFieldStart("candidates");
+      for (Map.Entry<String, ScreenedCandidate> entry : candidates.entrySet()) {
+        ScreenedCandidate candidate = entry.getValue();
+        generator.writeStartArray();
+        generator.writeString(entry.getKey());
+        generator.writeNumber(candidate.getUpdatedAtMillis());
+        generator.writeNumber(candidate.getScreenedAtMillis());
+        generator.writeNumber(indexes.get(candidate.getSearchedLists()));
+        generator.writeEndArray();
+      }
+      generator.writeEndArray();
+
+      generator.writeEndObject();
+    } finally {
+      generator.close();
+    }
+  }
+
+  /**
+   * Numbers the list sets still used by a candidate or as the latest lists, in order, and forgets the
+   * others so that sets left behind by watchlist changes or pruned candidates do not accumulate.
+   */
+  private Map<List<String>, Integer> referencedListSets() {
+    Map<List<String>, Integer> indexes = new LinkedHashMap<List<String>, Integer>();
+    if (latestLists != null) {
+      indexes.put(latestLists, 0);
+    }
+    for (ScreenedCandidate candidate : candidates.values()) {
+      List<String> lists = candidate.getSearchedLists();
+      if (!indexes.containsKey(lists)) {
+        indexes.put(lists, indexes.size());
+      }
+    }
+    listSets.keySet().retainAll(indexes.keySet());
+    return indexes;
+  }
+
+  private void load() throws IOException {
+    List<List<String>> indexed = new ArrayList<List<String>>();
+    int latest = -1;
+
+    JsonParser parser = StoreFiles.JSON.createParser(file);
+    try {
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if ("version".equals(field)) {
+          if (parser.getIntValue() != FORMAT_VERSION) {
+            throw new IOException("Unsupported screening state version " + parser.getIntValue());
+          }
+        } else if ("list_sets".equals(field)) {
+          while (parser.nextToken() == JsonToken.START_ARRAY) {
+            List<String> lists = new ArrayList<String>();
+            while (parser.nextToken() == JsonToken.VALUE_STRING) {
+              lists.add(parser.getText());
+            }
+            indexed.add(canonical(lists.toArray(new String[lists.size()])));
+          }
+        } else if ("latest_lists".equals(field)) {
+          latest = parser.getIntValue();
+        } else if ("candidates".equals(field)) {
+          while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            String id = parser.getText();
+            long updatedAt = nextLong(parser);
+            long screenedAt = nextLong(parser);
+            List<String> lists = indexed.get((int) nextLong(parser));
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+            candidates.put(id, new ScreenedCandidate(updatedAt, screenedAt, lists));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } finally {
+      parser.close();
+    }
+
+    latestLists = latest < 0 ? null : indexed.get(latest);
+  }
+
+  private List<String> canonical(String[] searchedLists) {
+    String[] sorted = searchedLists.clone();
+    Arrays.sort(sorted);
+    List<String> lists = Arrays.asList(sorted);
+    List<String> existing = listSets.get(lists);
+    if (existing == null) {
+      existing = Collections.unmodifiableList(lists);
+      listSets.put(existing, existing);
+    }
+    return existing;
+  }
+
+  private static long nextLong(JsonParser parser) throws IOException {
+    expect(parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+    return parser.getLongValue();
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+    StoreFiles.expect(actual, expected, "screening state");
+  }
+}
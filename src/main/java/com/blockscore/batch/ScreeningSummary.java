@@ -0,0 +1,144 @@
+package com.blockscore.batch;
+
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.models.WatchlistSearchResults;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregate counts of a {@link WatchlistScreener} run.
+ *
+ * <p>
+ * Only counts and the IDs of flagged or failed candidates are kept, never the hits themselves, so the
+ * summary of a run over the whole candidate book stays small. Use a result handler to act on
+ * individual hits.
+ */
+public class ScreeningSummary {
+  private final double minimumConfidence;
+  private final Map<String, Long> hitsPerWatchlist = new TreeMap<String, Long>();
+  private final List<String> flaggedCandidateIds = new ArrayList<String>();
+  private final List<String> failedCandidateIds = new ArrayList<String>();
+
+  private long screenedCount;
+  private long candidatesWithHits;
+  private long hitCount;
+  private long hitsAboveConfidence;
+
+  ScreeningSummary(double minimumConfidence) {
+    this.minimumConfidence = minimumConfidence;
+  }
+
+  synchronized void add(@NotNull final ScreeningResult result) {
+    WatchlistSearchResults results = result.getResults();
+    if (results == null) {
+      failedCandidateIds.add(result.getCandidateId());
+      return;
+    }
+
+    screenedCount++;
+    List<WatchlistHit> matches = results.getMatches();
+    if (matches == null || matches.isEmpty()) {
+      return;
+    }
+
+    candidatesWithHits++;
+    boolean flagged = false;
+    for (WatchlistHit hit : matches) {
+      hitCount++;
+      String watchlist = hit.getWatchlist();
+      if (watchlist != null) {
+        Long count = hitsPerWatchlist.get(watchlist);
+        hitsPerWatchlist.put(watchlist, count == null ? 1L : count + 1);
+      }
+      if (hit.getConfidence() >= minimumConfidence) {
+        hitsAboveConfidence++;
+        flagged = true;
+      }
+    }
+    if (flagged) {
+      flaggedCandidateIds.add(result.getCandidateId());
+    }
+  }
+
+  /**
+   * Gets the number of candidates screened successfully.
+   *
+   * @return the screened count
+   */
+  public synchronized long getScreenedCount() {
+    return screenedCount;
+  }
+
+  /**
+   * Gets the number of candidates whose search failed.
+   *
+   * @return the failed count
+   */
+  public synchronized long getFailedCount() {
+    return failedCandidateIds.size();
+  }
+
+  /**
+   * Gets the number of candidates with at least one hit.
+   *
+   * @return the number of candidates with hits
+   */
+  public synchronized long getCandidatesWithHits() {
+    return candidatesWithHits;
+  }
+
+  /**
+   * Gets the total number of hits across all candidates.
+   *
+   * @return the hit count
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of hits whose confidence is at or above the run's minimum confidence.
+   *
+   * @return the number of confident hits
+   */
+  public synchronized long getHitsAboveConfidence() {
+    return hitsAboveConfidence;
+  }
+
+  /**
+   * Gets the number of hits on each watchlist, ordered by watchlist name.
+   *
+   * @return the hit count per watchlist
+   */
+  @NotNull
+  public synchronized Map<String, Long> getHitsPerWatchlist() {
+    return Collections.unmodifiableMap(new TreeMap<String, Long>(hitsPerWatchlist));
+  }
+
+  /**
+   * Gets the IDs of the candidates with at least one hit at or above the run's minimum confidence, in
+   * the order they were screened.
+   *
+   * @return the flagged candidate IDs
+   */
+  @NotNull
+  public synchronized List<String> getFlaggedCandidateIds() {
+    return Collections.unmodifiableList(new ArrayList<String>(flaggedCandidateIds));
+  }
+
+  /**
+   * Gets the IDs of the candidates whose search failed, in the order they were screened.
+   *
+   * @return the failed candidate IDs
+   */
+  @NotNull
+  public synchronized List<String> getFailedCandidateIds() {
+    return Collections.unmodifiableList(new ArrayList<String>(failedCandidateIds));
+  }
+}
@@ -0,0 +1,64 @@
+package com.blockscore.batch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File handling shared by the local stores of the batch package.
+ */
+final class StoreFiles {
+  static final JsonFactory JSON = new JsonFactory();
+
+  /**
+   * Writes the content of a store to a file.
+   */
+  interface ContentWriter {
+    void write(@NotNull File target) throws IOException;
+  }
+
+  private StoreFiles() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Replaces a file atomically, so a crash while writing leaves the previous content intact. The content
+   * is written to a temporary file in the same directory, which is then moved over the file.
+   *
+   * @param file  the file to replace
+   * @param writer  writes the new content
+   * @throws IOException if the file cannot be written
+   */
+  static void replace(@NotNull File file, @NotNull ContentWriter writer) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    File temp = File.createTempFile(file.getName(), ".tmp", parent);
+    try {
+      writer.write(temp);
+      Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      if (temp.exists() && !temp.delete()) {
+        temp.deleteOnExit();
+      }
+    }
+  }
+
+  /**
+   * Checks the next token of a store file.
+   *
+   * @param actual  the token read
+   * @param expected  the token the format requires
+   * @param description  what the file holds, for the error message
+   * @throws IOException if the tokens differ
+   */
+  static void expect(JsonToken actual, JsonToken expected, String description) throws IOException {
+    if (actual != expected) {
+      throw new IOException("Malformed " + description + ": expected " + expected + " but found " + actual);
+    }
+  }
+}
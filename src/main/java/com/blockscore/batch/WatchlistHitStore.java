@@ -0,0 +1,286 @@
+package com.blockscore.batch;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.models.WatchlistSearchResults;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers, in a local file, every watchlist hit seen for each candidate, so that a rescreening can
+ * be reduced to the hits that are new, gone, or changed in confidence.
+ *
+ * <p>
+ * Hits are identified by a fingerprint of their watchlist, full name, date of birth and matching info,
+ * which stays the same across searches. Only the fingerprint, watchlist, name, confidence and time first
+ * seen are kept, not the whole hit. The file is replaced atomically by {@link #save()}. Candidates are
+ * kept until they are pruned with {@link #retainAll(Set)}.
+ */
+public class WatchlistHitStore {
+  private static final int FORMAT_VERSION = 1;
+
+  private final File file;
+  private final Map<String, Map<String, RecordedHit>> candidates = new HashMap<String, Map<String, RecordedHit>>();
+  private final Map<String, String> watchlists = new HashMap<String, String>();
+
+  private WatchlistHitStore(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens a store, loading its hits if the file exists.
+   *
+   * @param file  the file holding the hits
+   * @return the store
+   * @throws IOException if the file cannot be read
+   */
+  @NotNull
+  public static WatchlistHitStore open(@NotNull final File file) throws IOException {
+    WatchlistHitStore store = new WatchlistHitStore(file);
+    if (file.exists()) {
+      store.load();
+    }
+    return store;
+  }
+
+  /**
+   * Gets the hits recorded for a candidate.
+   *
+   * @param candidateId  the candidate ID
+   * @return the recorded hits, empty if none were recorded
+   */
+  @NotNull
+  public synchronized List<RecordedHit> get(@NotNull final String candidateId) {
+    Map<String, RecordedHit> hits = candidates.get(candidateId);
+    if (hits == null) {
+      return Collections.emptyList();
+    }
+    return new ArrayList<RecordedHit>(hits.values());
+  }
+
+  /**
+   * Records the latest hits of a candidate, replacing those previously recorded.
+   *
+   * @param candidateId  the candidate ID
+   * @param hits  every hit returned by the latest search for the candidate
+   * @return the difference with the previously recorded hits
+   */
+  @NotNull
+  public synchronized HitDelta record(@NotNull final String candidateId, @NotNull final List<WatchlistHit> hits) {
+    Map<String, RecordedHit> previous = candidates.get(candidateId);
+    if (previous == null) {
+      previous = Collections.emptyMap();
+    }
+
+    long now = System.currentTimeMillis();
+    Map<String, RecordedHit> latest = new LinkedHashMap<String, RecordedHit>();
+    List<WatchlistHit> newHits = new ArrayList<WatchlistHit>();
+    List<ConfidenceChange> confidenceChanges = new ArrayList<ConfidenceChange>();
+
+    for (WatchlistHit hit : hits) {
+      String fingerprint = HitFingerprints.of(hit);
+      if (latest.containsKey(fingerprint)) {
+        continue;
+      }
+
+      RecordedHit known = previous.get(fingerprint);
+      if (known == null) {
+        newHits.add(hit);
+      } else if (known.getConfidence() != hit.getConfidence()) {
+        confidenceChanges.add(new ConfidenceChange(hit, known.getConfidence()));
+      }
+      long firstSeen = known == null ? now : known.getFirstSeenMillis();
+      latest.put(fingerprint, new RecordedHit(fingerprint, watchlist(hit.getWatchlist()), hit.getName(),
+                                              hit.getConfidence(), firstSeen));
+    }
+
+    List<RecordedHit> removedHits = new ArrayList<RecordedHit>();
+    for (RecordedHit known : previous.values()) {
+      if (!latest.containsKey(known.getFingerprint())) {
+        removedHits.add(known);
+      }
+    }
+
+    if (latest.isEmpty()) {
+      candidates.remove(candidateId);
+    } else {
+      candidates.put(candidateId, latest);
+    }
+    return new HitDelta(candidateId, newHits, removedHits, confidenceChanges);
+  }
+
+  /**
+   * Gets the IDs of the candidates in the store.
+   *
+   * @return a snapshot of the candidate IDs
+   */
+  synchronized Set<String> getCandidateIds() {
+    return new HashSet<String>(candidates.keySet());
+  }
+
+  /**
+   * Forgets the hits of every candidate not in the given set, for example candidates that were deleted.
+   * A {@link RescreeningScheduler} given this store prunes it on every run.
+   *
+   * @param candidateIds  the IDs of the candidates to keep
+   * @return the number of candidates forgotten
+   */
+  public synchronized int retainAll(@NotNull final Set<String> candidateIds) {
+    int removed = 0;
+    for (Iterator<String> ids = candidates.keySet().iterator(); ids.hasNext();) {
+      if (!candidateIds.contains(ids.next())) {
+        ids.remove();
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Creates a result handler for a {@link WatchlistScreener} or {@link RescreeningScheduler} run that
+   * records the hits of every successful search and passes on the deltas that are not empty.
+   *
+   * @param deltaHandler  receives the non-empty deltas
+   * @return the result handler
+   */
+  @NotNull
+  public RecordHandler<ScreeningResult> deltaHandler(@NotNull final RecordHandler<HitDelta> deltaHandler) {
+    return new RecordHandler<ScreeningResult>() {
+      @Override
+      public void handle(ScreeningResult result) {
+        WatchlistSearchResults results = result.getResults();
+        if (results == null) {
+          return;
+        }
+        List<WatchlistHit> matches = results.getMatches();
+        HitDelta delta = record(result.getCandidateId(),
+                                matches == null ? Collections.<WatchlistHit>emptyList() : matches);
+        if (!delta.isEmpty()) {
+          deltaHandler.handle(delta);
+        }
+      }
+    };
+  }
+
+  /**
+   * Writes the hits to the store's file.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void save() throws IOException {
+    StoreFiles.replace(file, new StoreFiles.ContentWriter() {
+      @Override
+      public void write(@NotNull File target) throws IOException {
+        writeTo(target);
+      }
+    });
+  }
+
+  private void writeTo(File target) throws IOException {
+    JsonGenerator generator = StoreFiles.JSON.createGenerator(target, JsonEncoding.UTF8);
+    try {
+      generator.writeStartObject();
+      generator.writeNumberField("version", FORMAT_VERSION);
+      generator.writeObjectFieldStart("candidates");
+      for (Map.Entry<String, Map<String, RecordedHit>> entry : candidates.entrySet()) {
+        generator.writeArrayFieldStart(entry.getKey());
+        for (RecordedHit hit : entry.getValue().values()) {
+          generator.writeStartArray();
+          generator.writeString(hit.getFingerprint());
+          generator.writeString(hit.getWatchlist());
+          generator.writeString(hit.getName());
+          generator.writeNumber(hit.getConfidence());
+          generator.writeNumber(hit.getFirstSeenMillis());
+          generator.writeEndArray();
+        }
+        generator.writeEndArray();
+      }
+      generator.writeEndObject();
+      generator.writeEndObject();
+    } finally {
+      generator.close();
+    }
+  }
+
+  private void load() throws IOException {
+    JsonParser parser = StoreFiles.JSON.createParser(file);
+    try {
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if ("version".equals(field)) {
+          if (parser.getIntValue() != FORMAT_VERSION) {
+            throw new IOException("Unsupported watchlist hit store version " + parser.getIntValue());
+          }
+        } else if ("candidates".equals(field)) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String candidateId = parser.getCurrentName();
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+            Map<String, RecordedHit> hits = new LinkedHashMap<String, RecordedHit>();
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+              RecordedHit hit = readHit(parser);
+              hits.put(hit.getFingerprint(), hit);
+            }
+            candidates.put(candidateId, hits);
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } finally {
+      parser.close();
+    }
+  }
+
+  private RecordedHit readHit(JsonParser parser) throws IOException {
+    String fingerprint = nextString(parser);
+    String watchlist = watchlist(nextString(parser));
+    String name = nextString(parser);
+    parser.nextToken();
+    double confidence = parser.getDoubleValue();
+    parser.nextToken();
+    long firstSeen = parser.getLongValue();
+    expect(parser.nextToken(), JsonToken.END_ARRAY);
+    return new RecordedHit(fingerprint, watchlist, name, confidence, firstSeen);
+  }
+
+  /**
+   * Shares one copy of each watchlist name, since a handful of watchlists account for every hit.
+   */
+  private String watchlist(String name) {
+    String shared = watchlists.get(name);
+    if (shared == null) {
+      watchlists.put(name, name);
+      shared = name;
+    }
+    return shared;
+  }
+
+  @Nullable
+  private static String nextString(JsonParser parser) throws IOException {
+    return parser.nextToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+    StoreFiles.expect(actual, expected, "watchlist hit store");
+  }
+}
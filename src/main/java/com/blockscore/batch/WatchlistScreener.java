@@ -0,0 +1,134 @@
+package com.blockscore.batch;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.WatchlistSearchResults;
+import com.blockscore.net.BlockscoreApiClient;
+import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.RateLimiter;
+import com.blockscore.net.Throttling;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Screens many candidates against the watchlists, for example to rescreen the whole candidate book.
+ *
+ * <p>
+ * Every candidate is searched with the same {@link ScreeningOptions}. Searches run on a fixed number of
+ * worker threads, optionally throttled by the options' rate limiter, and the candidate IDs are consumed
+ * only as fast as the workers complete, so the input may be a lazily produced stream of any length. A
+ * failed search is recorded in the summary and never aborts the run, but an exception thrown by the
+ * result handler or the progress listener does.
+ */
+public class WatchlistScreener {
+  private final BlockscoreRestAdapter restAdapter;
+  private final ScreeningOptions options;
+  private final int concurrency;
+
+  /**
+   * Creates a screener.
+   *
+   * @param client  the client used to search the watchlists
+   * @param options  the settings shared by every search
+   * @param concurrency  the maximum number of searches in flight at once
+   */
+  public WatchlistScreener(@NotNull final BlockscoreApiClient client,
+                           @NotNull final ScreeningOptions options,
+                           final int concurrency) {
+    this(client.getAdapter(), options, concurrency);
+  }
+
+  WatchlistScreener(BlockscoreRestAdapter restAdapter, ScreeningOptions options, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be at least 1");
+    }
+    this.restAdapter = restAdapter;
+    this.options = options;
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Screens every candidate.
+   *
+   * @param candidateIds  the IDs of the candidates to screen, consumed lazily
+   * @return the summary of the run
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  @NotNull
+  public ScreeningSummary screen(@NotNull final Iterable<String> candidateIds) throws InterruptedException {
+    return screen(candidateIds, null, null);
+  }
+
+  /**
+   * Screens every candidate, reporting each result and the progress of the run.
+   *
+   * @param candidateIds  the IDs of the candidates to screen, consumed lazily
+   * @param resultHandler  receives one result per candidate, never invoked concurrently, or null
+   * @param progressListener  notified after each candidate, never invoked concurrently, or null
+   * @return the summary of the run
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a free worker
+   */
+  @NotNull
+  public ScreeningSummary screen(@NotNull final Iterable<String> candidateIds,
+                                 @Nullable final RecordHandler<ScreeningResult> resultHandler,
+                                 @Nullable final ScreeningProgressListener progressListener)
+      throws InterruptedException {
+    final ScreeningSummary summary = new ScreeningSummary(options.getMinimumConfidence());
+    final Map<String, String> sharedOptions = options.toQueryOptions();
+    final RateLimiter rateLimiter = options.getRateLimiter();
+
+    new BoundedWorkers<String, ScreeningResult>(concurrency) {
+      @Override
+      void beforeEach() throws InterruptedException {
+        if (rateLimiter != null) {
+          rateLimiter.acquire();
+        }
+      }
+
+      @NotNull
+      @Override
+      ScreeningResult process(long index, @NotNull String candidateId) {
+        return search(index, candidateId, sharedOptions, rateLimiter);
+      }
+
+      @Override
+      void handle(@NotNull ScreeningResult result) {
+        summary.add(result);
+        if (resultHandler != null) {
+          resultHandler.handle(result);
+        }
+        if (progressListener != null) {
+          progressListener.onProgress(summary.getScreenedCount(), summary.getFailedCount());
+        }
+      }
+    }.run(candidateIds.iterator());
+
+    return summary;
+  }
+
+  @NotNull
+  private ScreeningResult search(long index, @NotNull String candidateId, @NotNull Map<String, String> sharedOptions,
+                                 @Nullable RateLimiter rateLimiter) {
+    Map<String, String> queryOptions = new HashMap<String, String>(sharedOptions);
+    queryOptions.put("candidate_id", candidateId);
+
+    try {
+      WatchlistSearchResults results = restAdapter.searchWatchlists(queryOptions);
+      if (rateLimiter != null) {
+        rateLimiter.onAccepted();
+      }
+      return new ScreeningResult(index, candidateId, results, null);
+    } catch (RuntimeException e) {
+      if (rateLimiter != null) {
+        long retryAfterMillis = Throttling.retryAfterMillis(e);
+        if (retryAfterMillis != Throttling.NOT_THROTTLED) {
+          rateLimiter.onThrottled(retryAfterMillis);
+        }
+      }
+      return new ScreeningResult(index, candidateId, null, e);
+    }
+  }
+}
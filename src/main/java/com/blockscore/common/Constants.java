@@ -8,11 +8,12 @@ import org.jetbrains.annotations.NotNull;
 public final class Constants {
   public static final String AUTHORIZATION_HEADER = "Authorization";
   public static final String ACCEPT_HEADER = "Accept";
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
   public static final String BLOCKSCORE_DOMAIN = "https://api.blockscore.com";
   public static final String USER_AGENT = "blockscore-java/4.0.2 (https://github.com/BlockScore/blockscore-java)";
 
   private static final String VERSION_CODE = "4";
-  private static final String ACCEPT_CONTENTS = "application/vnd.blockscore+json;version=%s";
+  private static final String ACCEPT_CONTENTS = "application/vnd.blockscore+json;version=" + VERSION_CODE;
 
   private Constants() {
     //Prevents user from initializing the static class
@@ -24,6 +25,6 @@ public final class Constants {
    */
   @NotNull
   public static String getAcceptHeaders() {
-    return String.format(ACCEPT_CONTENTS, VERSION_CODE);
+    return ACCEPT_CONTENTS;
   }
 }
@@ -0,0 +1,13 @@
+package com.blockscore.common;
+
+/**
+ * Receives records one at a time from a bulk operation.
+ */
+public interface RecordHandler<T> {
+  /**
+   * Handles a single record. Exceptions thrown here abort the operation that produced the record.
+   *
+   * @param record  the record
+   */
+  void handle(T record);
+}
@@ -0,0 +1,24 @@
+package com.blockscore.exceptions;
+
+/**
+ * Exception thrown instead of sending a request while the circuit breaker guarding the Blockscore API
+ * is open.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+  private final long remainingOpenMillis;
+  private static final long serialVersionUID = 0L;
+
+  public CircuitBreakerOpenException(final long remainingOpenMillis) {
+    super("The Blockscore API is unavailable, requests are suspended for another " + remainingOpenMillis + "ms.");
+    this.remainingOpenMillis = remainingOpenMillis;
+  }
+
+  /**
+   * Gets the time left until the circuit breaker lets a probe request through.
+   *
+   * @return the remaining time in milliseconds
+   */
+  public long getRemainingOpenMillis() {
+    return remainingOpenMillis;
+  }
+}
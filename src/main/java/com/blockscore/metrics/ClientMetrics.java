@@ -0,0 +1,35 @@
+package com.blockscore.metrics;
+
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives a measurement for every request an API client sends.
+ *
+ * <p>
+ * Routes name the API operation rather than the concrete URL, for example {@code "GET /people/{id}"}.
+ * Implementations are called on the requesting thread and must be thread safe and fast.
+ */
+public interface ClientMetrics {
+  /**
+   * Called when a request is about to be sent.
+   *
+   * @param route  the route of the request
+   */
+  void onRequestStarted(@NotNull String route);
+
+  /**
+   * Called when a request has completed, successfully or not.
+   *
+   * @param route  the route of the request
+   * @param status  the HTTP status code, or 0 if no response was received
+   * @param errorType  the kind of error, or null if the request succeeded
+   * @param latencyNanos  the time taken, in nanoseconds
+   * @param bytesSent  the size of the request body
+   * @param bytesReceived  the size of the response body, or 0 if unknown
+   */
+  void onRequestCompleted(@NotNull String route, int status, @Nullable BlockscoreErrorType errorType,
+                          long latencyNanos, long bytesSent, long bytesReceived);
+}
@@ -0,0 +1,63 @@
+package com.blockscore.metrics;
+
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps per-route measurements in memory, for inspection or periodic export.
+ */
+public class InMemoryClientMetrics implements ClientMetrics {
+  private final ConcurrentMap<String, RouteMetrics> routes = new ConcurrentHashMap<String, RouteMetrics>();
+
+  @Override
+  public void onRequestStarted(@NotNull String route) {
+    routeMetrics(route).onStarted();
+  }
+
+  @Override
+  public void onRequestCompleted(@NotNull String route, int status, @Nullable BlockscoreErrorType errorType,
+                                 long latencyNanos, long bytesSent, long bytesReceived) {
+    routeMetrics(route).onCompleted(errorType, latencyNanos, bytesSent, bytesReceived);
+  }
+
+  /**
+   * Gets the measurements of one route.
+   *
+   * @param route  the route, for example {@code "GET /people/{id}"}
+   * @return the route's measurements, or null if no request was sent to it
+   */
+  @Nullable
+  public RouteMetrics getRoute(@NotNull final String route) {
+    return routes.get(route);
+  }
+
+  /**
+   * Gets the measurements of every route a request was sent to.
+   *
+   * @return the measurements
+   */
+  @NotNull
+  public Collection<RouteMetrics> getRoutes() {
+    return Collections.unmodifiableCollection(new ArrayList<RouteMetrics>(routes.values()));
+  }
+
+  private RouteMetrics routeMetrics(String route) {
+    RouteMetrics metrics = routes.get(route);
+    if (metrics == null) {
+      RouteMetrics created = new RouteMetrics(route);
+      metrics = routes.putIfAbsent(route, created);
+      if (metrics == null) {
+        metrics = created;
+      }
+    }
+    return metrics;
+  }
+}
@@ -0,0 +1,28 @@
+package com.blockscore.metrics;
+
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metrics that discard every measurement. API clients using them are not instrumented at all.
+ */
+public final class NoopClientMetrics implements ClientMetrics {
+  public static final NoopClientMetrics INSTANCE = new NoopClientMetrics();
+
+  private NoopClientMetrics() {
+    // Use the shared instance.
+  }
+
+  @Override
+  public void onRequestStarted(@NotNull String route) {
+    // Discarded.
+  }
+
+  @Override
+  public void onRequestCompleted(@NotNull String route, int status, @Nullable BlockscoreErrorType errorType,
+                                 long latencyNanos, long bytesSent, long bytesReceived) {
+    // Discarded.
+  }
+}
@@ -0,0 +1,113 @@
+package com.blockscore.metrics;
+
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The measurements recorded by {@link InMemoryClientMetrics} for one route.
+ */
+public class RouteMetrics {
+  private final String route;
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong successCount = new AtomicLong();
+  private final Map<BlockscoreErrorType, AtomicLong> errorCounts =
+      new EnumMap<BlockscoreErrorType, AtomicLong>(BlockscoreErrorType.class);
+  private final AtomicLong bytesSent = new AtomicLong();
+  private final AtomicLong bytesReceived = new AtomicLong();
+
+  RouteMetrics(String route) {
+    this.route = route;
+    for (BlockscoreErrorType type : BlockscoreErrorType.values()) {
+      errorCounts.put(type, new AtomicLong());
+    }
+  }
+
+  void onStarted() {
+    inFlight.incrementAndGet();
+  }
+
+  void onCompleted(BlockscoreErrorType errorType, long latencyNanos, long sent, long received) {
+    inFlight.decrementAndGet();
+    latency.record(latencyNanos);
+    if (errorType == null) {
+      successCount.incrementAndGet();
+    } else {
+      errorCounts.get(errorType).incrementAndGet();
+    }
+    bytesSent.addAndGet(sent);
+    bytesReceived.addAndGet(received);
+  }
+
+  /**
+   * Gets the route these measurements belong to.
+   *
+   * @return the route
+   */
+  @NotNull
+  public String getRoute() {
+    return route;
+  }
+
+  /**
+   * Gets the latency distribution of completed requests.
+   *
+   * @return the latency histogram
+   */
+  @NotNull
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  /**
+   * Gets the number of requests currently in flight.
+   *
+   * @return the in-flight count
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Gets the number of requests that succeeded.
+   *
+   * @return the success count
+   */
+  public long getSuccessCount() {
+    return successCount.get();
+  }
+
+  /**
+   * Gets the number of requests that failed with the given kind of error.
+   *
+   * @param errorType  the kind of error
+   * @return the error count
+   */
+  public long getErrorCount(@NotNull final BlockscoreErrorType errorType) {
+    return errorCounts.get(errorType).get();
+  }
+
+  /**
+   * Gets the total size of the request bodies sent.
+   *
+   * @return the byte count
+   */
+  public long getBytesSent() {
+    return bytesSent.get();
+  }
+
+  /**
+   * Gets the total size of the response bodies received.
+   *
+   * @return the byte count
+   */
+  public long getBytesReceived() {
+    return bytesReceived.get();
+  }
+}
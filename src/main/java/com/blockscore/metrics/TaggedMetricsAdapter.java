@@ -0,0 +1,86 @@
+package com.blockscore.metrics;
+
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bridges client measurements to a metrics library with named, tagged meters, such as Micrometer,
+ * Dropwizard Metrics or a Prometheus client.
+ *
+ * <p>
+ * Subclasses implement three primitives on top of their library. The meters reported are:
+ * <ul>
+ *   <li>{@value #REQUESTS}, a timer tagged with {@code route}, {@code status} and {@code outcome}</li>
+ *   <li>{@value #ERRORS}, a counter tagged with {@code route} and {@code type}</li>
+ *   <li>{@value #BYTES_SENT} and {@value #BYTES_RECEIVED}, counters tagged with {@code route}</li>
+ *   <li>{@value #IN_FLIGHT}, a gauge tagged with {@code route}</li>
+ * </ul>
+ */
+public abstract class TaggedMetricsAdapter implements ClientMetrics {
+  public static final String REQUESTS = "blockscore.client.requests";
+  public static final String ERRORS = "blockscore.client.errors";
+  public static final String BYTES_SENT = "blockscore.client.bytes.sent";
+  public static final String BYTES_RECEIVED = "blockscore.client.bytes.received";
+  public static final String IN_FLIGHT = "blockscore.client.in_flight";
+
+  /**
+   * Adds to a counter.
+   *
+   * @param name  the meter name
+   * @param tags  the meter tags
+   * @param amount  the amount to add
+   */
+  protected abstract void incrementCounter(@NotNull String name, @NotNull Map<String, String> tags, long amount);
+
+  /**
+   * Records a duration in a timer.
+   *
+   * @param name  the meter name
+   * @param tags  the meter tags
+   * @param nanos  the duration in nanoseconds
+   */
+  protected abstract void recordTimer(@NotNull String name, @NotNull Map<String, String> tags, long nanos);
+
+  /**
+   * Moves a gauge up or down.
+   *
+   * @param name  the meter name
+   * @param tags  the meter tags
+   * @param delta  the change
+   */
+  protected abstract void adjustGauge(@NotNull String name, @NotNull Map<String, String> tags, long delta);
+
+  @Override
+  public void onRequestStarted(@NotNull String route) {
+    adjustGauge(IN_FLIGHT, Collections.singletonMap("route", route), 1);
+  }
+
+  @Override
+  public void onRequestCompleted(@NotNull String route, int status, @Nullable BlockscoreErrorType errorType,
+                                 long latencyNanos, long bytesSent, long bytesReceived) {
+    Map<String, String> routeTags = Collections.singletonMap("route", route);
+    adjustGauge(IN_FLIGHT, routeTags, -1);
+
+    Map<String, String> requestTags = new HashMap<String, String>(4);
+    requestTags.put("route", route);
+    requestTags.put("status", String.valueOf(status));
+    requestTags.put("outcome", errorType == null ? "success" : "error");
+    recordTimer(REQUESTS, requestTags, latencyNanos);
+
+    if (errorType != null) {
+      Map<String, String> errorTags = new HashMap<String, String>(4);
+      errorTags.put("route", route);
+      errorTags.put("type", errorType.toString());
+      incrementCounter(ERRORS, errorTags, 1);
+    }
+
+    incrementCounter(BYTES_SENT, routeTags, bytesSent);
+    incrementCounter(BYTES_RECEIVED, routeTags, bytesReceived);
+  }
+}
@@ -3,6 +3,7 @@ package com.blockscore.models;
 import com.blockscore.models.base.BasicResponse;
 import com.blockscore.net.BlockscoreApiClient;
 import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.IdempotencyKeyTable;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -14,6 +15,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * The candidate model.
@@ -78,13 +80,61 @@ public class Candidate extends BasicResponse {
     // Restricts access to end user so they must use a Candidate.Builder to create a Person
   }
 
+  /**
+   * Copies another candidate.
+   *
+   * @param other  the candidate to copy
+   */
+  protected Candidate(@NotNull final Candidate other) {
+    super(other);
+    this.restAdapter = other.restAdapter;
+    this.firstName = other.firstName;
+    this.middleName = other.middleName;
+    this.lastName = other.lastName;
+    this.note = other.note;
+    this.socialSecurityNumber = other.socialSecurityNumber;
+    this.passport = other.passport;
+    this.dateOfBirth = other.dateOfBirth == null ? null : new Date(other.dateOfBirth.getTime());
+    this.addressStreet1 = other.addressStreet1;
+    this.addressStreet2 = other.addressStreet2;
+    this.addressCity = other.addressCity;
+    this.addressSubdivision = other.addressSubdivision;
+    this.addressPostalCode = other.addressPostalCode;
+    this.addressCountryCode = other.addressCountryCode;
+  }
+
+  /**
+   * Creates a copy of this candidate that can be edited without affecting this one.
+   *
+   * @return the copy
+   */
+  @NotNull
+  public Candidate copy() {
+    return new Candidate(this);
+  }
+
   /**
    * Updates this candidate.
    *
    * @return this
    */
   public Candidate save() {
-    restAdapter.updateCandidate(getId(), this);
+    return save(restAdapter);
+  }
+
+  /**
+   * Updates this candidate through another client than the one it was loaded with, for example the
+   * client behind a {@link com.blockscore.net.BlockscoreAsyncClient}.
+   *
+   * @param client  the client to update the candidate with
+   * @return this
+   */
+  public Candidate save(@NotNull final BlockscoreApiClient client) {
+    return save(client.getAdapter());
+  }
+
+  private Candidate save(BlockscoreRestAdapter adapter) {
+    adapter.updateCandidate(getId(), this);
     return this;
   }
 
@@ -95,6 +145,15 @@ public class Candidate extends BasicResponse {
     restAdapter.deleteCandidate(getId());
   }
 
+  /**
+   * Deletes this candidate through another client than the one it was loaded with.
+   *
+   * @param client  the client to delete the candidate with
+   */
+  public void delete(@NotNull final BlockscoreApiClient client) {
+    client.getAdapter().deleteCandidate(getId());
+  }
+
   /**
    * Returns a complete revision history of a candidate's edits. This allows you to maintain a full
    * audit trail of when and how you update a client's profile over time. The latest revision is
@@ -102,10 +161,25 @@ public class Candidate extends BasicResponse {
    * @return the list of candidates
    */
   public List<Candidate> getRevisionHistory() {
-    List<Candidate> candidates = restAdapter.getCandidateHistory(getId());
+    return getRevisionHistory(restAdapter);
+  }
+
+  /**
+   * Returns the revision history of this candidate, fetched through another client than the one it was
+   * loaded with. The revisions are bound to that client.
+   *
+   * @param client  the client to fetch the history with
+   * @return the list of candidates
+   */
+  public List<Candidate> getRevisionHistory(@NotNull final BlockscoreApiClient client) {
+    return getRevisionHistory(client.getAdapter());
+  }
+
+  private List<Candidate> getRevisionHistory(BlockscoreRestAdapter adapter) {
+    List<Candidate> candidates = adapter.getCandidateHistory(getId());
 
     for (Candidate candidate : candidates) {
-      candidate.setAdapter(restAdapter);
+      candidate.setAdapter(adapter);
     }
 
     return Collections.unmodifiableList(candidates);
@@ -119,6 +193,44 @@ public class Candidate extends BasicResponse {
     return restAdapter.getCandidateHits(getId());
   }
 
+  /**
+   * Retrieve all historical watchlist hits for this candidate through another client than the one it
+   * was loaded with.
+   *
+   * @param client  the client to retrieve the hits with
+   * @return the paginated historical watchlist hits
+   */
+  public PaginatedResult<WatchlistHit> getPastHits(@NotNull final BlockscoreApiClient client) {
+    return client.getAdapter().getCandidateHits(getId());
+  }
+
+  /**
+   * Retrieve a single page of historical watchlist hits for this candidate.
+   *
+   * @param offset  the number of hits to skip
+   * @param limit  the maximum number of hits to return
+   * @return the paginated historical watchlist hits
+   */
+  public PaginatedResult<WatchlistHit> getPastHits(int offset, int limit) {
+    return restAdapter.getCandidateHits(getId(), offset, limit);
+  }
+
+  /**
+   * Iterates over all historical watchlist hits for this candidate, fetching pages as needed.
+   *
+   * @param pageSize  the number of hits requested per page
+   * @return the lazily fetched historical watchlist hits
+   */
+  public PaginatedIterable<WatchlistHit> iteratePastHits(int pageSize) {
+    return new PaginatedIterable<WatchlistHit>(new PaginatedIterable.PageFetcher<WatchlistHit>() {
+      @NotNull
+      @Override
+      public PaginatedResult<WatchlistHit> fetchPage(int offset, int limit) {
+        return getPastHits(offset, limit);
+      }
+    }, pageSize);
+  }
+
   /**
    * Performs a watchlist search for this candidate with default search options.
    * Results may be of entities or individuals.
@@ -159,6 +271,24 @@ public class Candidate extends BasicResponse {
    * @return the paginated watchlist hit results
    */
   public PaginatedResult<WatchlistHit> searchWatchlists(EntityType entityType, Double similarityThreshold) {
+    return searchWatchlists(entityType, similarityThreshold, restAdapter);
+  }
+
+  /**
+   * Performs a watchlist search for this candidate through another client than the one it was loaded with.
+   *
+   * @param entityType  the type of entity
+   * @param similarityThreshold  the accepted threshold of similarity
+   * @param client  the client to search with
+   * @return the paginated watchlist hit results
+   */
+  public PaginatedResult<WatchlistHit> searchWatchlists(EntityType entityType, Double similarityThreshold,
+                                                        @NotNull final BlockscoreApiClient client) {
+    return searchWatchlists(entityType, similarityThreshold, client.getAdapter());
+  }
+
+  private PaginatedResult<WatchlistHit> searchWatchlists(EntityType entityType, Double similarityThreshold,
+                                                         BlockscoreRestAdapter adapter) {
     Map<String, String> queryOptions = new HashMap<String, String>();
     queryOptions.put("candidate_id", getId());
 
@@ -170,7 +300,7 @@ public class Candidate extends BasicResponse {
       queryOptions.put("similarity_threshold", String.valueOf(similarityThreshold));
     }
 
-    WatchlistSearchResults results = restAdapter.searchWatchlists(queryOptions);
+    WatchlistSearchResults results = adapter.searchWatchlists(queryOptions);
 
     //wrap the result's data with PaginatedResult to make v5.0 transition simpler
     return new PaginatedResult<WatchlistHit>(results.getMatches(), results.getCount(), false);
@@ -384,11 +514,15 @@ public class Candidate extends BasicResponse {
    */
   public static class Builder {
     private BlockscoreRestAdapter restAdapter;
+    private IdempotencyKeyTable idempotencyKeys;
     private Candidate candidate;
+    private volatile String idempotencyKey;
 
     public Builder(BlockscoreApiClient client) {
       this.restAdapter = client.getAdapter();
+      this.idempotencyKeys = client.getIdempotencyKeyTable();
       candidate = new Candidate();
+      idempotencyKey = IdempotencyKeyTable.generateKey();
     }
 
      /**
@@ -488,14 +622,67 @@ public class Candidate extends BasicResponse {
     }
 
     /**
-     * Creates a new {@link Candidate}.
+     * Builds the {@link Candidate} without creating it, for example to submit it through a
+     * {@link com.blockscore.batch.CandidateBulkLoader}. Every call returns a new candidate, so changing
+     * the builder afterwards does not affect the candidates it already built.
+     *
+     * @return the unsaved candidate
+     */
+    public Candidate build() {
+      Candidate built = candidate.copy();
+      built.setAdapter(restAdapter);
+      return built;
+    }
+
+    /**
+     * Sets the idempotency key sent with the creation request. A random key is generated for every
+     * builder, so this is only needed to de-duplicate creations across builders or processes. The key
+     * is used until a creation succeeds.
+     *
+     * @param idempotencyKey  the idempotency key
+     * @return this
+     */
+    @NotNull
+    public Builder setIdempotencyKey(@NotNull final String idempotencyKey) {
+      this.idempotencyKey = idempotencyKey;
+      return this;
+    }
+
+    /**
+     * Creates a new {@link Candidate}. The request carries this builder's idempotency key, so calling
+     * this again after a failure, for example a timeout, returns the same candidate instead of creating
+     * another. Once a creation succeeds the builder switches to a new key, so calling this again after
+     * changing the builder creates another candidate.
      *
      * @return this
      */
     public Candidate create() {
-      candidate = restAdapter.createCandidate(candidate);
-      candidate.setAdapter(restAdapter);
-      return candidate;
+      return create(restAdapter, idempotencyKeys);
+    }
+
+    /**
+     * Creates a new {@link Candidate} through another client than the one this builder was created
+     * with, for example the client behind a {@link com.blockscore.net.BlockscoreAsyncClient}.
+     *
+     * @param client  the client to create the candidate with
+     * @return the new candidate
+     */
+    public Candidate create(@NotNull final BlockscoreApiClient client) {
+      return create(client.getAdapter(), client.getIdempotencyKeyTable());
+    }
+
+    private Candidate create(final BlockscoreRestAdapter adapter, IdempotencyKeyTable keys) {
+      final String key = idempotencyKey;
+      final Candidate unsaved = candidate.copy();
+      Candidate created = keys.execute(key, new Callable<Candidate>() {
+        @Override
+        public Candidate call() {
+          return adapter.createCandidate(key, unsaved);
+        }
+      });
+      idempotencyKey = IdempotencyKeyTable.generateKey();
+      created.setAdapter(adapter);
+      return created;
     }
   }
 }
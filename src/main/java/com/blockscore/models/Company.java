@@ -3,6 +3,7 @@ package com.blockscore.models;
 import com.blockscore.models.base.BasicResponse;
 import com.blockscore.net.BlockscoreApiClient;
 import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.IdempotencyKeyTable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +14,7 @@ import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * The company model.
@@ -295,11 +297,15 @@ public class Company extends BasicResponse {
    */
   public static class Builder {
     private BlockscoreRestAdapter restAdapter;
+    private IdempotencyKeyTable idempotencyKeys;
     private Map<String, String> queryOptions;
+    private volatile String idempotencyKey;
 
     public Builder(BlockscoreApiClient client) {
       this.restAdapter = client.getAdapter();
+      this.idempotencyKeys = client.getIdempotencyKeyTable();
       queryOptions = new HashMap<String, String>();
+      idempotencyKey = IdempotencyKeyTable.generateKey();
     }
 
     /**
@@ -484,12 +490,51 @@ public class Company extends BasicResponse {
     }
 
     /**
-     * Creates a new {@link Company}.
+     * Sets the idempotency key sent with the creation request. A random key is generated for every
+     * builder, so this is only needed to de-duplicate creations across builders or processes. The key
+     * is used until a creation succeeds.
+     *
+     * @param idempotencyKey  the idempotency key
+     * @return this
+     */
+    @NotNull
+    public Builder setIdempotencyKey(@NotNull final String idempotencyKey) {
+      this.idempotencyKey = idempotencyKey;
+      return this;
+    }
+
+    /**
+     * Creates a new {@link Company}. The request carries this builder's idempotency key, so calling
+     * this again after a failure, for example a timeout, returns the same company instead of creating
+     * another. Once a creation succeeds the builder switches to a new key, so calling this again after
+     * changing the builder creates another company.
      *
      * @return the new company
      */
     public Company create() {
-      Company company = restAdapter.createCompany(queryOptions);
+      return create(restAdapter, idempotencyKeys);
+    }
+
+    /**
+     * Creates a new {@link Company} through another client than the one this builder was created with,
+     * for example the client behind a {@link com.blockscore.net.BlockscoreAsyncClient}.
+     *
+     * @param client  the client to create the company with
+     * @return the new company
+     */
+    public Company create(@NotNull final BlockscoreApiClient client) {
+      return create(client.getAdapter(), client.getIdempotencyKeyTable());
+    }
+
+    private Company create(final BlockscoreRestAdapter adapter, IdempotencyKeyTable keys) {
+      final String key = idempotencyKey;
+      Company company = keys.execute(key, new Callable<Company>() {
+        @Override
+        public Company call() {
+          return adapter.createCompany(key, queryOptions);
+        }
+      });
+      idempotencyKey = IdempotencyKeyTable.generateKey();
       return company;
     }
   }
@@ -0,0 +1,115 @@
+package com.blockscore.models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazily paginated listing. Pages are requested on demand as the consumer iterates, so only as many
+ * pages are fetched as are actually read and at most one page is held in memory at a time.
+ *
+ * <p>
+ * Each call to {@link #iterator()} starts a fresh walk from the first record.
+ */
+public class PaginatedIterable<T> implements Iterable<T> {
+  public static final int DEFAULT_PAGE_SIZE = 25;
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final PageFetcher<T> fetcher;
+  private final int pageSize;
+
+  /**
+   * Fetches a single page of a listing.
+   */
+  public interface PageFetcher<T> {
+    /**
+     * Fetches the page starting at the given offset.
+     *
+     * @param offset  the number of records to skip
+     * @param limit  the maximum number of records to return
+     * @return the page of records
+     */
+    @NotNull
+    PaginatedResult<T> fetchPage(int offset, int limit);
+  }
+
+  /**
+   * Creates a PaginatedIterable.
+   *
+   * @param fetcher  the fetcher used to request pages
+   * @param pageSize  the number of records requested per page
+   */
+  public PaginatedIterable(@NotNull final PageFetcher<T> fetcher, final int pageSize) {
+    if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    this.fetcher = fetcher;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Gets the fetcher used to request pages.
+   *
+   * @return the page fetcher
+   */
+  @NotNull
+  public PageFetcher<T> getFetcher() {
+    return fetcher;
+  }
+
+  /**
+   * Gets the number of records requested per page.
+   *
+   * @return the page size
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  @NotNull
+  @Override
+  public Iterator<T> iterator() {
+    return new PageIterator();
+  }
+
+  private class PageIterator implements Iterator<T> {
+    private List<T> page;
+    private int index;
+    private int offset;
+    private boolean hasMorePages = true;
+
+    @Override
+    public boolean hasNext() {
+      while (page == null || index >= page.size()) {
+        if (!hasMorePages) {
+          return false;
+        }
+        fetchNextPage();
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page.get(index++);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("Records cannot be removed from a listing.");
+    }
+
+    private void fetchNextPage() {
+      PaginatedResult<T> result = fetcher.fetchPage(offset, pageSize);
+      page = result.getData();
+      index = 0;
+      offset += page.size();
+      hasMorePages = result.hasMore() && !page.isEmpty();
+    }
+  }
+}
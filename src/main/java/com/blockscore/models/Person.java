@@ -3,6 +3,7 @@ package com.blockscore.models;
 import com.blockscore.models.base.BasicResponse;
 import com.blockscore.net.BlockscoreApiClient;
 import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.IdempotencyKeyTable;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -16,6 +17,7 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * The person model.
@@ -136,12 +138,29 @@ public class Person extends BasicResponse {
    * @return the new question set
    */
   public QuestionSet createQuestionSet(long timeLimit) {
+    return createQuestionSet(timeLimit, restAdapter);
+  }
+
+  /**
+   * Creates a question set with a set time limit in seconds through another client than the one this
+   * person was loaded with, for example the client behind a {@link com.blockscore.net.BlockscoreAsyncClient}.
+   * The question set is bound to that client.
+   *
+   * @param timeLimit  the time limit
+   * @param client  the client to create the question set with
+   * @return the new question set
+   */
+  public QuestionSet createQuestionSet(long timeLimit, @NotNull final BlockscoreApiClient client) {
+    return createQuestionSet(timeLimit, client.getAdapter());
+  }
+
+  private QuestionSet createQuestionSet(long timeLimit, BlockscoreRestAdapter adapter) {
     Map<String, String> queryOptions = new HashMap<String, String>();
     queryOptions.put("person_id", getId());
     queryOptions.put("time_limit", String.valueOf(timeLimit));
 
-    QuestionSet questionSet = restAdapter.createQuestionSet(queryOptions);
-    questionSet.setAdapter(restAdapter);
+    QuestionSet questionSet = adapter.createQuestionSet(queryOptions);
+    questionSet.setAdapter(adapter);
     return questionSet;
   }
 
@@ -152,8 +171,25 @@ public class Person extends BasicResponse {
    * @return the retrieved question set
    */
   public QuestionSet retrieveQuestionSet(@NotNull final String questionSetId) {
-    QuestionSet questionSet = restAdapter.retrieveQuestionSet(questionSetId);
-    questionSet.setAdapter(restAdapter);
+    return retrieveQuestionSet(questionSetId, restAdapter);
+  }
+
+  /**
+   * Retrieve a question set you have created through another client than the one this person was loaded
+   * with. The question set is bound to that client.
+   *
+   * @param questionSetId  Question set ID
+   * @param client  the client to retrieve the question set with
+   * @return the retrieved question set
+   */
+  public QuestionSet retrieveQuestionSet(@NotNull final String questionSetId,
+                                         @NotNull final BlockscoreApiClient client) {
+    return retrieveQuestionSet(questionSetId, client.getAdapter());
+  }
+
+  private QuestionSet retrieveQuestionSet(String questionSetId, BlockscoreRestAdapter adapter) {
+    QuestionSet questionSet = adapter.retrieveQuestionSet(questionSetId);
+    questionSet.setAdapter(adapter);
     return questionSet;
   }
 
@@ -300,11 +336,15 @@ public class Person extends BasicResponse {
    */
   public static class Builder {
     private BlockscoreRestAdapter restAdapter;
+    private IdempotencyKeyTable idempotencyKeys;
     private Map<String, String> queryOptions;
+    private volatile String idempotencyKey;
 
     public Builder(BlockscoreApiClient client) {
       this.restAdapter = client.getAdapter();
+      this.idempotencyKeys = client.getIdempotencyKeyTable();
       queryOptions = new HashMap<String, String>();
+      idempotencyKey = IdempotencyKeyTable.generateKey();
     }
 
     /**
@@ -451,13 +491,52 @@ public class Person extends BasicResponse {
     }
 
     /**
-     * Creates a new {@link Person}.
+     * Sets the idempotency key sent with the creation request. A random key is generated for every
+     * builder, so this is only needed to de-duplicate creations across builders or processes. The key
+     * is used until a creation succeeds.
+     *
+     * @param idempotencyKey  the idempotency key
+     * @return this
+     */
+    @NotNull
+    public Builder setIdempotencyKey(@NotNull final String idempotencyKey) {
+      this.idempotencyKey = idempotencyKey;
+      return this;
+    }
+
+    /**
+     * Creates a new {@link Person}. The request carries this builder's idempotency key, so calling
+     * this again after a failure, for example a timeout, returns the same person instead of creating
+     * another. Once a creation succeeds the builder switches to a new key, so calling this again after
+     * changing the builder creates another person.
      *
      * @return the new person
      */
     public Person create() {
-      Person person = restAdapter.createPerson(queryOptions);
-      person.setAdapter(restAdapter);
+      return create(restAdapter, idempotencyKeys);
+    }
+
+    /**
+     * Creates a new {@link Person} through another client than the one this builder was created with,
+     * for example the client behind a {@link com.blockscore.net.BlockscoreAsyncClient}.
+     *
+     * @param client  the client to create the person with
+     * @return the new person
+     */
+    public Person create(@NotNull final BlockscoreApiClient client) {
+      return create(client.getAdapter(), client.getIdempotencyKeyTable());
+    }
+
+    private Person create(final BlockscoreRestAdapter adapter, IdempotencyKeyTable keys) {
+      final String key = idempotencyKey;
+      Person person = keys.execute(key, new Callable<Person>() {
+        @Override
+        public Person call() {
+          return adapter.createPerson(key, queryOptions);
+        }
+      });
+      idempotencyKey = IdempotencyKeyTable.generateKey();
+      person.setAdapter(adapter);
       return person;
     }
   }
@@ -1,6 +1,7 @@
 package com.blockscore.models;
 
 import com.blockscore.models.base.BasicResponse;
+import com.blockscore.net.BlockscoreApiClient;
 import com.blockscore.net.BlockscoreRestAdapter;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -39,7 +40,21 @@ public class QuestionSet extends BasicResponse {
    */
   @NotNull
   public void score(@NotNull final AnswerSet answers) {
-    QuestionSet scoredSet = restAdapter.scoreQuestionSet(getId(), answers);
+    score(answers, restAdapter);
+  }
+
+  /**
+   * Scores this question set through another client than the one it was created with.
+   *
+   * @param answers  the answers to the QuestionSet
+   * @param client  the client to score the question set with
+   */
+  public void score(@NotNull final AnswerSet answers, @NotNull final BlockscoreApiClient client) {
+    score(answers, client.getAdapter());
+  }
+
+  private void score(AnswerSet answers, BlockscoreRestAdapter adapter) {
+    QuestionSet scoredSet = adapter.scoreQuestionSet(getId(), answers);
     expired = scoredSet.isExpired();
     score = scoredSet.getScore();
   }
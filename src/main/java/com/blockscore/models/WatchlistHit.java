@@ -13,6 +13,8 @@ import java.util.List;
  * Model representing a watchlist hit.
  */
 public class WatchlistHit {
+  private static final String[] NO_MATCHING_INFO = new String[0];
+
   @NotNull
   @JsonProperty("watchlist_name")
   private String watchlist;
@@ -132,8 +134,8 @@ public class WatchlistHit {
    */
   @NotNull
   public String[] getMatchingInfo() {
-    if (matchingInfo == null) {
-      return new String[0];
+    if (matchingInfo == null || matchingInfo.length == 0) {
+      return NO_MATCHING_INFO;
     }
 
     return Arrays.copyOf(matchingInfo, matchingInfo.length);
@@ -296,4 +298,31 @@ public class WatchlistHit {
   public List<Address> getAddresses() {
     return Collections.unmodifiableList(addresses);
   }
+
+  // Raw field access for WatchlistHitTable, without copies or unmodifiable wrappers
+
+  @Nullable
+  String[] rawMatchingInfo() {
+    return matchingInfo;
+  }
+
+  @Nullable
+  List<NameResult> rawNames() {
+    return names;
+  }
+
+  @Nullable
+  List<BirthRange> rawBirths() {
+    return births;
+  }
+
+  @Nullable
+  List<Document> rawDocuments() {
+    return documents;
+  }
+
+  @Nullable
+  List<Address> rawAddresses() {
+    return addresses;
+  }
 }
@@ -0,0 +1,396 @@
+package com.blockscore.models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, column-wise store of watchlist hits, for holding the screening output of a large candidate
+ * book in memory.
+ *
+ * <p>
+ * Each field is kept in its own array. Confidences and dates of birth are primitives, and the watchlist
+ * names, country codes and matching info, which take few distinct values, are stored as codes into a
+ * shared dictionary. Entry types are kept as a single byte. Empty nested lists take no space.
+ *
+ * <p>
+ * The table is a {@code List<WatchlistHit>}: every hit read from it is a lightweight view onto its row
+ * that implements all of {@link WatchlistHit}'s getters, so code written against {@link WatchlistHit}
+ * keeps working. The table can only grow, through {@link #add(WatchlistHit)}, and is not safe for
+ * concurrent modification.
+ */
+public class WatchlistHitTable extends AbstractList<WatchlistHit> {
+  private static final int URL = 0;
+  private static final int NOTES = 1;
+  private static final int TITLE = 2;
+  private static final int FULL_NAME = 3;
+  private static final int ALTERNATE_NAMES = 4;
+  private static final int PASSPORTS = 5;
+  private static final int SSN = 6;
+  private static final int STREET1 = 7;
+  private static final int STREET2 = 8;
+  private static final int CITY = 9;
+  private static final int STATE = 10;
+  private static final int POSTAL_CODE = 11;
+  private static final int RAW_ADDRESS = 12;
+  private static final int TEXT_COLUMNS = 13;
+
+  private static final int NONE = -1;
+  private static final long NO_DATE = Long.MIN_VALUE;
+  private static final int[] NO_CODES = new int[0];
+  private static final EntityType[] ENTITY_TYPES = EntityType.values();
+
+  private final List<String> dictionary = new ArrayList<String>();
+  private final Map<String, Integer> dictionaryCodes = new HashMap<String, Integer>();
+
+  private int size;
+  private int[] watchlists;
+  private byte[] entryTypes;
+  private double[] confidences;
+  private long[] datesOfBirth;
+  private int[] countryCodes;
+  private int[][] matchingInfo;
+  private final String[][] text = new String[TEXT_COLUMNS][];
+  private List<NameResult>[] names;
+  private List<BirthRange>[] births;
+  private List<Document>[] documents;
+  private List<Address>[] addresses;
+
+  /**
+   * Creates an empty table.
+   */
+  public WatchlistHitTable() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty table with room for a number of hits.
+   *
+   * @param initialCapacity  the number of hits the table holds before growing
+   */
+  public WatchlistHitTable(final int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must not be negative");
+    }
+    resize(initialCapacity);
+  }
+
+  /**
+   * Creates a table holding hits.
+   *
+   * @param hits  the hits to copy into the table
+   * @return the table
+   */
+  @NotNull
+  public static WatchlistHitTable of(@NotNull final Collection<? extends WatchlistHit> hits) {
+    WatchlistHitTable table = new WatchlistHitTable(hits.size());
+    for (WatchlistHit hit : hits) {
+      table.add(hit);
+    }
+    return table;
+  }
+
+  /**
+   * Copies a hit into the table.
+   *
+   * @param hit  the hit to add
+   * @return true
+   */
+  @Override
+  public boolean add(@NotNull final WatchlistHit hit) {
+    if (size == confidences.length) {
+      resize(Math.max(16, size * 2));
+    }
+
+    int row = size;
+    watchlists[row] = encode(hit.getWatchlist());
+    EntityType entryType = hit.getEntryType();
+    entryTypes[row] = entryType == null ? NONE : (byte) entryType.ordinal();
+    confidences[row] = hit.getConfidence();
+    Date dateOfBirth = hit.getDateOfBirth();
+    datesOfBirth[row] = dateOfBirth == null ? NO_DATE : dateOfBirth.getTime();
+    matchingInfo[row] = encodeAll(hit.rawMatchingInfo());
+
+    Address address = hit.getAddress();
+    countryCodes[row] = encode(address == null ? null : address.getCountryCode());
+    text[URL][row] = hit.getUrl();
+    text[NOTES][row] = hit.getNotes();
+    text[TITLE][row] = hit.getTitle();
+    text[FULL_NAME][row] = hit.getName();
+    text[ALTERNATE_NAMES][row] = hit.getAlternateNames();
+    text[PASSPORTS][row] = hit.getPassports();
+    text[SSN][row] = hit.getSsn();
+    text[STREET1][row] = address == null ? null : address.getStreet1();
+    text[STREET2][row] = address == null ? null : address.getStreet2();
+    text[CITY][row] = address == null ? null : address.getCity();
+    text[STATE][row] = address == null ? null : address.getSubdivision();
+    text[POSTAL_CODE][row] = address == null ? null : address.getPostalCode();
+    text[RAW_ADDRESS][row] = hit.getRawAddress();
+
+    names[row] = nonEmpty(hit.rawNames());
+    births[row] = nonEmpty(hit.rawBirths());
+    documents[row] = nonEmpty(hit.rawDocuments());
+    addresses[row] = nonEmpty(hit.rawAddresses());
+
+    size++;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Gets a view onto a hit in the table.
+   *
+   * @param index  the position of the hit
+   * @return the hit
+   */
+  @NotNull
+  @Override
+  public WatchlistHit get(final int index) {
+    checkIndex(index);
+    return new Row(this, index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the confidence of a hit without creating a view onto it.
+   *
+   * @param index  the position of the hit
+   * @return the confidence value
+   */
+  public double getConfidence(final int index) {
+    checkIndex(index);
+    return confidences[index];
+  }
+
+  /**
+   * Gets the watchlist of a hit without creating a view onto it.
+   *
+   * @param index  the position of the hit
+   * @return the watchlist
+   */
+  @Nullable
+  public String getWatchlist(final int index) {
+    checkIndex(index);
+    return decode(watchlists[index]);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void resize(int capacity) {
+    watchlists = Arrays.copyOf(watchlists == null ? NO_CODES : watchlists, capacity);
+    entryTypes = Arrays.copyOf(entryTypes == null ? new byte[0] : entryTypes, capacity);
+    confidences = Arrays.copyOf(confidences == null ? new double[0] : confidences, capacity);
+    datesOfBirth = Arrays.copyOf(datesOfBirth == null ? new long[0] : datesOfBirth, capacity);
+    countryCodes = Arrays.copyOf(countryCodes == null ? NO_CODES : countryCodes, capacity);
+    matchingInfo = Arrays.copyOf(matchingInfo == null ? new int[0][] : matchingInfo, capacity);
+    for (int column = 0; column < TEXT_COLUMNS; column++) {
+      text[column] = Arrays.copyOf(text[column] == null ? new String[0] : text[column], capacity);
+    }
+    names = Arrays.copyOf(names == null ? new List[0] : names, capacity);
+    births = Arrays.copyOf(births == null ? new List[0] : births, capacity);
+    documents = Arrays.copyOf(documents == null ? new List[0] : documents, capacity);
+    addresses = Arrays.copyOf(addresses == null ? new List[0] : addresses, capacity);
+  }
+
+  private int encode(@Nullable String value) {
+    if (value == null) {
+      return NONE;
+    }
+    Integer code = dictionaryCodes.get(value);
+    if (code == null) {
+      code = dictionary.size();
+      dictionary.add(value);
+      dictionaryCodes.put(value, code);
+    }
+    return code;
+  }
+
+  private int[] encodeAll(@Nullable String[] values) {
+    if (values == null || values.length == 0) {
+      return NO_CODES;
+    }
+    int[] codes = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      codes[i] = encode(values[i]);
+    }
+    return codes;
+  }
+
+  @Nullable
+  private String decode(int code) {
+    return code == NONE ? null : dictionary.get(code);
+  }
+
+  @Nullable
+  private static <T> List<T> nonEmpty(@Nullable List<T> list) {
+    return list == null || list.isEmpty() ? null : Collections.unmodifiableList(list);
+  }
+
+  private static <T> List<T> orEmpty(@Nullable List<T> list) {
+    return list == null ? Collections.<T>emptyList() : list;
+  }
+
+  /**
+   * A view onto one row of the table. It holds no data of its own.
+   */
+  private static final class Row extends WatchlistHit {
+    private final WatchlistHitTable table;
+    private final int row;
+
+    Row(WatchlistHitTable table, int row) {
+      this.table = table;
+      this.row = row;
+    }
+
+    @NotNull
+    @Override
+    public String getWatchlist() {
+      return table.decode(table.watchlists[row]);
+    }
+
+    @Override
+    public EntityType getEntryType() {
+      byte ordinal = table.entryTypes[row];
+      return ordinal == NONE ? null : ENTITY_TYPES[ordinal];
+    }
+
+    @NotNull
+    @Override
+    public String[] getMatchingInfo() {
+      int[] codes = table.matchingInfo[row];
+      String[] info = new String[codes.length];
+      for (int i = 0; i < codes.length; i++) {
+        info[i] = table.decode(codes[i]);
+      }
+      return info;
+    }
+
+    @Override
+    public double getConfidence() {
+      return table.confidences[row];
+    }
+
+    @Override
+    public String getUrl() {
+      return table.text[URL][row];
+    }
+
+    @Override
+    public String getNotes() {
+      return table.text[NOTES][row];
+    }
+
+    @Override
+    public String getTitle() {
+      return table.text[TITLE][row];
+    }
+
+    @Override
+    public String getName() {
+      return table.text[FULL_NAME][row];
+    }
+
+    @Override
+    public String getAlternateNames() {
+      return table.text[ALTERNATE_NAMES][row];
+    }
+
+    @Override
+    public Date getDateOfBirth() {
+      long dateOfBirth = table.datesOfBirth[row];
+      return dateOfBirth == NO_DATE ? null : new Date(dateOfBirth);
+    }
+
+    @Override
+    public String getSsn() {
+      return table.text[SSN][row];
+    }
+
+    @Override
+    public String getPassports() {
+      return table.text[PASSPORTS][row];
+    }
+
+    @Override
+    public Address getAddress() {
+      return new Address(table.text[STREET1][row],
+                         table.text[STREET2][row],
+                         table.text[CITY][row],
+                         table.text[STATE][row],
+                         table.text[POSTAL_CODE][row],
+                         table.decode(table.countryCodes[row]));
+    }
+
+    @Override
+    public String getRawAddress() {
+      return table.text[RAW_ADDRESS][row];
+    }
+
+    @NotNull
+    @Override
+    public List<NameResult> getNames() {
+      return orEmpty(table.names[row]);
+    }
+
+    @NotNull
+    @Override
+    public List<BirthRange> getBirths() {
+      return orEmpty(table.births[row]);
+    }
+
+    @NotNull
+    @Override
+    public List<Document> getDocuments() {
+      return orEmpty(table.documents[row]);
+    }
+
+    @NotNull
+    @Override
+    public List<Address> getAddresses() {
+      return orEmpty(table.addresses[row]);
+    }
+
+    @Override
+    String[] rawMatchingInfo() {
+      return getMatchingInfo();
+    }
+
+    @Override
+    List<NameResult> rawNames() {
+      return table.names[row];
+    }
+
+    @Override
+    List<BirthRange> rawBirths() {
+      return table.births[row];
+    }
+
+    @Override
+    List<Document> rawDocuments() {
+      return table.documents[row];
+    }
+
+    @Override
+    List<Address> rawAddresses() {
+      return table.addresses[row];
+    }
+  }
+}
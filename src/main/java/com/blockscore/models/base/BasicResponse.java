@@ -4,6 +4,7 @@ import com.blockscore.net.SecondsDateDeserializer;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Date;
@@ -27,6 +28,22 @@ public abstract class BasicResponse {
   @JsonProperty("livemode")
   private boolean liveMode;
 
+  protected BasicResponse() {
+    // Used by Jackson when deserializing subclasses
+  }
+
+  /**
+   * Copies the common parameters of another record.
+   *
+   * @param other  the record to copy
+   */
+  protected BasicResponse(@NotNull final BasicResponse other) {
+    this.id = other.id;
+    this.createAtDate = other.createAtDate;
+    this.updatedAtDate = other.updatedAtDate;
+    this.liveMode = other.liveMode;
+  }
+
   /**
    * Gets the ID for this record.
    *
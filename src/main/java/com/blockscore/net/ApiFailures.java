@@ -0,0 +1,40 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+import retrofit.client.Response;
+
+/**
+ * Inspects the exceptions thrown by failed API calls.
+ */
+public final class ApiFailures {
+  /** Returned by {@link #status(Throwable)} when the call failed before a response arrived. */
+  public static final int NO_STATUS = -1;
+
+  private static final int NOT_FOUND = 404;
+
+  private ApiFailures() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Gets the HTTP status of the response behind a failed call.
+   *
+   * @param failure  the exception thrown by the call
+   * @return the HTTP status, or {@link #NO_STATUS} if no response arrived
+   */
+  public static int status(@NotNull final Throwable failure) {
+    Response response = Responses.of(failure);
+    return response == null ? NO_STATUS : response.getStatus();
+  }
+
+  /**
+   * Indicates whether a call failed because the requested record does not exist, for example because it
+   * was deleted.
+   *
+   * @param failure  the exception thrown by the call
+   * @return true if the API responded with {@code 404 Not Found}
+   */
+  public static boolean isNotFound(@NotNull final Throwable failure) {
+    return status(failure) == NOT_FOUND;
+  }
+}
@@ -1,32 +1,32 @@
 package com.blockscore.net;
 
-import com.blockscore.common.Constants;
+import com.blockscore.common.RecordHandler;
 import com.blockscore.models.Candidate;
 import com.blockscore.models.Company;
+import com.blockscore.models.PaginatedIterable;
 import com.blockscore.models.PaginatedResult;
 import com.blockscore.models.Person;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.tracing.Tracer;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jetbrains.annotations.NotNull;
-import retrofit.RequestInterceptor;
+import org.jetbrains.annotations.Nullable;
 import retrofit.RestAdapter;
-import retrofit.converter.JacksonConverter;
+import retrofit.client.Response;
 
-import java.io.UnsupportedEncodingException;
-
-import javax.xml.bind.DatatypeConverter;
+import java.io.IOException;
 
 /**
  * The Blockscore Java API client.
  */
 public class BlockscoreApiClient {
   private static RestAdapter.LogLevel logLevel = RestAdapter.LogLevel.NONE;
-  private String apiKey;
 
   private final BlockscoreRestAdapter restAdapter;
+  private final CachingRestAdapter cachingAdapter;
+  private final IdempotencyKeyTable idempotencyKeys = new IdempotencyKeyTable();
+  private final CredentialsProvider credentials;
+  private final Tracer tracer;
 
   /**
    * Turns on/off logging. Must be set before creating API client to take effect.
@@ -43,20 +43,59 @@ public class BlockscoreApiClient {
 
   /**
    * Creates a BlockscoreApiClient. Requires a valid API key for construction to occur successfully.
+   * The client shares its connection pool with every other client using the default configuration.
    *
    * @param apiKey  the valid Blockscore API key
    */
   public BlockscoreApiClient(@NotNull final String apiKey) {
-    this.apiKey = apiKey + ":";
+    this(apiKey, BlockscoreClientConfig.getDefault());
+  }
+
+  /**
+   * Creates a BlockscoreApiClient using the given transport configuration. Clients created with the same
+   * configuration share one connection pool.
+   *
+   * @param apiKey  the valid Blockscore API key
+   * @param config  the transport configuration
+   */
+  public BlockscoreApiClient(@NotNull final String apiKey, @NotNull final BlockscoreClientConfig config) {
+    this(new RotatingCredentialsProvider(apiKey), config);
+  }
+
+  /**
+   * Creates a BlockscoreApiClient whose API key is read from a provider on every request, so that the key
+   * can be rotated without creating a new client. Live mode and test mode clients can share one
+   * configuration, and therefore one connection pool, by using a provider each.
+   *
+   * @param credentials  the provider of the API key
+   * @param config  the transport configuration
+   */
+  public BlockscoreApiClient(@NotNull final CredentialsProvider credentials,
+                             @NotNull final BlockscoreClientConfig config) {
+    this.credentials = credentials;
+    this.tracer = config.getTracer();
 
-    RestAdapter.Builder restBuilder = new RestAdapter.Builder().setClient(new BlockscoreHttpClient())
-                                                               .setEndpoint(Constants.BLOCKSCORE_DOMAIN);
-    restBuilder.setConverter(getDefaultConverter());
-    restBuilder.setRequestInterceptor(getDefaultRequestInterceptor());
+    RestAdapter.Builder restBuilder = new RestAdapter.Builder().setClient(config.createClient())
+                                                               .setEndpoint(config.getEndpoint());
+    restBuilder.setConverter(ModelConverter.getInstance());
+    restBuilder.setRequestInterceptor(new RequestHeaderInterceptor(credentials));
     restBuilder.setErrorHandler(new BlockscoreErrorHandler());
     restBuilder.setLogLevel(logLevel);
 
-    restAdapter = restBuilder.build().create(BlockscoreRestAdapter.class);
+    BlockscoreRestAdapter adapter = restBuilder.build().create(BlockscoreRestAdapter.class);
+    if (config.isCoalescingReads()) {
+      adapter = new CoalescingRestAdapter(adapter);
+    }
+
+    CachePolicy cachePolicy = config.getCachePolicy();
+    if (cachePolicy != null) {
+      cachingAdapter = new CachingRestAdapter(adapter, cachePolicy);
+      adapter = cachingAdapter;
+    } else {
+      cachingAdapter = null;
+    }
+
+    restAdapter = adapter;
   }
 
   /**
@@ -91,6 +130,68 @@ public class BlockscoreApiClient {
     return result;
   }
 
+  /**
+   * Lists a single page of the historical record of verifications.
+   *
+   * @param offset  the number of people to skip
+   * @param limit  the maximum number of people to return
+   * @return the page of created people, not null
+   */
+  @NotNull
+  public PaginatedResult<Person> listPeople(final int offset, final int limit) {
+    PaginatedResult<Person> result = restAdapter.listPeople(offset, limit);
+
+    for (Person person : result.getData()) {
+      person.setAdapter(restAdapter);
+    }
+
+    return result;
+  }
+
+  /**
+   * Streams a single page of the historical record of verifications, decoding one person at a time.
+   *
+   * @param offset  the number of people to skip
+   * @param limit  the maximum number of people to return
+   * @return the page of created people, to be read to the end or closed
+   */
+  @NotNull
+  public StreamingPage<Person> streamPeople(final int offset, final int limit) {
+    return openPage(restAdapter.streamPeople(offset, limit), Person.class, new RecordHandler<Person>() {
+      @Override
+      public void handle(Person person) {
+        person.setAdapter(restAdapter);
+      }
+    });
+  }
+
+  /**
+   * Iterates over every verification you have completed, fetching pages of the default size as needed.
+   *
+   * @return the lazily fetched listing of created people, not null
+   */
+  @NotNull
+  public PaginatedIterable<Person> iteratePeople() {
+    return iteratePeople(PaginatedIterable.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Iterates over every verification you have completed, fetching pages as needed.
+   *
+   * @param pageSize  the number of people requested per page
+   * @return the lazily fetched listing of created people, not null
+   */
+  @NotNull
+  public PaginatedIterable<Person> iteratePeople(final int pageSize) {
+    return new PaginatedIterable<Person>(new PaginatedIterable.PageFetcher<Person>() {
+      @NotNull
+      @Override
+      public PaginatedResult<Person> fetchPage(int offset, int limit) {
+        return listPeople(offset, limit);
+      }
+    }, pageSize);
+  }
+
   /**
    * Gets a single company exactly as it was when you created it.
    * This route is useful for auditing purposes as you can provide proof that a company verification took place
@@ -115,6 +216,58 @@ public class BlockscoreApiClient {
     return restAdapter.listCompanies();
   }
 
+  /**
+   * Lists a single page of the historical record of company verifications.
+   *
+   * @param offset  the number of companies to skip
+   * @param limit  the maximum number of companies to return
+   * @return the page of created companies, not null
+   */
+  @NotNull
+  public PaginatedResult<Company> listCompanies(final int offset, final int limit) {
+    return restAdapter.listCompanies(offset, limit);
+  }
+
+  /**
+   * Streams a single page of the historical record of company verifications, decoding one company at
+   * a time.
+   *
+   * @param offset  the number of companies to skip
+   * @param limit  the maximum number of companies to return
+   * @return the page of created companies, to be read to the end or closed
+   */
+  @NotNull
+  public StreamingPage<Company> streamCompanies(final int offset, final int limit) {
+    return openPage(restAdapter.streamCompanies(offset, limit), Company.class, null);
+  }
+
+  /**
+   * Iterates over every company verification you have completed, fetching pages of the default size as needed.
+   *
+   * @return the lazily fetched listing of created companies, not null
+   */
+  @NotNull
+  public PaginatedIterable<Company> iterateCompanies() {
+    return iterateCompanies(PaginatedIterable.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Iterates over every company verification you have completed, fetching pages as needed.
+   *
+   * @param pageSize  the number of companies requested per page
+   * @return the lazily fetched listing of created companies, not null
+   */
+  @NotNull
+  public PaginatedIterable<Company> iterateCompanies(final int pageSize) {
+    return new PaginatedIterable<Company>(new PaginatedIterable.PageFetcher<Company>() {
+      @NotNull
+      @Override
+      public PaginatedResult<Company> fetchPage(int offset, int limit) {
+        return listCompanies(offset, limit);
+      }
+    }, pageSize);
+  }
+
   /**
    * Retrieves a candidate.
    *
@@ -146,40 +299,149 @@ public class BlockscoreApiClient {
   }
 
   /**
-   * Encodes the API key for Basic authentication.
+   * Lists a single page of the historical record of candidates.
    *
-   * @return the API key with Base 64 encoding
+   * @param offset  the number of candidates to skip
+   * @param limit  the maximum number of candidates to return
+   * @return the page of created candidates, not null
    */
   @NotNull
-  private String getEncodedAuthorization() {
-    try {
-      return "Basic " + DatatypeConverter.printBase64Binary(apiKey.getBytes("UTF-8"));
-    } catch (UnsupportedEncodingException e) {
-      throw new RuntimeException(e);
+  public PaginatedResult<Candidate> listCandidates(final int offset, final int limit) {
+    PaginatedResult<Candidate> result = restAdapter.listCandidates(offset, limit);
+
+    for (Candidate candidate : result.getData()) {
+      candidate.setAdapter(restAdapter);
     }
+
+    return result;
+  }
+
+  /**
+   * Streams a single page of the historical record of candidates, decoding one candidate at a time.
+   *
+   * @param offset  the number of candidates to skip
+   * @param limit  the maximum number of candidates to return
+   * @return the page of created candidates, to be read to the end or closed
+   */
+  @NotNull
+  public StreamingPage<Candidate> streamCandidates(final int offset, final int limit) {
+    return openPage(restAdapter.streamCandidates(offset, limit), Candidate.class, new RecordHandler<Candidate>() {
+      @Override
+      public void handle(Candidate candidate) {
+        candidate.setAdapter(restAdapter);
+      }
+    });
   }
 
-  private JacksonConverter getDefaultConverter() {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.setVisibilityChecker(mapper.getSerializationConfig()
-                                        .getDefaultVisibilityChecker()
-                                        .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
-                                        .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
-                                        .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
-                                        .withCreatorVisibility(JsonAutoDetect.Visibility.NONE));
-    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    mapper.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
-    return new JacksonConverter(mapper);
+  /**
+   * Iterates over every candidate you have created, fetching pages of the default size as needed.
+   *
+   * @return the lazily fetched listing of created candidates, not null
+   */
+  @NotNull
+  public PaginatedIterable<Candidate> iterateCandidates() {
+    return iterateCandidates(PaginatedIterable.DEFAULT_PAGE_SIZE);
   }
 
-  private RequestInterceptor getDefaultRequestInterceptor() {
-    return new RequestInterceptor() {
+  /**
+   * Iterates over every candidate you have created, fetching pages as needed.
+   *
+   * @param pageSize  the number of candidates requested per page
+   * @return the lazily fetched listing of created candidates, not null
+   */
+  @NotNull
+  public PaginatedIterable<Candidate> iterateCandidates(final int pageSize) {
+    return new PaginatedIterable<Candidate>(new PaginatedIterable.PageFetcher<Candidate>() {
+      @NotNull
       @Override
-      public void intercept(RequestFacade request) {
-        request.addHeader(Constants.AUTHORIZATION_HEADER, getEncodedAuthorization());
-        request.addHeader(Constants.ACCEPT_HEADER, Constants.getAcceptHeaders());
+      public PaginatedResult<Candidate> fetchPage(int offset, int limit) {
+        return listCandidates(offset, limit);
       }
-    };
+    }, pageSize);
+  }
+
+  /**
+   * Streams a single page of a candidate's historical watchlist hits, decoding one hit at a time.
+   * Suited to candidates with many hits, each of which can carry long lists of names, documents and
+   * addresses.
+   *
+   * @param candidateId  ID of the candidate
+   * @param offset  the number of hits to skip
+   * @param limit  the maximum number of hits to return
+   * @return the page of watchlist hits, to be read to the end or closed
+   */
+  @NotNull
+  public StreamingPage<WatchlistHit> streamCandidateHits(@NotNull final String candidateId,
+                                                         final int offset,
+                                                         final int limit) {
+    return openPage(restAdapter.streamCandidateHits(candidateId, offset, limit), WatchlistHit.class, null);
+  }
+
+  /**
+   * Gets the cache of retrieved people.
+   *
+   * @return the person cache, or null if caching is disabled
+   */
+  @Nullable
+  public RecordCache<Person> getPersonCache() {
+    return cachingAdapter == null ? null : cachingAdapter.getPersonCache();
+  }
+
+  /**
+   * Gets the cache of retrieved companies.
+   *
+   * @return the company cache, or null if caching is disabled
+   */
+  @Nullable
+  public RecordCache<Company> getCompanyCache() {
+    return cachingAdapter == null ? null : cachingAdapter.getCompanyCache();
+  }
+
+  /**
+   * Gets the cache of retrieved candidates.
+   *
+   * @return the candidate cache, or null if caching is disabled
+   */
+  @Nullable
+  public RecordCache<Candidate> getCandidateCache() {
+    return cachingAdapter == null ? null : cachingAdapter.getCandidateCache();
+  }
+
+  /**
+   * Gets the table of idempotency keys used by this client's creation requests.
+   *
+   * @return the idempotency key table
+   */
+  @NotNull
+  public IdempotencyKeyTable getIdempotencyKeyTable() {
+    return idempotencyKeys;
+  }
+
+  /**
+   * Gets the provider of the API key this client authenticates with. Clients created from an API key use
+   * a {@link RotatingCredentialsProvider}.
+   *
+   * @return the credentials provider
+   */
+  @NotNull
+  public CredentialsProvider getCredentialsProvider() {
+    return credentials;
+  }
+
+  @NotNull
+  Tracer getTracer() {
+    return tracer;
+  }
+
+  @NotNull
+  private <T> StreamingPage<T> openPage(@NotNull final Response response,
+                                        @NotNull final Class<T> type,
+                                        @Nullable final RecordHandler<T> preparer) {
+    try {
+      return new StreamingPage<T>(response.getBody(), type, preparer);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   /**
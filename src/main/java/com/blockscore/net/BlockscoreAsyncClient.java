@@ -0,0 +1,705 @@
+package com.blockscore.net;
+
+import com.blockscore.models.AnswerSet;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.Company;
+import com.blockscore.models.EntityType;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.Person;
+import com.blockscore.models.QuestionSet;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An asynchronous wrapper around a {@link BlockscoreApiClient}.
+ *
+ * <p>
+ * Every operation is dispatched to a bounded pool of worker threads and returns a {@link Future}
+ * immediately, optionally notifying a {@link BlockscoreCallback} once the call completes. Calls beyond
+ * the configured queue capacity are rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException} instead of growing without bound. Calls and
+ * their callbacks run with the {@link TraceContext trace context} of the thread that made them.
+ * Builders and records passed to the operations are sent through the wrapped client, whichever client
+ * they were constructed or loaded with. A cancelled call notifies its callback of a {@link CancellationException}
+ * on the cancelling thread.
+ */
+public class BlockscoreAsyncClient {
+  public static final int DEFAULT_MAX_CONCURRENT_CALLS = 16;
+  public static final int DEFAULT_MAX_QUEUED_CALLS = 4096;
+
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60L;
+  private static final String QUEUE_SPAN = "blockscore.queue";
+
+  private final BlockscoreApiClient client;
+  private final ExecutorService executor;
+
+  /**
+   * Creates an asynchronous client using the default concurrency limits.
+   *
+   * @param client  the client used to perform the calls
+   */
+  public BlockscoreAsyncClient(@NotNull final BlockscoreApiClient client) {
+    this(client, DEFAULT_MAX_CONCURRENT_CALLS, DEFAULT_MAX_QUEUED_CALLS);
+  }
+
+  /**
+   * Creates an asynchronous client with its own bounded dispatcher.
+   *
+   * @param client  the client used to perform the calls
+   * @param maxConcurrentCalls  the maximum number of calls in flight at once
+   * @param maxQueuedCalls  the maximum number of calls waiting for a free worker
+   */
+  public BlockscoreAsyncClient(@NotNull final BlockscoreApiClient client,
+                               final int maxConcurrentCalls,
+                               final int maxQueuedCalls) {
+    this(client, createDispatcher(maxConcurrentCalls, maxQueuedCalls));
+  }
+
+  /**
+   * Creates an asynchronous client on top of an existing executor. The executor is shut down by
+   * {@link #shutdown()}.
+   *
+   * @param client  the client used to perform the calls
+   * @param executor  the executor calls are dispatched to
+   */
+  public BlockscoreAsyncClient(@NotNull final BlockscoreApiClient client, @NotNull final ExecutorService executor) {
+    this.client = client;
+    this.executor = executor;
+  }
+
+  // Person operations
+
+  /**
+   * Creates a {@link Person} from a builder.
+   *
+   * @param builder  the populated person builder
+   * @return the future person
+   */
+  @NotNull
+  public Future<Person> createPerson(@NotNull final Person.Builder builder) {
+    return createPerson(builder, null);
+  }
+
+  /**
+   * Creates a {@link Person} from a builder.
+   *
+   * @param builder  the populated person builder
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future person
+   */
+  @NotNull
+  public Future<Person> createPerson(@NotNull final Person.Builder builder,
+                                     @Nullable final BlockscoreCallback<Person> callback) {
+    return submit(new Callable<Person>() {
+      @Override
+      public Person call() {
+        return builder.create(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Retrieves a single person.
+   *
+   * @param id  ID of the person
+   * @return the future person
+   */
+  @NotNull
+  public Future<Person> retrievePerson(@NotNull final String id) {
+    return retrievePerson(id, null);
+  }
+
+  /**
+   * Retrieves a single person.
+   *
+   * @param id  ID of the person
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future person
+   */
+  @NotNull
+  public Future<Person> retrievePerson(@NotNull final String id, @Nullable final BlockscoreCallback<Person> callback) {
+    return submit(new Callable<Person>() {
+      @Override
+      public Person call() {
+        return client.retrievePerson(id);
+      }
+    }, callback);
+  }
+
+  /**
+   * Lists the historical record of verified people.
+   *
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Person>> listPeople() {
+    return listPeople(null);
+  }
+
+  /**
+   * Lists the historical record of verified people.
+   *
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Person>> listPeople(
+      @Nullable final BlockscoreCallback<PaginatedResult<Person>> callback) {
+    return submit(new Callable<PaginatedResult<Person>>() {
+      @Override
+      public PaginatedResult<Person> call() {
+        return client.listPeople();
+      }
+    }, callback);
+  }
+
+  /**
+   * Creates a question set for a person.
+   *
+   * @param person  the person to create the question set for
+   * @param timeLimit  the time limit in seconds, or 0 for no limit
+   * @return the future question set
+   */
+  @NotNull
+  public Future<QuestionSet> createQuestionSet(@NotNull final Person person, final long timeLimit) {
+    return createQuestionSet(person, timeLimit, null);
+  }
+
+  /**
+   * Creates a question set for a person.
+   *
+   * @param person  the person to create the question set for
+   * @param timeLimit  the time limit in seconds, or 0 for no limit
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future question set
+   */
+  @NotNull
+  public Future<QuestionSet> createQuestionSet(@NotNull final Person person,
+                                               final long timeLimit,
+                                               @Nullable final BlockscoreCallback<QuestionSet> callback) {
+    return submit(new Callable<QuestionSet>() {
+      @Override
+      public QuestionSet call() {
+        return person.createQuestionSet(timeLimit, client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Retrieves a question set belonging to a person.
+   *
+   * @param person  the person owning the question set
+   * @param questionSetId  ID of the question set
+   * @return the future question set
+   */
+  @NotNull
+  public Future<QuestionSet> retrieveQuestionSet(@NotNull final Person person, @NotNull final String questionSetId) {
+    return retrieveQuestionSet(person, questionSetId, null);
+  }
+
+  /**
+   * Retrieves a question set belonging to a person.
+   *
+   * @param person  the person owning the question set
+   * @param questionSetId  ID of the question set
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future question set
+   */
+  @NotNull
+  public Future<QuestionSet> retrieveQuestionSet(@NotNull final Person person,
+                                                 @NotNull final String questionSetId,
+                                                 @Nullable final BlockscoreCallback<QuestionSet> callback) {
+    return submit(new Callable<QuestionSet>() {
+      @Override
+      public QuestionSet call() {
+        return person.retrieveQuestionSet(questionSetId, client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Scores a question set.
+   *
+   * @param questionSet  the question set to score
+   * @param answers  the answers to the question set
+   * @return the future scored question set
+   */
+  @NotNull
+  public Future<QuestionSet> scoreQuestionSet(@NotNull final QuestionSet questionSet,
+                                              @NotNull final AnswerSet answers) {
+    return scoreQuestionSet(questionSet, answers, null);
+  }
+
+  /**
+   * Scores a question set.
+   *
+   * @param questionSet  the question set to score
+   * @param answers  the answers to the question set
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future scored question set
+   */
+  @NotNull
+  public Future<QuestionSet> scoreQuestionSet(@NotNull final QuestionSet questionSet,
+                                              @NotNull final AnswerSet answers,
+                                              @Nullable final BlockscoreCallback<QuestionSet> callback) {
+    return submit(new Callable<QuestionSet>() {
+      @Override
+      public QuestionSet call() {
+        questionSet.score(answers, client);
+        return questionSet;
+      }
+    }, callback);
+  }
+
+  // Company operations
+
+  /**
+   * Creates a {@link Company} from a builder.
+   *
+   * @param builder  the populated company builder
+   * @return the future company
+   */
+  @NotNull
+  public Future<Company> createCompany(@NotNull final Company.Builder builder) {
+    return createCompany(builder, null);
+  }
+
+  /**
+   * Creates a {@link Company} from a builder.
+   *
+   * @param builder  the populated company builder
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future company
+   */
+  @NotNull
+  public Future<Company> createCompany(@NotNull final Company.Builder builder,
+                                       @Nullable final BlockscoreCallback<Company> callback) {
+    return submit(new Callable<Company>() {
+      @Override
+      public Company call() {
+        return builder.create(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Retrieves a single company.
+   *
+   * @param id  ID of the company
+   * @return the future company
+   */
+  @NotNull
+  public Future<Company> retrieveCompany(@NotNull final String id) {
+    return retrieveCompany(id, null);
+  }
+
+  /**
+   * Retrieves a single company.
+   *
+   * @param id  ID of the company
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future company
+   */
+  @NotNull
+  public Future<Company> retrieveCompany(@NotNull final String id,
+                                         @Nullable final BlockscoreCallback<Company> callback) {
+    return submit(new Callable<Company>() {
+      @Override
+      public Company call() {
+        return client.retrieveCompany(id);
+      }
+    }, callback);
+  }
+
+  /**
+   * Lists the historical record of verified companies.
+   *
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Company>> listCompanies() {
+    return listCompanies(null);
+  }
+
+  /**
+   * Lists the historical record of verified companies.
+   *
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Company>> listCompanies(
+      @Nullable final BlockscoreCallback<PaginatedResult<Company>> callback) {
+    return submit(new Callable<PaginatedResult<Company>>() {
+      @Override
+      public PaginatedResult<Company> call() {
+        return client.listCompanies();
+      }
+    }, callback);
+  }
+
+  // Candidate operations
+
+  /**
+   * Creates a {@link Candidate} from a builder.
+   *
+   * @param builder  the populated candidate builder
+   * @return the future candidate
+   */
+  @NotNull
+  public Future<Candidate> createCandidate(@NotNull final Candidate.Builder builder) {
+    return createCandidate(builder, null);
+  }
+
+  /**
+   * Creates a {@link Candidate} from a builder.
+   *
+   * @param builder  the populated candidate builder
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future candidate
+   */
+  @NotNull
+  public Future<Candidate> createCandidate(@NotNull final Candidate.Builder builder,
+                                           @Nullable final BlockscoreCallback<Candidate> callback) {
+    return submit(new Callable<Candidate>() {
+      @Override
+      public Candidate call() {
+        return builder.create(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Retrieves a single candidate.
+   *
+   * @param id  ID of the candidate
+   * @return the future candidate
+   */
+  @NotNull
+  public Future<Candidate> retrieveCandidate(@NotNull final String id) {
+    return retrieveCandidate(id, null);
+  }
+
+  /**
+   * Retrieves a single candidate.
+   *
+   * @param id  ID of the candidate
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future candidate
+   */
+  @NotNull
+  public Future<Candidate> retrieveCandidate(@NotNull final String id,
+                                             @Nullable final BlockscoreCallback<Candidate> callback) {
+    return submit(new Callable<Candidate>() {
+      @Override
+      public Candidate call() {
+        return client.retrieveCandidate(id);
+      }
+    }, callback);
+  }
+
+  /**
+   * Saves the pending edits of a candidate.
+   *
+   * @param candidate  the edited candidate
+   * @return the future saved candidate
+   */
+  @NotNull
+  public Future<Candidate> updateCandidate(@NotNull final Candidate candidate) {
+    return updateCandidate(candidate, null);
+  }
+
+  /**
+   * Saves the pending edits of a candidate.
+   *
+   * @param candidate  the edited candidate
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future saved candidate
+   */
+  @NotNull
+  public Future<Candidate> updateCandidate(@NotNull final Candidate candidate,
+                                           @Nullable final BlockscoreCallback<Candidate> callback) {
+    return submit(new Callable<Candidate>() {
+      @Override
+      public Candidate call() {
+        return candidate.save(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Deletes a candidate.
+   *
+   * @param candidate  the candidate to delete
+   * @return the future deleted candidate
+   */
+  @NotNull
+  public Future<Candidate> deleteCandidate(@NotNull final Candidate candidate) {
+    return deleteCandidate(candidate, null);
+  }
+
+  /**
+   * Deletes a candidate.
+   *
+   * @param candidate  the candidate to delete
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future deleted candidate
+   */
+  @NotNull
+  public Future<Candidate> deleteCandidate(@NotNull final Candidate candidate,
+                                           @Nullable final BlockscoreCallback<Candidate> callback) {
+    return submit(new Callable<Candidate>() {
+      @Override
+      public Candidate call() {
+        candidate.delete(client);
+        return candidate;
+      }
+    }, callback);
+  }
+
+  /**
+   * Lists the historical record of created candidates.
+   *
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Candidate>> listCandidates() {
+    return listCandidates(null);
+  }
+
+  /**
+   * Lists the historical record of created candidates.
+   *
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future listing
+   */
+  @NotNull
+  public Future<PaginatedResult<Candidate>> listCandidates(
+      @Nullable final BlockscoreCallback<PaginatedResult<Candidate>> callback) {
+    return submit(new Callable<PaginatedResult<Candidate>>() {
+      @Override
+      public PaginatedResult<Candidate> call() {
+        return client.listCandidates();
+      }
+    }, callback);
+  }
+
+  /**
+   * Gets the revision history of a candidate.
+   *
+   * @param candidate  the candidate
+   * @return the future revision history
+   */
+  @NotNull
+  public Future<List<Candidate>> getRevisionHistory(@NotNull final Candidate candidate) {
+    return getRevisionHistory(candidate, null);
+  }
+
+  /**
+   * Gets the revision history of a candidate.
+   *
+   * @param candidate  the candidate
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future revision history
+   */
+  @NotNull
+  public Future<List<Candidate>> getRevisionHistory(@NotNull final Candidate candidate,
+                                                    @Nullable final BlockscoreCallback<List<Candidate>> callback) {
+    return submit(new Callable<List<Candidate>>() {
+      @Override
+      public List<Candidate> call() {
+        return candidate.getRevisionHistory(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Gets the historical watchlist hits of a candidate.
+   *
+   * @param candidate  the candidate
+   * @return the future watchlist hits
+   */
+  @NotNull
+  public Future<PaginatedResult<WatchlistHit>> getPastHits(@NotNull final Candidate candidate) {
+    return getPastHits(candidate, null);
+  }
+
+  /**
+   * Gets the historical watchlist hits of a candidate.
+   *
+   * @param candidate  the candidate
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future watchlist hits
+   */
+  @NotNull
+  public Future<PaginatedResult<WatchlistHit>> getPastHits(
+      @NotNull final Candidate candidate,
+      @Nullable final BlockscoreCallback<PaginatedResult<WatchlistHit>> callback) {
+    return submit(new Callable<PaginatedResult<WatchlistHit>>() {
+      @Override
+      public PaginatedResult<WatchlistHit> call() {
+        return candidate.getPastHits(client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Performs a watchlist search for a candidate.
+   *
+   * @param candidate  the candidate to screen
+   * @param entityType  the type of entity, may be null
+   * @param similarityThreshold  the accepted threshold of similarity, may be null
+   * @return the future watchlist hits
+   */
+  @NotNull
+  public Future<PaginatedResult<WatchlistHit>> searchWatchlists(@NotNull final Candidate candidate,
+                                                                @Nullable final EntityType entityType,
+                                                                @Nullable final Double similarityThreshold) {
+    return searchWatchlists(candidate, entityType, similarityThreshold, null);
+  }
+
+  /**
+   * Performs a watchlist search for a candidate.
+   *
+   * @param candidate  the candidate to screen
+   * @param entityType  the type of entity, may be null
+   * @param similarityThreshold  the accepted threshold of similarity, may be null
+   * @param callback  the callback to notify on completion, may be null
+   * @return the future watchlist hits
+   */
+  @NotNull
+  public Future<PaginatedResult<WatchlistHit>> searchWatchlists(
+      @NotNull final Candidate candidate,
+      @Nullable final EntityType entityType,
+      @Nullable final Double similarityThreshold,
+      @Nullable final BlockscoreCallback<PaginatedResult<WatchlistHit>> callback) {
+    return submit(new Callable<PaginatedResult<WatchlistHit>>() {
+      @Override
+      public PaginatedResult<WatchlistHit> call() {
+        return candidate.searchWatchlists(entityType, similarityThreshold, client);
+      }
+    }, callback);
+  }
+
+  /**
+   * Stops accepting new calls. Calls already dispatched are allowed to complete.
+   */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Gets the synchronous client backing this asynchronous client.
+   *
+   * @return the synchronous client
+   */
+  @NotNull
+  public BlockscoreApiClient getClient() {
+    return client;
+  }
+
+  @NotNull
+  private <T> Future<T> submit(@NotNull final Callable<T> call, @Nullable final BlockscoreCallback<T> callback) {
+    final CallbackFutureTask<T> task = new CallbackFutureTask<T>(call, callback);
+    final Span parent = TraceContext.current();
+    final Span queueSpan = client.getTracer().startSpan(QUEUE_SPAN, parent);
+
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          queueSpan.finish();
+          Span previous = TraceContext.attach(parent);
+          try {
+            task.run();
+          } finally {
+            TraceContext.restore(previous);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      queueSpan.setError(e);
+      queueSpan.finish();
+      throw e;
+    }
+    return task;
+  }
+
+  private static ExecutorService createDispatcher(final int maxConcurrentCalls, final int maxQueuedCalls) {
+    if (maxConcurrentCalls < 1) {
+      throw new IllegalArgumentException("maxConcurrentCalls must be at least 1");
+    }
+
+    ThreadPoolExecutor dispatcher = new ThreadPoolExecutor(maxConcurrentCalls,
+                                                           maxConcurrentCalls,
+                                                           WORKER_KEEP_ALIVE_SECONDS,
+                                                           TimeUnit.SECONDS,
+                                                           new LinkedBlockingQueue<Runnable>(maxQueuedCalls),
+                                                           new DispatcherThreadFactory());
+    dispatcher.allowCoreThreadTimeOut(true);
+    return dispatcher;
+  }
+
+  private static class CallbackFutureTask<T> extends FutureTask<T> {
+    private final BlockscoreCallback<T> callback;
+
+    CallbackFutureTask(Callable<T> call, BlockscoreCallback<T> callback) {
+      super(call);
+      this.callback = callback;
+    }
+
+    @Override
+    protected void done() {
+      if (callback == null) {
+        return;
+      }
+      if (isCancelled()) {
+        callback.onFailure(new CancellationException("The call was cancelled."));
+        return;
+      }
+
+      T result;
+      try {
+        result = get();
+      } catch (ExecutionException e) {
+        callback.onFailure(e.getCause());
+        return;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        callback.onFailure(e);
+        return;
+      }
+
+      callback.onSuccess(result);
+    }
+  }
+
+  private static class DispatcherThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "blockscore-async-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the outcome of an asynchronous Blockscore API call.
+ *
+ * <p>
+ * Callbacks are invoked on the thread that completed the call, so implementations should hand off
+ * any long running work rather than blocking it.
+ */
+public interface BlockscoreCallback<T> {
+  /**
+   * Invoked when the call completed successfully.
+   *
+   * @param result  the result of the call
+   */
+  void onSuccess(T result);
+
+  /**
+   * Invoked when the call failed. The error is the same exception the synchronous call would have
+   * thrown, such as an {@link com.blockscore.exceptions.InvalidRequestException}.
+   *
+   * @param error  the cause of the failure
+   */
+  void onFailure(@NotNull Throwable error);
+}
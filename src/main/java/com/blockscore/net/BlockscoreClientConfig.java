@@ -0,0 +1,385 @@
+package com.blockscore.net;
+
+import com.blockscore.common.Constants;
+import com.blockscore.metrics.ClientMetrics;
+import com.blockscore.metrics.NoopClientMetrics;
+import com.blockscore.tracing.NoopTracer;
+import com.blockscore.tracing.Tracer;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit.client.Client;
+import retrofit.client.OkClient;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport configuration shared by one or more {@link BlockscoreApiClient}s.
+ *
+ * <p>
+ * All clients created with the same configuration share a single OkHttp connection pool, so
+ * services holding one client per API key reuse warm TLS connections across keys. The configuration
+ * is frozen once the first client has been created from it; changing it afterwards throws an
+ * {@link IllegalStateException}.
+ */
+public class BlockscoreClientConfig {
+  public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+  public static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = 5 * 60 * 1000L;
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+  public static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 30 * 1000L;
+  public static final long DEFAULT_READ_TIMEOUT_MILLIS = 30 * 1000L;
+  public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 30 * 1000L;
+
+  private static final BlockscoreClientConfig DEFAULT_CONFIG = new BlockscoreClientConfig(true);
+
+  private String endpoint = Constants.BLOCKSCORE_DOMAIN;
+  private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+  private long keepAliveDurationMillis = DEFAULT_KEEP_ALIVE_DURATION_MILLIS;
+  private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+  private long connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+  private long readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+  private long writeTimeoutMillis = DEFAULT_WRITE_TIMEOUT_MILLIS;
+  private boolean useNativeCalls;
+  private RateLimiter rateLimiter;
+  private RetryPolicy retryPolicy;
+  private CircuitBreaker circuitBreaker;
+  private CachePolicy cachePolicy;
+  private boolean coalesceReads;
+  private ClientMetrics metrics = NoopClientMetrics.INSTANCE;
+  private Tracer tracer = NoopTracer.INSTANCE;
+
+  private final boolean shared;
+  private OkHttpClient httpClient;
+  private Semaphore hostPermits;
+
+  /**
+   * Creates a configuration with the default settings.
+   */
+  public BlockscoreClientConfig() {
+    this(false);
+  }
+
+  private BlockscoreClientConfig(boolean shared) {
+    this.shared = shared;
+  }
+
+  /**
+   * Gets the configuration used by clients that were not given one explicitly. It cannot be changed;
+   * create a new configuration to use different settings.
+   *
+   * @return the process wide default configuration
+   */
+  @NotNull
+  public static BlockscoreClientConfig getDefault() {
+    return DEFAULT_CONFIG;
+  }
+
+  /**
+   * Sets the base URL of the Blockscore API.
+   *
+   * @param endpoint  the base URL
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setEndpoint(@NotNull final String endpoint) {
+    checkNotFrozen();
+    this.endpoint = endpoint;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of idle connections kept in the shared pool.
+   *
+   * @param maxIdleConnections  the maximum number of idle connections
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setMaxIdleConnections(final int maxIdleConnections) {
+    checkNotFrozen();
+    this.maxIdleConnections = maxIdleConnections;
+    return this;
+  }
+
+  /**
+   * Sets how long an idle connection is kept in the shared pool before being closed.
+   *
+   * @param duration  the keep-alive duration
+   * @param unit  the unit of the duration
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setKeepAliveDuration(final long duration, @NotNull final TimeUnit unit) {
+    checkNotFrozen();
+    this.keepAliveDurationMillis = unit.toMillis(duration);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of requests executing concurrently against the Blockscore API across all
+   * clients sharing this configuration. A request holds its slot until its response has been read.
+   * Requests beyond the limit wait for a free slot.
+   *
+   * @param maxRequestsPerHost  the maximum number of concurrent requests
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setMaxRequestsPerHost(final int maxRequestsPerHost) {
+    checkNotFrozen();
+    if (maxRequestsPerHost < 1) {
+      throw new IllegalArgumentException("maxRequestsPerHost must be at least 1");
+    }
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    return this;
+  }
+
+  /**
+   * Sets the connect timeout.
+   *
+   * @param timeout  the timeout, or 0 for none
+   * @param unit  the unit of the timeout
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setConnectTimeout(final long timeout, @NotNull final TimeUnit unit) {
+    checkNotFrozen();
+    this.connectTimeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the read timeout.
+   *
+   * @param timeout  the timeout, or 0 for none
+   * @param unit  the unit of the timeout
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setReadTimeout(final long timeout, @NotNull final TimeUnit unit) {
+    checkNotFrozen();
+    this.readTimeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the write timeout.
+   *
+   * @param timeout  the timeout, or 0 for none
+   * @param unit  the unit of the timeout
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setWriteTimeout(final long timeout, @NotNull final TimeUnit unit) {
+    checkNotFrozen();
+    this.writeTimeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
+
+  /**
+   * Chooses between OkHttp's native call API and the {@link java.net.HttpURLConnection} bridge.
+   * The bridge is used by default.
+   *
+   * @param useNativeCalls  whether or not to call OkHttp directly
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig useNativeCalls(final boolean useNativeCalls) {
+    checkNotFrozen();
+    this.useNativeCalls = useNativeCalls;
+    return this;
+  }
+
+  /**
+   * Sets the rate limiter shared by every client using this configuration. No rate limiting is
+   * applied by default.
+   *
+   * @param rateLimiter  the rate limiter, or null to disable rate limiting
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setRateLimiter(@Nullable final RateLimiter rateLimiter) {
+    checkNotFrozen();
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  /**
+   * Sets the retry policy shared by every client using this configuration. Failed requests are not
+   * retried by default.
+   *
+   * @param retryPolicy  the retry policy, or null to disable retrying
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setRetryPolicy(@Nullable final RetryPolicy retryPolicy) {
+    checkNotFrozen();
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * Sets the circuit breaker shared by every client using this configuration. A breaker sees each call
+   * once, after any retries. No circuit breaker is used by default.
+   *
+   * @param circuitBreaker  the circuit breaker, or null to disable it
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setCircuitBreaker(@Nullable final CircuitBreaker circuitBreaker) {
+    checkNotFrozen();
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  /**
+   * Enables the record cache for retrieve operations. Each client using this configuration gets its own
+   * caches. Records are not cached by default.
+   *
+   * @param cachePolicy  the cache settings, or null to disable caching
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setCachePolicy(@Nullable final CachePolicy cachePolicy) {
+    checkNotFrozen();
+    this.cachePolicy = cachePolicy;
+    return this;
+  }
+
+  /**
+   * Chooses whether concurrent identical reads share a single request. Reads are not coalesced by default.
+   *
+   * <p>
+   * Callers that join a request already in flight receive the same person, company or hit listing
+   * instances as the caller that started it, so a change one caller makes to such a record is seen by the
+   * others; only candidates are copied for each caller. They also receive the response fetched with the
+   * API key that was current when the request started, even if the key was rotated since. Only enable
+   * coalescing if callers treat the records they read as read-only.
+   *
+   * @param coalesceReads  whether or not to coalesce concurrent reads
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig coalesceReads(final boolean coalesceReads) {
+    checkNotFrozen();
+    this.coalesceReads = coalesceReads;
+    return this;
+  }
+
+  /**
+   * Sets where every client using this configuration reports the measurements of its requests.
+   * Requests are not measured by default.
+   *
+   * @param metrics  the metrics to report to
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setMetrics(@NotNull final ClientMetrics metrics) {
+    checkNotFrozen();
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * Sets the tracer every client using this configuration reports the spans of its calls to. Calls are
+   * not traced by default.
+   *
+   * @param tracer  the tracer to report to
+   * @return this
+   */
+  @NotNull
+  public synchronized BlockscoreClientConfig setTracer(@NotNull final Tracer tracer) {
+    checkNotFrozen();
+    this.tracer = tracer;
+    return this;
+  }
+
+  /**
+   * Gets the base URL of the Blockscore API.
+   *
+   * @return the base URL
+   */
+  @NotNull
+  public synchronized String getEndpoint() {
+    return endpoint;
+  }
+
+  @Nullable
+  synchronized CachePolicy getCachePolicy() {
+    return cachePolicy;
+  }
+
+  synchronized boolean isCoalescingReads() {
+    return coalesceReads;
+  }
+
+  @NotNull
+  synchronized Tracer getTracer() {
+    return tracer;
+  }
+
+  /**
+   * Gets the OkHttp client shared by every API client using this configuration, creating it on first use.
+   *
+   * @return the shared OkHttp client
+   */
+  @NotNull
+  public synchronized OkHttpClient getHttpClient() {
+    if (httpClient == null) {
+      OkHttpClient client = new OkHttpClient();
+      client.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveDurationMillis));
+      client.setConnectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+      client.setReadTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+      client.setWriteTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+      client.networkInterceptors().add(new UserAgentInterceptor(Constants.USER_AGENT));
+      if (tracer != NoopTracer.INSTANCE) {
+        client.networkInterceptors().add(new TracingInterceptor(tracer));
+      }
+      httpClient = client;
+      hostPermits = new Semaphore(maxRequestsPerHost, true);
+    }
+    return httpClient;
+  }
+
+  /**
+   * Creates the Retrofit client for a new API client. Freezes this configuration.
+   *
+   * @return the Retrofit client
+   */
+  @NotNull
+  synchronized Client createClient() {
+    OkHttpClient client = getHttpClient();
+    Client transport = useNativeCalls ? new OkClient(client) : new BlockscoreHttpClient(client);
+    if (tracer != NoopTracer.INSTANCE) {
+      transport = new ConnectTracingClient(transport, tracer);
+    }
+    transport = new BoundedClient(transport, hostPermits);
+
+    if (rateLimiter != null) {
+      transport = new RateLimitedClient(transport, rateLimiter);
+    }
+    if (retryPolicy != null) {
+      transport = new RetryingClient(transport, retryPolicy);
+    }
+    if (circuitBreaker != null) {
+      transport = new CircuitBreakingClient(transport, circuitBreaker);
+    }
+    if (metrics != NoopClientMetrics.INSTANCE) {
+      transport = new InstrumentedClient(transport, metrics, endpoint);
+    }
+    if (tracer != NoopTracer.INSTANCE) {
+      transport = new TracingClient(transport, tracer, endpoint);
+    }
+    return transport;
+  }
+
+  private void checkNotFrozen() {
+    if (shared) {
+      throw new IllegalStateException("The default configuration cannot change. Create a new configuration instead.");
+    }
+    if (httpClient != null) {
+      throw new IllegalStateException("The configuration is already in use by a client and can no longer change.");
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.blockscore.net;
 
 import com.blockscore.exceptions.ApiException;
+import com.blockscore.exceptions.CircuitBreakerOpenException;
 import com.blockscore.exceptions.InvalidRequestException;
 import com.blockscore.models.error.BlockscoreError;
 import com.blockscore.models.error.BlockscoreErrorType;
@@ -12,6 +13,10 @@ import retrofit.RetrofitError;
 class BlockscoreErrorHandler implements ErrorHandler {
   @Override
   public Throwable handleError(RetrofitError cause) {
+    if (cause.getCause() instanceof CircuitBreakerOpenException) {
+      return cause.getCause();
+    }
+
     Object rawError = cause.getBodyAs(BlockscoreError.class);
     
     if (rawError instanceof BlockscoreError) {
@@ -19,9 +24,9 @@ class BlockscoreErrorHandler implements ErrorHandler {
       RequestError requestError = error.getError();
 
       if (requestError.getErrorType() == BlockscoreErrorType.INVALID) {
-        return new InvalidRequestException(error);
+        return withCause(new InvalidRequestException(error), cause);
       } else if (requestError.getErrorType() == BlockscoreErrorType.API) {
-        return new ApiException(error);
+        return withCause(new ApiException(error), cause);
       } else {
         //Theoretically, this should never happen, unless the API has changed to break something.
         String msg = String.format("An unknown error has occurred. Please contact support. Error type: %s",
@@ -31,4 +36,12 @@ class BlockscoreErrorHandler implements ErrorHandler {
     }
     return cause;
   }
+
+  /**
+   * Keeps the original error, and so the HTTP response, reachable from the exception thrown to the caller.
+   */
+  private static Throwable withCause(Throwable exception, RetrofitError cause) {
+    exception.initCause(cause);
+    return exception;
+  }
 }
@@ -1,5 +1,6 @@
 package com.blockscore.net;
 
+import com.blockscore.common.Constants;
 import com.blockscore.models.AnswerSet;
 import com.blockscore.models.Candidate;
 import com.blockscore.models.Company;
@@ -10,13 +11,17 @@ import com.blockscore.models.WatchlistHit;
 import com.blockscore.models.WatchlistSearchResults;
 
 import org.jetbrains.annotations.NotNull;
+import retrofit.client.Response;
 import retrofit.http.Body;
 import retrofit.http.DELETE;
 import retrofit.http.GET;
+import retrofit.http.Header;
 import retrofit.http.PATCH;
 import retrofit.http.POST;
 import retrofit.http.Path;
+import retrofit.http.Query;
 import retrofit.http.QueryMap;
+import retrofit.http.Streaming;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +35,11 @@ public interface BlockscoreRestAdapter {
   @POST("/people")
   Person createPerson(@NotNull @QueryMap final Map<String, String> options);
 
+  @NotNull
+  @POST("/people")
+  Person createPerson(@NotNull @Header(Constants.IDEMPOTENCY_KEY_HEADER) final String idempotencyKey,
+                      @NotNull @QueryMap final Map<String, String> options);
+
   @NotNull
   @GET("/people/{id}")
   Person retrievePerson(@NotNull @Path("id") String id);
@@ -38,6 +48,15 @@ public interface BlockscoreRestAdapter {
   @GET("/people")
   PaginatedResult<Person> listPeople();
 
+  @NotNull
+  @GET("/people")
+  PaginatedResult<Person> listPeople(@Query("offset") final int offset, @Query("limit") final int limit);
+
+  @NotNull
+  @Streaming
+  @GET("/people")
+  Response streamPeople(@Query("offset") final int offset, @Query("limit") final int limit);
+
   @NotNull
   @POST("/question_sets")
   QuestionSet createQuestionSet(@NotNull @QueryMap final Map<String, String> options);
@@ -56,6 +75,11 @@ public interface BlockscoreRestAdapter {
   @POST("/companies")
   Company createCompany(@NotNull @QueryMap final Map<String, String> options);
 
+  @NotNull
+  @POST("/companies")
+  Company createCompany(@NotNull @Header(Constants.IDEMPOTENCY_KEY_HEADER) final String idempotencyKey,
+                        @NotNull @QueryMap final Map<String, String> options);
+
   @NotNull
   @GET("/companies/{id}")
   Company retrieveCompany(@Path("id") @NotNull final String companyId);
@@ -64,12 +88,26 @@ public interface BlockscoreRestAdapter {
   @GET("/companies")
   PaginatedResult<Company> listCompanies();
 
+  @NotNull
+  @GET("/companies")
+  PaginatedResult<Company> listCompanies(@Query("offset") final int offset, @Query("limit") final int limit);
+
+  @NotNull
+  @Streaming
+  @GET("/companies")
+  Response streamCompanies(@Query("offset") final int offset, @Query("limit") final int limit);
+
 
   // Candidate operations
   @NotNull
   @POST("/candidates")
   Candidate createCandidate(@NotNull @Body final Candidate candidate);
 
+  @NotNull
+  @POST("/candidates")
+  Candidate createCandidate(@NotNull @Header(Constants.IDEMPOTENCY_KEY_HEADER) final String idempotencyKey,
+                            @NotNull @Body final Candidate candidate);
+
   @NotNull
   @GET("/candidates/{id}")
   Candidate retrieveCandidate(@NotNull @Path("id") final String id);
@@ -86,6 +124,15 @@ public interface BlockscoreRestAdapter {
   @GET("/candidates")
   PaginatedResult<Candidate> listCandidates();
 
+  @NotNull
+  @GET("/candidates")
+  PaginatedResult<Candidate> listCandidates(@Query("offset") final int offset, @Query("limit") final int limit);
+
+  @NotNull
+  @Streaming
+  @GET("/candidates")
+  Response streamCandidates(@Query("offset") final int offset, @Query("limit") final int limit);
+
   @NotNull
   @GET("/candidates/{id}/history")
   List<Candidate> getCandidateHistory(@NotNull @Path("id") final String id);
@@ -94,6 +141,19 @@ public interface BlockscoreRestAdapter {
   @GET("/candidates/{id}/hits")
   PaginatedResult<WatchlistHit> getCandidateHits(@NotNull @Path("id") final String id);
 
+  @NotNull
+  @GET("/candidates/{id}/hits")
+  PaginatedResult<WatchlistHit> getCandidateHits(@NotNull @Path("id") final String id,
+                                                 @Query("offset") final int offset,
+                                                 @Query("limit") final int limit);
+
+  @NotNull
+  @Streaming
+  @GET("/candidates/{id}/hits")
+  Response streamCandidateHits(@NotNull @Path("id") final String id,
+                               @Query("offset") final int offset,
+                               @Query("limit") final int limit);
+
   @NotNull
   @POST("/watchlists")
   WatchlistSearchResults searchWatchlists(@NotNull @QueryMap final Map<String, String> options);
@@ -0,0 +1,108 @@
+package com.blockscore.net;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of requests a transport executes concurrently.
+ *
+ * <p>
+ * A request holds its permit until the response body has been read and closed, since the connection
+ * stays in use until then. Responses without a body release it as soon as they are received.
+ */
+class BoundedClient implements Client {
+  private final Client delegate;
+  private final Semaphore permits;
+
+  public BoundedClient(Client delegate, Semaphore permits) {
+    this.delegate = delegate;
+    this.permits = permits;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a free connection slot.");
+    }
+
+    Response response;
+    try {
+      response = delegate.execute(request);
+    } catch (IOException e) {
+      permits.release();
+      throw e;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+
+    if (response.getBody() == null || response.getBody().length() == 0) {
+      permits.release();
+      return response;
+    }
+    return new Response(response.getUrl(), response.getStatus(), response.getReason(), response.getHeaders(),
+                        new BoundedBody(response.getBody()));
+  }
+
+  /**
+   * A response body that gives back its request's permit once closed.
+   */
+  private class BoundedBody implements TypedInput {
+    private final TypedInput body;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    BoundedBody(TypedInput body) {
+      this.body = body;
+    }
+
+    @Override
+    public String mimeType() {
+      return body.mimeType();
+    }
+
+    @Override
+    public long length() {
+      return body.length();
+    }
+
+    @Override
+    public InputStream in() throws IOException {
+      InputStream in;
+      try {
+        in = body.in();
+      } catch (IOException e) {
+        release();
+        throw e;
+      }
+
+      return new FilterInputStream(in) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            release();
+          }
+        }
+      };
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings for the in-process record cache used by {@link BlockscoreApiClient}'s retrieve operations.
+ *
+ * <p>
+ * People and companies are immutable audit snapshots, so they may be cached for a long time.
+ * Candidates can be edited, including by other processes, so they are only cached briefly by default.
+ * Every API client keeps its own caches, so records are never shared between API keys.
+ */
+public class CachePolicy {
+  public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+  public static final long DEFAULT_PERSON_TTL_MILLIS = 60 * 60 * 1000L;
+  public static final long DEFAULT_COMPANY_TTL_MILLIS = 60 * 60 * 1000L;
+  public static final long DEFAULT_CANDIDATE_TTL_MILLIS = 30 * 1000L;
+  public static final long DEFAULT_HISTORY_TTL_MILLIS = 5 * 60 * 1000L;
+
+  private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+  private long personTtlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_PERSON_TTL_MILLIS);
+  private long companyTtlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_COMPANY_TTL_MILLIS);
+  private long candidateTtlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_CANDIDATE_TTL_MILLIS);
+  private long historyTtlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_HISTORY_TTL_MILLIS);
+
+  /**
+   * Sets the maximum number of records cached per record type.
+   *
+   * @param maximumSize  the maximum number of records
+   * @return this
+   */
+  @NotNull
+  public CachePolicy setMaximumSize(final int maximumSize) {
+    this.maximumSize = maximumSize;
+    return this;
+  }
+
+  /**
+   * Sets how long a retrieved person is cached.
+   *
+   * @param ttl  the time to live
+   * @param unit  the unit of the time to live
+   * @return this
+   */
+  @NotNull
+  public CachePolicy setPersonTtl(final long ttl, @NotNull final TimeUnit unit) {
+    this.personTtlNanos = unit.toNanos(ttl);
+    return this;
+  }
+
+  /**
+   * Sets how long a retrieved company is cached.
+   *
+   * @param ttl  the time to live
+   * @param unit  the unit of the time to live
+   * @return this
+   */
+  @NotNull
+  public CachePolicy setCompanyTtl(final long ttl, @NotNull final TimeUnit unit) {
+    this.companyTtlNanos = unit.toNanos(ttl);
+    return this;
+  }
+
+  /**
+   * Sets how long a retrieved candidate is cached.
+   *
+   * @param ttl  the time to live
+   * @param unit  the unit of the time to live
+   * @return this
+   */
+  @NotNull
+  public CachePolicy setCandidateTtl(final long ttl, @NotNull final TimeUnit unit) {
+    this.candidateTtlNanos = unit.toNanos(ttl);
+    return this;
+  }
+
+  /**
+   * Sets how long a candidate's revision history is cached. A cached history is also refreshed as soon as
+   * a newer revision of the candidate is seen, so it may be cached for longer than the candidate itself.
+   *
+   * @param ttl  the time to live
+   * @param unit  the unit of the time to live
+   * @return this
+   */
+  @NotNull
+  public CachePolicy setHistoryTtl(final long ttl, @NotNull final TimeUnit unit) {
+    this.historyTtlNanos = unit.toNanos(ttl);
+    return this;
+  }
+
+  int getMaximumSize() {
+    return maximumSize;
+  }
+
+  long getPersonTtlNanos() {
+    return personTtlNanos;
+  }
+
+  long getCompanyTtlNanos() {
+    return companyTtlNanos;
+  }
+
+  long getCandidateTtlNanos() {
+    return candidateTtlNanos;
+  }
+
+  long getHistoryTtlNanos() {
+    return historyTtlNanos;
+  }
+}
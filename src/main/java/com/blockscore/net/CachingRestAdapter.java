@@ -0,0 +1,161 @@
+package com.blockscore.net;
+
+import com.blockscore.models.Candidate;
+import com.blockscore.models.Company;
+import com.blockscore.models.Person;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Serves retrieve operations from per-type {@link RecordCache}s, falling back to the API on a miss.
+ *
+ * <p>
+ * Cached candidates are handed out as copies, since candidates can be edited by their holders.
+ * Candidate writes go through the cache: creations and updates replace the cached candidate and
+ * deletions evict it. Revision histories are cached alongside, and an update made through this
+ * client is prepended to the cached history instead of causing the whole history to be fetched again.
+ */
+class CachingRestAdapter extends ForwardingRestAdapter {
+  private final RecordCache<Person> personCache;
+  private final RecordCache<Company> companyCache;
+  private final RecordCache<Candidate> candidateCache;
+  private final RecordCache<List<Candidate>> historyCache;
+
+  CachingRestAdapter(BlockscoreRestAdapter delegate, CachePolicy policy) {
+    super(delegate);
+    personCache = new RecordCache<Person>(policy.getMaximumSize(), policy.getPersonTtlNanos());
+    companyCache = new RecordCache<Company>(policy.getMaximumSize(), policy.getCompanyTtlNanos());
+    candidateCache = new RecordCache<Candidate>(policy.getMaximumSize(), policy.getCandidateTtlNanos());
+    historyCache = new RecordCache<List<Candidate>>(policy.getMaximumSize(), policy.getHistoryTtlNanos());
+  }
+
+  RecordCache<Person> getPersonCache() {
+    return personCache;
+  }
+
+  RecordCache<Company> getCompanyCache() {
+    return companyCache;
+  }
+
+  RecordCache<Candidate> getCandidateCache() {
+    return candidateCache;
+  }
+
+  RecordCache<List<Candidate>> getHistoryCache() {
+    return historyCache;
+  }
+
+  @Override
+  public Person retrievePerson(String id) {
+    Person person = personCache.get(id);
+    if (person == null) {
+      person = delegate().retrievePerson(id);
+      personCache.put(id, person);
+    }
+    return person;
+  }
+
+  @Override
+  public Company retrieveCompany(String companyId) {
+    Company company = companyCache.get(companyId);
+    if (company == null) {
+      company = delegate().retrieveCompany(companyId);
+      companyCache.put(companyId, company);
+    }
+    return company;
+  }
+
+  @Override
+  public Candidate retrieveCandidate(String id) {
+    Candidate candidate = candidateCache.get(id);
+    if (candidate == null) {
+      candidate = delegate().retrieveCandidate(id);
+      candidateCache.put(id, candidate.copy());
+      return candidate;
+    }
+    return candidate.copy();
+  }
+
+  @Override
+  public Candidate createCandidate(Candidate candidate) {
+    return cacheCandidate(delegate().createCandidate(candidate));
+  }
+
+  @Override
+  public Candidate createCandidate(String idempotencyKey, Candidate candidate) {
+    return cacheCandidate(delegate().createCandidate(idempotencyKey, candidate));
+  }
+
+  @Override
+  public Candidate updateCandidate(String id, Candidate candidate) {
+    Candidate updated = delegate().updateCandidate(id, candidate);
+    candidateCache.put(id, updated.copy());
+
+    synchronized (historyCache) {
+      List<Candidate> history = historyCache.get(id);
+      if (history != null) {
+        if (isNewer(updated, history.get(0))) {
+          List<Candidate> extended = new ArrayList<Candidate>(history.size() + 1);
+          extended.add(updated.copy());
+          extended.addAll(history);
+          historyCache.put(id, extended);
+        } else {
+          historyCache.invalidate(id);
+        }
+      }
+    }
+    return updated;
+  }
+
+  @Override
+  public Candidate deleteCandidate(String id) {
+    try {
+      return delegate().deleteCandidate(id);
+    } finally {
+      candidateCache.invalidate(id);
+      historyCache.invalidate(id);
+    }
+  }
+
+  @Override
+  public List<Candidate> getCandidateHistory(String id) {
+    List<Candidate> history = historyCache.get(id);
+    if (history == null || isStale(id, history)) {
+      history = delegate().getCandidateHistory(id);
+      if (history.isEmpty()) {
+        return history;
+      }
+      historyCache.put(id, copyAll(history));
+      return history;
+    }
+    return copyAll(history);
+  }
+
+  private Candidate cacheCandidate(Candidate candidate) {
+    candidateCache.put(candidate.getId(), candidate.copy());
+    return candidate;
+  }
+
+  /**
+   * A cached history is stale if a newer revision of the candidate has been seen since it was cached.
+   */
+  private boolean isStale(String id, List<Candidate> history) {
+    Candidate latest = candidateCache.peek(id);
+    return latest != null && isNewer(latest, history.get(0));
+  }
+
+  private static boolean isNewer(Candidate candidate, Candidate than) {
+    Date updatedAt = candidate.getUpdatedAtDate();
+    return updatedAt.after(than.getUpdatedAtDate());
+  }
+
+  private static List<Candidate> copyAll(List<Candidate> candidates) {
+    List<Candidate> copies = new ArrayList<Candidate>(candidates.size());
+    for (Candidate candidate : candidates) {
+      copies.add(candidate.copy());
+    }
+    return copies;
+  }
+}
@@ -0,0 +1,320 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A circuit breaker guarding the Blockscore API.
+ *
+ * <p>
+ * While closed, the outcome of the most recent calls is recorded in a sliding window. Once the window
+ * holds enough calls and either the share of failed calls (network errors and 5xx responses) or the
+ * share of slow calls reaches its threshold, the breaker opens and every call fails immediately with a
+ * {@link com.blockscore.exceptions.CircuitBreakerOpenException}. After the open duration a limited number
+ * of probe calls are let through: if they all succeed the breaker closes, otherwise it opens again.
+ */
+public class CircuitBreaker {
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+  public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0;
+  public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 10 * 1000L;
+  public static final int DEFAULT_WINDOW_SIZE = 100;
+  public static final int DEFAULT_MINIMUM_CALLS = 20;
+  public static final long DEFAULT_OPEN_DURATION_MILLIS = 30 * 1000L;
+  public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+  private static final int OUTCOME_FAILED = 1;
+  private static final int OUTCOME_SLOW = 2;
+
+  /**
+   * The states of a circuit breaker.
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  /**
+   * Receives circuit breaker state transitions.
+   */
+  public interface Listener {
+    /**
+     * Invoked after the breaker changed state.
+     *
+     * @param from  the previous state
+     * @param to  the new state
+     */
+    void onStateChange(@NotNull State from, @NotNull State to);
+  }
+
+  /**
+   * The answer to a request for permission to make a call. A granted permit is tied to the state the
+   * breaker was in when it was granted, so that the outcome of a call still in flight after the breaker
+   * changed state is not taken for the outcome of a call made in the new state.
+   */
+  static final class Permit {
+    private final long generation;
+    private final long waitMillis;
+
+    private Permit(long generation, long waitMillis) {
+      this.generation = generation;
+      this.waitMillis = waitMillis;
+    }
+
+    boolean isGranted() {
+      return waitMillis == 0;
+    }
+
+    /**
+     * Gets the time until a refused call may be tried again.
+     *
+     * @return the time in milliseconds, or 0 if the call was permitted
+     */
+    long getWaitMillis() {
+      return waitMillis;
+    }
+  }
+
+  private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+  private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+  private long slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_CALL_DURATION_MILLIS);
+  private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+  private long openDurationNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_OPEN_DURATION_MILLIS);
+  private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+
+  private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+
+  private int[] window = new int[DEFAULT_WINDOW_SIZE];
+  private int windowCount;
+  private int windowIndex;
+  private int failedCount;
+  private int slowCount;
+
+  private State state = State.CLOSED;
+  private long generation;
+  private long openedAtNanos;
+  private int probesStarted;
+  private int probesSucceeded;
+
+  /**
+   * Sets the share of failed calls at which the breaker opens.
+   *
+   * @param threshold  the failure rate, greater than 0 and at most 1
+   * @return this
+   */
+  @NotNull
+  public synchronized CircuitBreaker setFailureRateThreshold(final double threshold) {
+    checkRate(threshold);
+    this.failureRateThreshold = threshold;
+    return this;
+  }
+
+  /**
+   * Sets the share of slow calls at which the breaker opens.
+   *
+   * @param threshold  the slow call rate, greater than 0 and at most 1
+   * @param slowCallDuration  the duration above which a call counts as slow
+   * @param unit  the unit of the duration
+   * @return this
+   */
+  @NotNull
+  public synchronized CircuitBreaker setSlowCallRateThreshold(final double threshold,
+                                                              final long slowCallDuration,
+                                                              @NotNull final TimeUnit unit) {
+    checkRate(threshold);
+    this.slowCallRateThreshold = threshold;
+    this.slowCallDurationNanos = unit.toNanos(slowCallDuration);
+    return this;
+  }
+
+  /**
+   * Sets the number of recent calls the rates are computed over, and how many calls must be recorded
+   * before the breaker may open.
+   *
+   * @param windowSize  the number of calls in the sliding window
+   * @param minimumCalls  the number of calls needed before the rates are evaluated
+   * @return this
+   */
+  @NotNull
+  public synchronized CircuitBreaker setWindow(final int windowSize, final int minimumCalls) {
+    if (windowSize < 1 || minimumCalls > windowSize) {
+      throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+    }
+    this.window = new int[windowSize];
+    this.minimumCalls = minimumCalls;
+    resetWindow();
+    return this;
+  }
+
+  /**
+   * Sets how long the breaker stays open before probing the API again.
+   *
+   * @param duration  the open duration
+   * @param unit  the unit of the duration
+   * @return this
+   */
+  @NotNull
+  public synchronized CircuitBreaker setOpenDuration(final long duration, @NotNull final TimeUnit unit) {
+    this.openDurationNanos = unit.toNanos(duration);
+    return this;
+  }
+
+  /**
+   * Sets the number of probe calls that must succeed in the half-open state to close the breaker.
+   *
+   * @param halfOpenProbes  the number of probe calls, at least 1
+   * @return this
+   */
+  @NotNull
+  public synchronized CircuitBreaker setHalfOpenProbes(final int halfOpenProbes) {
+    if (halfOpenProbes < 1) {
+      throw new IllegalArgumentException("halfOpenProbes must be at least 1");
+    }
+    this.halfOpenProbes = halfOpenProbes;
+    return this;
+  }
+
+  /**
+   * Registers a listener for state transitions. Listeners are invoked on the thread whose call caused
+   * the transition.
+   *
+   * @param listener  the listener
+   */
+  public void addListener(@NotNull final Listener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Gets the current state.
+   *
+   * @return the state
+   */
+  @NotNull
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Asks for permission to make a call.
+   *
+   * @return the permit to pass to {@link #onCallComplete} if it was granted
+   */
+  @NotNull
+  Permit tryAcquirePermission() {
+    Permit permit;
+    synchronized (this) {
+      switch (state) {
+        case CLOSED:
+          return new Permit(generation, 0L);
+        case OPEN:
+          long remainingNanos = openedAtNanos + openDurationNanos - System.nanoTime();
+          if (remainingNanos > 0) {
+            return new Permit(generation, Math.max(1L, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+          }
+          transitionTo(State.HALF_OPEN);
+          probesStarted = 1;
+          permit = new Permit(generation, 0L);
+          break;
+        case HALF_OPEN:
+          if (probesStarted >= halfOpenProbes) {
+            return new Permit(generation, Math.max(1L, TimeUnit.NANOSECONDS.toMillis(openDurationNanos)));
+          }
+          probesStarted++;
+          return new Permit(generation, 0L);
+        default:
+          return new Permit(generation, 0L);
+      }
+    }
+
+    notifyListeners(State.OPEN, State.HALF_OPEN);
+    return permit;
+  }
+
+  /**
+   * Records the outcome of a permitted call. Outcomes of calls permitted before the breaker last changed
+   * state are ignored.
+   *
+   * @param permit  the permit the call was made with
+   * @param failed  whether the call failed
+   * @param durationNanos  how long the call took
+   */
+  void onCallComplete(@NotNull final Permit permit, final boolean failed, final long durationNanos) {
+    State previous;
+    State current;
+    synchronized (this) {
+      if (permit.generation != generation) {
+        return;
+      }
+
+      previous = state;
+      if (state == State.HALF_OPEN) {
+        if (failed) {
+          open();
+        } else if (++probesSucceeded >= halfOpenProbes) {
+          transitionTo(State.CLOSED);
+          resetWindow();
+        }
+      } else if (state == State.CLOSED) {
+        record(failed, durationNanos >= slowCallDurationNanos);
+        if (windowCount >= minimumCalls
+            && (failedCount >= failureRateThreshold * windowCount
+                || slowCount >= slowCallRateThreshold * windowCount)) {
+          open();
+        }
+      }
+      current = state;
+    }
+
+    if (previous != current) {
+      notifyListeners(previous, current);
+    }
+  }
+
+  private void record(boolean failed, boolean slow) {
+    int outcome = (failed ? OUTCOME_FAILED : 0) | (slow ? OUTCOME_SLOW : 0);
+    if (windowCount == window.length) {
+      int evicted = window[windowIndex];
+      failedCount -= evicted & OUTCOME_FAILED;
+      slowCount -= (evicted & OUTCOME_SLOW) >> 1;
+    } else {
+      windowCount++;
+    }
+
+    window[windowIndex] = outcome;
+    windowIndex = (windowIndex + 1) % window.length;
+    failedCount += outcome & OUTCOME_FAILED;
+    slowCount += (outcome & OUTCOME_SLOW) >> 1;
+  }
+
+  private void open() {
+    transitionTo(State.OPEN);
+    openedAtNanos = System.nanoTime();
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    generation++;
+    probesStarted = 0;
+    probesSucceeded = 0;
+  }
+
+  private static void checkRate(double rate) {
+    if (!(rate > 0 && rate <= 1)) {
+      throw new IllegalArgumentException("rate thresholds must be greater than 0 and at most 1");
+    }
+  }
+
+  private void resetWindow() {
+    windowCount = 0;
+    windowIndex = 0;
+    failedCount = 0;
+    slowCount = 0;
+  }
+
+  private void notifyListeners(State from, State to) {
+    for (Listener listener : listeners) {
+      listener.onStateChange(from, to);
+    }
+  }
+}
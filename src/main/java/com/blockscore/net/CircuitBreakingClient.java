@@ -0,0 +1,40 @@
+package com.blockscore.net;
+
+import com.blockscore.exceptions.CircuitBreakerOpenException;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+
+/**
+ * Sends requests through a {@link CircuitBreaker}, failing fast while it is open.
+ */
+class CircuitBreakingClient implements Client {
+  private final Client delegate;
+  private final CircuitBreaker circuitBreaker;
+
+  public CircuitBreakingClient(Client delegate, CircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    CircuitBreaker.Permit permit = circuitBreaker.tryAcquirePermission();
+    if (!permit.isGranted()) {
+      throw new CircuitBreakerOpenException(permit.getWaitMillis());
+    }
+
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      Response response = delegate.execute(request);
+      failed = response.getStatus() >= 500;
+      return response;
+    } finally {
+      circuitBreaker.onCallComplete(permit, failed, System.nanoTime() - start);
+    }
+  }
+}
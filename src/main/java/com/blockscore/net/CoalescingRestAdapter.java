@@ -0,0 +1,144 @@
+package com.blockscore.net;
+
+import com.blockscore.models.Candidate;
+import com.blockscore.models.Company;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.Person;
+import com.blockscore.models.WatchlistHit;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent identical reads into a single request whose result is shared by every caller
+ * that asked while it was in flight.
+ *
+ * <p>
+ * Only reads are coalesced, and only while in flight; nothing is remembered once the request
+ * completes. Callers that joined an in-flight candidate retrieval receive their own copy, since
+ * candidates can be edited by their holders.
+ */
+class CoalescingRestAdapter extends ForwardingRestAdapter {
+  private final ConcurrentMap<String, FutureTask<Object>> inFlight =
+      new ConcurrentHashMap<String, FutureTask<Object>>();
+  private final AtomicLong coalescedCount = new AtomicLong();
+
+  CoalescingRestAdapter(BlockscoreRestAdapter delegate) {
+    super(delegate);
+  }
+
+  /**
+   * Gets the number of calls that were answered by another caller's in-flight request.
+   *
+   * @return the coalesced call count
+   */
+  long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  @Override
+  public Person retrievePerson(final String id) {
+    return coalesce("person:" + id, new Callable<Person>() {
+      @Override
+      public Person call() {
+        return delegate().retrievePerson(id);
+      }
+    }).result;
+  }
+
+  @Override
+  public Company retrieveCompany(final String companyId) {
+    return coalesce("company:" + companyId, new Callable<Company>() {
+      @Override
+      public Company call() {
+        return delegate().retrieveCompany(companyId);
+      }
+    }).result;
+  }
+
+  @Override
+  public Candidate retrieveCandidate(final String id) {
+    Shared<Candidate> shared = coalesce("candidate:" + id, new Callable<Candidate>() {
+      @Override
+      public Candidate call() {
+        return delegate().retrieveCandidate(id);
+      }
+    });
+    return shared.leader ? shared.result : shared.result.copy();
+  }
+
+  @Override
+  public PaginatedResult<WatchlistHit> getCandidateHits(final String id) {
+    return coalesce("hits:" + id, new Callable<PaginatedResult<WatchlistHit>>() {
+      @Override
+      public PaginatedResult<WatchlistHit> call() {
+        return delegate().getCandidateHits(id);
+      }
+    }).result;
+  }
+
+  @Override
+  public PaginatedResult<WatchlistHit> getCandidateHits(final String id, final int offset, final int limit) {
+    return coalesce("hits:" + id + ':' + offset + ':' + limit, new Callable<PaginatedResult<WatchlistHit>>() {
+      @Override
+      public PaginatedResult<WatchlistHit> call() {
+        return delegate().getCandidateHits(id, offset, limit);
+      }
+    }).result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Shared<T> coalesce(String key, final Callable<T> call) {
+    FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+      @Override
+      public Object call() throws Exception {
+        return call.call();
+      }
+    });
+
+    FutureTask<Object> existing = inFlight.putIfAbsent(key, task);
+    boolean leader = existing == null;
+    if (leader) {
+      existing = task;
+      try {
+        task.run();
+      } finally {
+        inFlight.remove(key, task);
+      }
+    } else {
+      coalescedCount.incrementAndGet();
+    }
+
+    try {
+      return new Shared<T>((T) existing.get(), leader);
+    } catch (ExecutionException e) {
+      throw propagate(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static RuntimeException propagate(Throwable cause) {
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new RuntimeException(cause);
+  }
+
+  private static class Shared<T> {
+    private final T result;
+    private final boolean leader;
+
+    Shared(T result, boolean leader) {
+      this.result = result;
+      this.leader = leader;
+    }
+  }
+}
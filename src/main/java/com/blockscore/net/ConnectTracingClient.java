@@ -0,0 +1,47 @@
+package com.blockscore.net;
+
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+import com.blockscore.tracing.Tracer;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+
+/**
+ * Starts the connect span of every attempt, which {@link TracingInterceptor} ends once OkHttp has
+ * acquired a connection. Wraps the transport directly, so that retries and waits for a free slot are
+ * not counted as connecting.
+ */
+class ConnectTracingClient implements Client {
+  private final Client delegate;
+  private final Tracer tracer;
+
+  public ConnectTracingClient(Client delegate, Tracer tracer) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    Span callSpan = TraceContext.current();
+    if (callSpan != null) {
+      TracingInterceptor.beginConnect(tracer.startSpan(TracingInterceptor.CONNECT_SPAN, callSpan));
+    }
+
+    Throwable error = null;
+    try {
+      return delegate.execute(request);
+    } catch (IOException e) {
+      error = e;
+      throw e;
+    } catch (RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      TracingInterceptor.endConnect(error);
+    }
+  }
+}
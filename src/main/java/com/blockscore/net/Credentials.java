@@ -0,0 +1,67 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.UnsupportedEncodingException;
+
+import javax.xml.bind.DatatypeConverter;
+
+/**
+ * An API key along with its encoded Authorization header, which is computed once rather than per
+ * request.
+ */
+public final class Credentials {
+  private static final String TEST_KEY_PREFIX = "sk_test_";
+
+  private final String apiKey;
+  private final String authorization;
+
+  /**
+   * Creates credentials for an API key.
+   *
+   * @param apiKey  the Blockscore API key
+   */
+  public Credentials(@NotNull final String apiKey) {
+    this.apiKey = apiKey;
+    this.authorization = encodeAuthorization(apiKey);
+  }
+
+  /**
+   * Gets the API key.
+   *
+   * @return the API key
+   */
+  @NotNull
+  public String getApiKey() {
+    return apiKey;
+  }
+
+  /**
+   * Checks whether the API key belongs to test mode rather than live mode.
+   *
+   * @return true if the key is a test key
+   */
+  public boolean isTestMode() {
+    return apiKey.startsWith(TEST_KEY_PREFIX);
+  }
+
+  @NotNull
+  String getAuthorization() {
+    return authorization;
+  }
+
+  /**
+   * Encodes an API key for Basic authentication.
+   *
+   * @param apiKey  the API key
+   * @return the value of the Authorization header
+   */
+  @NotNull
+  private static String encodeAuthorization(@NotNull final String apiKey) {
+    try {
+      return "Basic " + DatatypeConverter.printBase64Binary((apiKey + ":").getBytes("UTF-8"));
+    } catch (UnsupportedEncodingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Supplies the credentials an API client authenticates with.
+ *
+ * <p>
+ * The provider is consulted once per request, on the requesting thread, so it must be thread safe and
+ * fast; return a {@link Credentials} built ahead of time rather than creating one per call. Records
+ * cached by a client are not invalidated when its credentials change, so a provider should only
+ * rotate between keys of the same account and mode.
+ */
+public interface CredentialsProvider {
+  /**
+   * Gets the credentials for the next request.
+   *
+   * @return the current credentials
+   */
+  @NotNull
+  Credentials getCredentials();
+}
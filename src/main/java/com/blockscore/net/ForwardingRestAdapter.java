@@ -0,0 +1,171 @@
+package com.blockscore.net;
+
+import com.blockscore.models.AnswerSet;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.Company;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.Person;
+import com.blockscore.models.QuestionSet;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.models.WatchlistSearchResults;
+
+import retrofit.client.Response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link BlockscoreRestAdapter} that forwards every operation to another adapter. Subclasses
+ * override the operations they decorate.
+ */
+abstract class ForwardingRestAdapter implements BlockscoreRestAdapter {
+  private final BlockscoreRestAdapter delegate;
+
+  ForwardingRestAdapter(BlockscoreRestAdapter delegate) {
+    this.delegate = delegate;
+  }
+
+  BlockscoreRestAdapter delegate() {
+    return delegate;
+  }
+
+  @Override
+  public Person createPerson(Map<String, String> options) {
+    return delegate.createPerson(options);
+  }
+
+  @Override
+  public Person createPerson(String idempotencyKey, Map<String, String> options) {
+    return delegate.createPerson(idempotencyKey, options);
+  }
+
+  @Override
+  public Person retrievePerson(String id) {
+    return delegate.retrievePerson(id);
+  }
+
+  @Override
+  public PaginatedResult<Person> listPeople() {
+    return delegate.listPeople();
+  }
+
+  @Override
+  public PaginatedResult<Person> listPeople(int offset, int limit) {
+    return delegate.listPeople(offset, limit);
+  }
+
+  @Override
+  public Response streamPeople(int offset, int limit) {
+    return delegate.streamPeople(offset, limit);
+  }
+
+  @Override
+  public QuestionSet createQuestionSet(Map<String, String> options) {
+    return delegate.createQuestionSet(options);
+  }
+
+  @Override
+  public QuestionSet scoreQuestionSet(String questionSetId, AnswerSet answers) {
+    return delegate.scoreQuestionSet(questionSetId, answers);
+  }
+
+  @Override
+  public QuestionSet retrieveQuestionSet(String questionSetId) {
+    return delegate.retrieveQuestionSet(questionSetId);
+  }
+
+  @Override
+  public Company createCompany(Map<String, String> options) {
+    return delegate.createCompany(options);
+  }
+
+  @Override
+  public Company createCompany(String idempotencyKey, Map<String, String> options) {
+    return delegate.createCompany(idempotencyKey, options);
+  }
+
+  @Override
+  public Company retrieveCompany(String companyId) {
+    return delegate.retrieveCompany(companyId);
+  }
+
+  @Override
+  public PaginatedResult<Company> listCompanies() {
+    return delegate.listCompanies();
+  }
+
+  @Override
+  public PaginatedResult<Company> listCompanies(int offset, int limit) {
+    return delegate.listCompanies(offset, limit);
+  }
+
+  @Override
+  public Response streamCompanies(int offset, int limit) {
+    return delegate.streamCompanies(offset, limit);
+  }
+
+  @Override
+  public Candidate createCandidate(Candidate candidate) {
+    return delegate.createCandidate(candidate);
+  }
+
+  @Override
+  public Candidate createCandidate(String idempotencyKey, Candidate candidate) {
+    return delegate.createCandidate(idempotencyKey, candidate);
+  }
+
+  @Override
+  public Candidate retrieveCandidate(String id) {
+    return delegate.retrieveCandidate(id);
+  }
+
+  @Override
+  public Candidate updateCandidate(String id, Candidate candidate) {
+    return delegate.updateCandidate(id, candidate);
+  }
+
+  @Override
+  public Candidate deleteCandidate(String id) {
+    return delegate.deleteCandidate(id);
+  }
+
+  @Override
+  public PaginatedResult<Candidate> listCandidates() {
+    return delegate.listCandidates();
+  }
+
+  @Override
+  public PaginatedResult<Candidate> listCandidates(int offset, int limit) {
+    return delegate.listCandidates(offset, limit);
+  }
+
+  @Override
+  public Response streamCandidates(int offset, int limit) {
+    return delegate.streamCandidates(offset, limit);
+  }
+
+  @Override
+  public List<Candidate> getCandidateHistory(String id) {
+    return delegate.getCandidateHistory(id);
+  }
+
+  @Override
+  public PaginatedResult<WatchlistHit> getCandidateHits(String id) {
+    return delegate.getCandidateHits(id);
+  }
+
+  @Override
+  public PaginatedResult<WatchlistHit> getCandidateHits(String id, int offset, int limit) {
+    return delegate.getCandidateHits(id, offset, limit);
+  }
+
+  @Override
+  public Response streamCandidateHits(String id, int offset, int limit) {
+    return delegate.streamCandidateHits(id, offset, limit);
+  }
+
+  @Override
+  public WatchlistSearchResults searchWatchlists(Map<String, String> options) {
+    return delegate.searchWatchlists(options);
+  }
+}
@@ -0,0 +1,124 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks creation requests by idempotency key so that each key is sent to the API at most once at a
+ * time and its result is reused afterwards.
+ *
+ * <p>
+ * A call made with a key that is already in flight waits for the original call and shares its result,
+ * which makes hedged or concurrently retried creations safe. A call made with a key that already
+ * completed returns the remembered result without another request. Failed calls are forgotten, so
+ * they can be retried with the same key and the API will de-duplicate them. The most recent
+ * {@code maxCompletedKeys} results are remembered.
+ */
+public class IdempotencyKeyTable {
+  public static final int DEFAULT_MAX_COMPLETED_KEYS = 10000;
+
+  private final ConcurrentMap<String, FutureTask<Object>> entries =
+      new ConcurrentHashMap<String, FutureTask<Object>>();
+  private final ConcurrentLinkedQueue<String> completedKeys = new ConcurrentLinkedQueue<String>();
+  private final AtomicInteger completedCount = new AtomicInteger();
+  private final int maxCompletedKeys;
+
+  public IdempotencyKeyTable() {
+    this(DEFAULT_MAX_COMPLETED_KEYS);
+  }
+
+  /**
+   * Creates a table remembering a bounded number of completed keys.
+   *
+   * @param maxCompletedKeys  the number of completed results to remember
+   */
+  public IdempotencyKeyTable(final int maxCompletedKeys) {
+    this.maxCompletedKeys = maxCompletedKeys;
+  }
+
+  /**
+   * Generates a new random idempotency key.
+   *
+   * @return the key
+   */
+  @NotNull
+  public static String generateKey() {
+    return UUID.randomUUID().toString();
+  }
+
+  /**
+   * Runs a call at most once per key.
+   *
+   * @param key  the idempotency key identifying the call
+   * @param call  the call, only run if no call with the same key is in flight or remembered
+   * @param <T>  the type of the call's result
+   * @return the result of the call, or of the earlier call made with the same key
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(@NotNull final String key, @NotNull final Callable<T> call) {
+    FutureTask<Object> task = new FutureTask<Object>(new Callable<Object>() {
+      @Override
+      public Object call() throws Exception {
+        return call.call();
+      }
+    });
+
+    FutureTask<Object> existing = entries.putIfAbsent(key, task);
+    if (existing == null) {
+      existing = task;
+      task.run();
+    }
+
+    try {
+      T result = (T) existing.get();
+      if (existing == task) {
+        remember(key);
+      }
+      return result;
+    } catch (ExecutionException e) {
+      entries.remove(key, existing);
+      throw propagate(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Indicates whether a call with the given key is in flight or has completed and is remembered.
+   *
+   * @param key  the idempotency key
+   * @return true if the key is known
+   */
+  public boolean contains(@NotNull final String key) {
+    return entries.containsKey(key);
+  }
+
+  private void remember(String key) {
+    completedKeys.add(key);
+    if (completedCount.incrementAndGet() > maxCompletedKeys) {
+      String oldest = completedKeys.poll();
+      if (oldest != null) {
+        entries.remove(oldest);
+        completedCount.decrementAndGet();
+      }
+    }
+  }
+
+  private static RuntimeException propagate(Throwable cause) {
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new RuntimeException(cause);
+  }
+}
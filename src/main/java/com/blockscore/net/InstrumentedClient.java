@@ -0,0 +1,72 @@
+package com.blockscore.net;
+
+import com.blockscore.metrics.ClientMetrics;
+import com.blockscore.models.error.BlockscoreErrorType;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.IOException;
+
+/**
+ * Reports the route, outcome, latency and size of every request to a {@link ClientMetrics}.
+ *
+ * <p>
+ * Requests are reported under their {@link Routes route}. Client errors are reported as
+ * {@link BlockscoreErrorType#INVALID}, server errors as {@link BlockscoreErrorType#API}, and requests
+ * that received no response as {@link BlockscoreErrorType#UNKNOWN}.
+ */
+class InstrumentedClient implements Client {
+  private final Client delegate;
+  private final ClientMetrics metrics;
+  private final String endpoint;
+
+  public InstrumentedClient(Client delegate, ClientMetrics metrics, String endpoint) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+    this.endpoint = Routes.trimEndpoint(endpoint);
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    String route = route(request.getMethod(), request.getUrl());
+    metrics.onRequestStarted(route);
+
+    long start = System.nanoTime();
+    int status = 0;
+    BlockscoreErrorType errorType = BlockscoreErrorType.UNKNOWN;
+    long bytesReceived = 0;
+    try {
+      Response response = delegate.execute(request);
+      status = response.getStatus();
+      errorType = errorType(status);
+      bytesReceived = length(response.getBody());
+      return response;
+    } finally {
+      metrics.onRequestCompleted(route, status, errorType, System.nanoTime() - start,
+                                 length(request.getBody()), bytesReceived);
+    }
+  }
+
+  String route(String method, String url) {
+    return Routes.of(endpoint, method, url);
+  }
+
+  private static BlockscoreErrorType errorType(int status) {
+    if (status < 400) {
+      return null;
+    }
+    return status < 500 ? BlockscoreErrorType.INVALID : BlockscoreErrorType.API;
+  }
+
+  private static long length(TypedOutput body) {
+    return body == null ? 0 : Math.max(0, body.length());
+  }
+
+  private static long length(TypedInput body) {
+    return body == null ? 0 : Math.max(0, body.length());
+  }
+}
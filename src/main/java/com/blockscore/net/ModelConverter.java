@@ -0,0 +1,147 @@
+package com.blockscore.net;
+
+import com.blockscore.models.error.BlockscoreError;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import retrofit.client.Response;
+import retrofit.converter.ConversionException;
+import retrofit.converter.Converter;
+import retrofit.http.Body;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedInput;
+import retrofit.mime.TypedOutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A Jackson converter shared by every API client.
+ *
+ * <p>
+ * All clients use one pre-configured {@link ObjectMapper}. An {@link ObjectReader} is kept for each
+ * response type and an {@link ObjectWriter} for each request body type, so that types are resolved
+ * once rather than on every call. Readers and writers for every type used by
+ * {@link BlockscoreRestAdapter} are built when this class is loaded.
+ */
+final class ModelConverter implements Converter {
+  private static final String MIME_TYPE = "application/json; charset=UTF-8";
+  private static final ModelConverter INSTANCE = new ModelConverter();
+
+  private final ObjectMapper mapper;
+  private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<Type, ObjectReader>();
+  private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+  private ModelConverter() {
+    mapper = new ObjectMapper();
+    mapper.setVisibilityChecker(mapper.getSerializationConfig()
+                                        .getDefaultVisibilityChecker()
+                                        .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                                        .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                                        .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
+                                        .withCreatorVisibility(JsonAutoDetect.Visibility.NONE));
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+
+    warm();
+  }
+
+  /**
+   * Gets the converter shared by every API client.
+   *
+   * @return the shared converter
+   */
+  static ModelConverter getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public Object fromBody(TypedInput body, Type type) throws ConversionException {
+    InputStream in = null;
+    try {
+      in = body.in();
+      return readerFor(type).readValue(in);
+    } catch (IOException e) {
+      throw new ConversionException(e);
+    } finally {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException ignored) {
+          // Nothing left to read.
+        }
+      }
+    }
+  }
+
+  @Override
+  public TypedOutput toBody(Object object) {
+    try {
+      return new TypedByteArray(MIME_TYPE, writerFor(object.getClass()).writeValueAsBytes(object));
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  JsonParser createParser(InputStream in) throws IOException {
+    return mapper.getFactory().createParser(in);
+  }
+
+  ObjectReader readerFor(Type type) {
+    ObjectReader reader = readers.get(type);
+    if (reader == null) {
+      reader = mapper.reader(mapper.getTypeFactory().constructType(type));
+      ObjectReader existing = readers.putIfAbsent(type, reader);
+      if (existing != null) {
+        reader = existing;
+      }
+    }
+    return reader;
+  }
+
+  ObjectWriter writerFor(Class<?> type) {
+    ObjectWriter writer = writers.get(type);
+    if (writer == null) {
+      writer = mapper.writerWithType(type);
+      ObjectWriter existing = writers.putIfAbsent(type, writer);
+      if (existing != null) {
+        writer = existing;
+      }
+    }
+    return writer;
+  }
+
+  /**
+   * Builds readers for every response type and writers for every request body type of the API, along
+   * with the reader used for error responses. Streamed responses are decoded by {@link StreamingPage}.
+   */
+  private void warm() {
+    readerFor(BlockscoreError.class);
+
+    for (Method method : BlockscoreRestAdapter.class.getMethods()) {
+      if (method.getReturnType() != Response.class) {
+        readerFor(method.getGenericReturnType());
+      }
+
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+      for (int i = 0; i < parameterTypes.length; i++) {
+        for (Annotation annotation : parameterAnnotations[i]) {
+          if (annotation instanceof Body) {
+            writerFor(parameterTypes[i]);
+          }
+        }
+      }
+    }
+  }
+}
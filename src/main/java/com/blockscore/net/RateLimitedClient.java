@@ -0,0 +1,39 @@
+package com.blockscore.net;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * Sends requests through a {@link RateLimiter} and reports throttling responses back to it.
+ */
+class RateLimitedClient implements Client {
+  private final Client delegate;
+  private final RateLimiter rateLimiter;
+
+  public RateLimitedClient(Client delegate, RateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the rate limiter.");
+    }
+
+    Response response = delegate.execute(request);
+    if (response.getStatus() == Responses.TOO_MANY_REQUESTS) {
+      rateLimiter.onThrottled(Responses.retryAfterMillis(response));
+    } else if (response.getStatus() < 500) {
+      rateLimiter.onAccepted();
+    }
+    return response;
+  }
+}
@@ -0,0 +1,30 @@
+package com.blockscore.net;
+
+/**
+ * Throttles requests sent to the Blockscore API.
+ *
+ * <p>
+ * A rate limiter is consulted before every request made by the clients it is configured on (see
+ * {@link BlockscoreClientConfig#setRateLimiter(RateLimiter)}) and is told how the API responded, so
+ * implementations must be safe for use from many threads at once.
+ */
+public interface RateLimiter {
+  /**
+   * Blocks until a request may be sent.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void acquire() throws InterruptedException;
+
+  /**
+   * Notifies the limiter that the API rejected a request for exceeding its rate limit.
+   *
+   * @param retryAfterMillis  how long the API asked clients to wait, or 0 if it did not say
+   */
+  void onThrottled(long retryAfterMillis);
+
+  /**
+   * Notifies the limiter that a request was accepted.
+   */
+  void onAccepted();
+}
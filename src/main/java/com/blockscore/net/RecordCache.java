@@ -0,0 +1,163 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded, least recently used cache of records keyed by record ID, with a fixed time to live.
+ */
+public class RecordCache<V> {
+  private final long ttlNanos;
+  private final LinkedHashMap<String, CachedRecord<V>> entries;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  RecordCache(final int maximumSize, final long ttlNanos) {
+    this.ttlNanos = ttlNanos;
+    this.entries = new LinkedHashMap<String, CachedRecord<V>>() {
+      private static final long serialVersionUID = 0L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedRecord<V>> eldest) {
+        if (size() > maximumSize) {
+          evictionCount.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Gets a cached record.
+   *
+   * @param id  the record ID
+   * @return the record, or null if it is not cached or has expired
+   */
+  @Nullable
+  public V get(@NotNull final String id) {
+    synchronized (entries) {
+      CachedRecord<V> entry = entries.get(id);
+      if (entry != null && System.nanoTime() - entry.expiresAtNanos >= 0) {
+        entries.remove(id);
+        evictionCount.incrementAndGet();
+        entry = null;
+      }
+
+      if (entry == null) {
+        missCount.incrementAndGet();
+        return null;
+      }
+
+      // Moves the record to the most recently used end
+      entries.remove(id);
+      entries.put(id, entry);
+      hitCount.incrementAndGet();
+      return entry.value;
+    }
+  }
+
+  /**
+   * Gets a cached record without counting the lookup or marking the record as recently used.
+   *
+   * @param id  the record ID
+   * @return the record, or null if it is not cached or has expired
+   */
+  @Nullable
+  V peek(@NotNull final String id) {
+    synchronized (entries) {
+      CachedRecord<V> entry = entries.get(id);
+      if (entry == null || System.nanoTime() - entry.expiresAtNanos >= 0) {
+        return null;
+      }
+      return entry.value;
+    }
+  }
+
+  /**
+   * Caches a record, replacing any record cached under the same ID.
+   *
+   * @param id  the record ID
+   * @param value  the record
+   */
+  public void put(@NotNull final String id, @NotNull final V value) {
+    synchronized (entries) {
+      entries.remove(id);
+      entries.put(id, new CachedRecord<V>(value, System.nanoTime() + ttlNanos));
+    }
+  }
+
+  /**
+   * Removes a record from the cache.
+   *
+   * @param id  the record ID
+   */
+  public void invalidate(@NotNull final String id) {
+    synchronized (entries) {
+      entries.remove(id);
+    }
+  }
+
+  /**
+   * Removes every record from the cache.
+   */
+  public void invalidateAll() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Gets the number of records currently cached, including expired records not yet evicted.
+   *
+   * @return the number of cached records
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Gets the number of lookups that found a live record.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of lookups that found no live record.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of records evicted because the cache was full or they expired.
+   *
+   * @return the eviction count
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  private static class CachedRecord<V> {
+    private final V value;
+    private final long expiresAtNanos;
+
+    CachedRecord(V value, long expiresAtNanos) {
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.blockscore.net;
+
+import com.blockscore.common.Constants;
+
+import retrofit.RequestInterceptor;
+
+/**
+ * Adds the authorization and content negotiation headers to every request.
+ *
+ * <p>
+ * Header values are encoded ahead of time: the Accept header once, and the Authorization header
+ * whenever a {@link Credentials} is created. Each request reads the provider's current credentials
+ * once, so it always carries a single, complete key even while the key is being rotated.
+ */
+class RequestHeaderInterceptor implements RequestInterceptor {
+  private static final String ACCEPT = Constants.getAcceptHeaders();
+
+  private final CredentialsProvider credentials;
+
+  public RequestHeaderInterceptor(CredentialsProvider credentials) {
+    this.credentials = credentials;
+  }
+
+  @Override
+  public void intercept(RequestFacade request) {
+    request.addHeader(Constants.AUTHORIZATION_HEADER, credentials.getCredentials().getAuthorization());
+    request.addHeader(Constants.ACCEPT_HEADER, ACCEPT);
+  }
+}
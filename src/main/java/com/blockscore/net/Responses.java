@@ -0,0 +1,96 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit.RetrofitError;
+import retrofit.client.Header;
+import retrofit.client.Response;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Helpers for inspecting raw HTTP responses.
+ */
+final class Responses {
+  static final int TOO_MANY_REQUESTS = 429;
+
+  private static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final String HTTP_DATE_FORMAT = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
+  private Responses() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Finds the HTTP response behind a failed call.
+   *
+   * @param failure  the exception thrown by the call
+   * @return the response, or null if the call failed before a response arrived
+   */
+  @Nullable
+  static Response of(@NotNull final Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof RetrofitError) {
+        return ((RetrofitError) cause).getResponse();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the first value of a header.
+   *
+   * @param response  the response
+   * @param name  the case insensitive header name
+   * @return the header value, or null if absent
+   */
+  @Nullable
+  static String header(@NotNull final Response response, @NotNull final String name) {
+    List<Header> headers = response.getHeaders();
+    if (headers == null) {
+      return null;
+    }
+
+    for (Header header : headers) {
+      if (name.equalsIgnoreCase(header.getName())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the delay requested by a {@code Retry-After} header, which is either a number of seconds or
+   * an HTTP date.
+   *
+   * @param response  the response
+   * @return the requested delay in milliseconds, or 0 if none was requested
+   */
+  static long retryAfterMillis(@NotNull final Response response) {
+    String value = header(response, RETRY_AFTER_HEADER);
+    if (value == null) {
+      return 0L;
+    }
+
+    value = value.trim();
+    try {
+      return Math.max(0L, Long.parseLong(value) * 1000L);
+    } catch (NumberFormatException e) {
+      // Not a number of seconds, so it should be an HTTP date
+    }
+
+    SimpleDateFormat formatter = new SimpleDateFormat(HTTP_DATE_FORMAT, Locale.US);
+    formatter.setTimeZone(TimeZone.getTimeZone("GMT"));
+    try {
+      Date retryAt = formatter.parse(value);
+      return Math.max(0L, retryAt.getTime() - System.currentTimeMillis());
+    } catch (ParseException e) {
+      return 0L;
+    }
+  }
+}
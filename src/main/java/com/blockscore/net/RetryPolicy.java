@@ -0,0 +1,190 @@
+package com.blockscore.net;
+
+import com.blockscore.common.Constants;
+
+import org.jetbrains.annotations.NotNull;
+import retrofit.client.Header;
+import retrofit.client.Request;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when failed requests are retried, and keeps retry statistics.
+ *
+ * <p>
+ * Requests are retried after network failures and after 429, 502, 503 and 504 responses, waiting a
+ * capped, exponentially growing delay with full jitter between attempts. Only idempotent requests (GET
+ * and HEAD, or any request carrying an idempotency key) are retried after a network failure or a 5xx
+ * response, since another request may already have been processed; throttled requests were rejected
+ * outright and are always retried.
+ *
+ * <p>
+ * Retries are paid for out of a budget that grows with every request sent, so that during an outage
+ * retries add at most a fixed fraction of extra load instead of multiplying it. A policy is shared by
+ * every client using the same {@link BlockscoreClientConfig}.
+ */
+public class RetryPolicy {
+  public static final int DEFAULT_MAX_RETRIES = 3;
+  public static final long DEFAULT_BASE_DELAY_MILLIS = 100L;
+  public static final long DEFAULT_MAX_DELAY_MILLIS = 5 * 1000L;
+  public static final double DEFAULT_BUDGET_RATIO = 0.1;
+  public static final int DEFAULT_MIN_RETRY_BUDGET = 10;
+
+  private static final int BUDGET_SCALE = 1000;
+
+  private int maxRetries = DEFAULT_MAX_RETRIES;
+  private long baseDelayMillis = DEFAULT_BASE_DELAY_MILLIS;
+  private long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+  private int depositPerRequest = (int) (DEFAULT_BUDGET_RATIO * BUDGET_SCALE);
+  private int budgetCapacity = DEFAULT_MIN_RETRY_BUDGET * BUDGET_SCALE;
+
+  private final AtomicInteger budget = new AtomicInteger(budgetCapacity);
+  private final AtomicLong retryCount = new AtomicLong();
+  private final AtomicLong exhaustedCount = new AtomicLong();
+  private final AtomicLong budgetRejectedCount = new AtomicLong();
+
+  /**
+   * Sets the maximum number of retries of a single request.
+   *
+   * @param maxRetries  the maximum number of retries, 0 to disable retrying
+   * @return this
+   */
+  @NotNull
+  public RetryPolicy setMaxRetries(final int maxRetries) {
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Sets the delay cap used before the first retry. Each following retry doubles the cap.
+   *
+   * @param delay  the base delay
+   * @param unit  the unit of the delay
+   * @return this
+   */
+  @NotNull
+  public RetryPolicy setBaseDelay(final long delay, @NotNull final TimeUnit unit) {
+    this.baseDelayMillis = unit.toMillis(delay);
+    return this;
+  }
+
+  /**
+   * Sets the longest delay ever waited between two attempts. A longer {@code Retry-After} requested by
+   * the server is cut down to this delay.
+   *
+   * @param delay  the maximum delay
+   * @param unit  the unit of the delay
+   * @return this
+   */
+  @NotNull
+  public RetryPolicy setMaxDelay(final long delay, @NotNull final TimeUnit unit) {
+    this.maxDelayMillis = unit.toMillis(delay);
+    return this;
+  }
+
+  /**
+   * Sets the retry budget. Every request earns {@code ratio} retries, and at most {@code minRetries}
+   * retries can be saved up while requests are succeeding.
+   *
+   * @param ratio  the fraction of requests that may be retried
+   * @param minRetries  the number of retries always available after a quiet period
+   * @return this
+   */
+  @NotNull
+  public RetryPolicy setRetryBudget(final double ratio, final int minRetries) {
+    this.depositPerRequest = (int) (ratio * BUDGET_SCALE);
+    this.budgetCapacity = minRetries * BUDGET_SCALE;
+    budget.set(budgetCapacity);
+    return this;
+  }
+
+  /**
+   * Gets the number of retries performed.
+   *
+   * @return the number of retries
+   */
+  public long getRetryCount() {
+    return retryCount.get();
+  }
+
+  /**
+   * Gets the number of requests that still failed after using all of their retries.
+   *
+   * @return the number of requests that exhausted their retries
+   */
+  public long getExhaustedCount() {
+    return exhaustedCount.get();
+  }
+
+  /**
+   * Gets the number of retries skipped because the retry budget was spent.
+   *
+   * @return the number of retries denied by the budget
+   */
+  public long getBudgetRejectedCount() {
+    return budgetRejectedCount.get();
+  }
+
+  int getMaxRetries() {
+    return maxRetries;
+  }
+
+  boolean isRetryableStatus(int status) {
+    return status == Responses.TOO_MANY_REQUESTS || status == 502 || status == 503 || status == 504;
+  }
+
+  boolean isIdempotent(@NotNull Request request) {
+    String method = request.getMethod();
+    if ("GET".equals(method) || "HEAD".equals(method)) {
+      return true;
+    }
+
+    for (Header header : request.getHeaders()) {
+      if (Constants.IDEMPOTENCY_KEY_HEADER.equalsIgnoreCase(header.getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void onRequest() {
+    int current;
+    do {
+      current = budget.get();
+      if (current >= budgetCapacity) {
+        return;
+      }
+    } while (!budget.compareAndSet(current, Math.min(budgetCapacity, current + depositPerRequest)));
+  }
+
+  boolean tryWithdraw() {
+    int current;
+    do {
+      current = budget.get();
+      if (current < BUDGET_SCALE) {
+        budgetRejectedCount.incrementAndGet();
+        return false;
+      }
+    } while (!budget.compareAndSet(current, current - BUDGET_SCALE));
+
+    retryCount.incrementAndGet();
+    return true;
+  }
+
+  void onExhausted() {
+    exhaustedCount.incrementAndGet();
+  }
+
+  long backoffMillis(int retry, long retryAfterMillis) {
+    long cap = baseDelayMillis << Math.min(retry, 30);
+    if (cap <= 0 || cap > maxDelayMillis) {
+      cap = maxDelayMillis;
+    }
+
+    long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+    return Math.min(Math.max(delay, retryAfterMillis), maxDelayMillis);
+  }
+}
@@ -0,0 +1,85 @@
+package com.blockscore.net;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+/**
+ * Retries failed requests as allowed by a {@link RetryPolicy}.
+ */
+class RetryingClient implements Client {
+  private final Client delegate;
+  private final RetryPolicy policy;
+
+  public RetryingClient(Client delegate, RetryPolicy policy) {
+    this.delegate = delegate;
+    this.policy = policy;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    policy.onRequest();
+    boolean idempotent = policy.isIdempotent(request);
+
+    for (int retry = 0; ; retry++) {
+      Response response;
+      try {
+        response = delegate.execute(request);
+      } catch (IOException e) {
+        // Timeouts are InterruptedIOExceptions too, but only a thread interrupt should stop the retries
+        if (Thread.currentThread().isInterrupted() || !idempotent || !shouldRetry(retry)) {
+          throw e;
+        }
+        pause(policy.backoffMillis(retry, 0L));
+        continue;
+      }
+
+      int status = response.getStatus();
+      boolean retryable = policy.isRetryableStatus(status)
+          && (idempotent || status == Responses.TOO_MANY_REQUESTS);
+      if (!retryable || !shouldRetry(retry)) {
+        return response;
+      }
+
+      long retryAfterMillis = Responses.retryAfterMillis(response);
+      discard(response);
+      pause(policy.backoffMillis(retry, retryAfterMillis));
+    }
+  }
+
+  private boolean shouldRetry(int retry) {
+    if (retry >= policy.getMaxRetries()) {
+      if (policy.getMaxRetries() > 0) {
+        policy.onExhausted();
+      }
+      return false;
+    }
+    return policy.tryWithdraw();
+  }
+
+  private void pause(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry.");
+    }
+  }
+
+  private void discard(Response response) {
+    if (response.getBody() == null) {
+      return;
+    }
+
+    try {
+      InputStream body = response.getBody().in();
+      body.close();
+    } catch (IOException e) {
+      // The connection is being dropped anyway
+    }
+  }
+}
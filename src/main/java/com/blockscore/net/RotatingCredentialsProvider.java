@@ -0,0 +1,43 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link CredentialsProvider} whose API key can be replaced while clients are using it.
+ *
+ * <p>
+ * Requests already sent keep the key they were sent with; every request started after
+ * {@link #rotate(String)} returns uses the new key. Clients, their connection pools and their
+ * converters are left untouched.
+ */
+public class RotatingCredentialsProvider implements CredentialsProvider {
+  private final AtomicReference<Credentials> current;
+
+  /**
+   * Creates a provider.
+   *
+   * @param apiKey  the initial API key
+   */
+  public RotatingCredentialsProvider(@NotNull final String apiKey) {
+    current = new AtomicReference<Credentials>(new Credentials(apiKey));
+  }
+
+  /**
+   * Replaces the API key.
+   *
+   * @param apiKey  the new API key
+   * @return the credentials that were replaced
+   */
+  @NotNull
+  public Credentials rotate(@NotNull final String apiKey) {
+    return current.getAndSet(new Credentials(apiKey));
+  }
+
+  @NotNull
+  @Override
+  public Credentials getCredentials() {
+    return current.get();
+  }
+}
@@ -0,0 +1,67 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Helpers for naming requests by API operation.
+ *
+ * <p>
+ * A route is the request method and path with every record ID replaced by {@code {id}}, so
+ * {@code GET https://api.blockscore.com/candidates/55f4.../hits?offset=25} is named
+ * {@code GET /candidates/{id}/hits}.
+ */
+final class Routes {
+
+  private Routes() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Removes a trailing slash from an API endpoint.
+   *
+   * @param endpoint  the base URL of the API
+   * @return the base URL without a trailing slash
+   */
+  @NotNull
+  static String trimEndpoint(@NotNull final String endpoint) {
+    return endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+  }
+
+  /**
+   * Gets the route of a request.
+   *
+   * @param endpoint  the base URL of the API, without a trailing slash
+   * @param method  the request method
+   * @param url  the request URL
+   * @return the route
+   */
+  @NotNull
+  static String of(@NotNull final String endpoint, @NotNull final String method, @NotNull final String url) {
+    int start = url.startsWith(endpoint) ? endpoint.length() : url.indexOf('/', url.indexOf("//") + 2);
+    int end = url.indexOf('?', start);
+    if (end < 0) {
+      end = url.length();
+    }
+
+    StringBuilder route = new StringBuilder(method.length() + end - start + 8).append(method).append(' ');
+    int segment = 0;
+    int position = start;
+    while (position < end) {
+      int next = url.indexOf('/', position + 1);
+      if (next < 0 || next > end) {
+        next = end;
+      }
+      if (next > position + 1) {
+        route.append('/');
+        if (segment % 2 == 1) {
+          route.append("{id}");
+        } else {
+          route.append(url, position + 1, next);
+        }
+        segment++;
+      }
+      position = next;
+    }
+    return segment == 0 ? route.append('/').toString() : route.toString();
+  }
+}
@@ -1,28 +1,47 @@
 package com.blockscore.net;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.math.BigDecimal;
 import java.util.Date;
-import java.util.TimeZone;
 
+/**
+ * Deserializes timestamps sent as seconds since the epoch, either as JSON numbers or as numeric strings.
+ * Whole numbers are read straight from the token stream without any text parsing; fractional seconds
+ * are kept to the millisecond.
+ */
 public class SecondsDateDeserializer extends JsonDeserializer<Date> {
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final int MILLIS_PER_SECOND_DIGITS = 3;
+
     @Override
     public Date deserialize(JsonParser jsonParser, DeserializationContext deserializationcontext) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return new Date(jsonParser.getLongValue() * MILLIS_PER_SECOND);
+        } else if (jsonParser.getCurrentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            return fromSeconds(jsonParser.getDecimalValue());
+        }
 
-        String date = jsonParser.getText();
+        String date = jsonParser.getText().trim();
 
-        SimpleDateFormat formatter = new SimpleDateFormat("ssssssssss");
-        formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
+        try {
+            return new Date(Long.parseLong(date) * MILLIS_PER_SECOND);
+        } catch (NumberFormatException e) {
+            // Not whole seconds, so it may have a fractional part
+        }
 
         try {
-            return formatter.parse(date);
-        } catch (ParseException e) {
+            return fromSeconds(new BigDecimal(date));
+        } catch (NumberFormatException e) {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    private static Date fromSeconds(BigDecimal seconds) {
+        return new Date(seconds.movePointRight(MILLIS_PER_SECOND_DIGITS).longValue());
+    }
+}
@@ -0,0 +1,191 @@
+package com.blockscore.net;
+
+import com.blockscore.common.RecordHandler;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import retrofit.mime.TypedInput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A single page of a listing whose records are decoded one at a time as they are read from the
+ * response body, rather than all at once into a {@link com.blockscore.models.PaginatedResult}.
+ *
+ * <p>
+ * Only the record being handed out is held in memory, so large pages of watchlist hits can be processed
+ * without holding the whole page. The page keeps its connection open until every record has been read
+ * or it is closed; close a page that is abandoned early. The total count and whether there are more
+ * pages are only known once the response has reached them, which is usually after the last record.
+ *
+ * @param <T>  the record type
+ */
+public class StreamingPage<T> implements Iterator<T>, Closeable {
+  private final InputStream in;
+  private final ObjectReader reader;
+  private final JsonParser parser;
+  private final RecordHandler<T> preparer;
+
+  private int totalCount = -1;
+  private boolean hasMore;
+  private boolean inData;
+  private boolean closed;
+  private T next;
+
+  StreamingPage(@NotNull final TypedInput body, @NotNull final Class<T> type,
+                @Nullable final RecordHandler<T> preparer) throws IOException {
+    this.preparer = preparer;
+    this.in = body.in();
+    this.reader = ModelConverter.getInstance().readerFor(type);
+    this.parser = ModelConverter.getInstance().createParser(in);
+
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected a listing object but found " + parser.getCurrentToken());
+      }
+      advanceToData();
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the total number of records in the listing.
+   *
+   * @return the total count, or -1 if the response has not reached it yet
+   */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * Returns whether or not there are more pages after this one. Only meaningful once every record has
+   * been read.
+   *
+   * @return whether or not there are more records
+   */
+  public boolean hasMore() {
+    return hasMore;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !closed) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        closeQuietly();
+        throw new RuntimeException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T record = next;
+    next = null;
+    return record;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Hands every remaining record to a handler, then closes the page.
+   *
+   * @param handler  the consumer of the records
+   * @return the number of records handled
+   */
+  public long drainTo(@NotNull final RecordHandler<? super T> handler) {
+    long count = 0;
+    try {
+      while (hasNext()) {
+        handler.handle(next());
+        count++;
+      }
+    } finally {
+      closeQuietly();
+    }
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    next = null;
+    try {
+      parser.close();
+    } finally {
+      in.close();
+    }
+  }
+
+  private T readNext() throws IOException {
+    if (!inData) {
+      return null;
+    }
+
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.END_ARRAY) {
+      inData = false;
+      advanceToData();
+      return null;
+    }
+    if (token == null) {
+      throw new IOException("Unexpected end of listing");
+    }
+
+    T record = reader.readValue(parser);
+    if (preparer != null) {
+      preparer.handle(record);
+    }
+    return record;
+  }
+
+  /**
+   * Reads the listing's fields up to the start of its records, or to its end once the records have been
+   * read. Closes the page when the end is reached.
+   */
+  private void advanceToData() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+        inData = true;
+        return;
+      } else if ("total_count".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+        totalCount = parser.getIntValue();
+      } else if ("has_more".equals(field) && value.isBoolean()) {
+        hasMore = parser.getBooleanValue();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    close();
+  }
+
+  private void closeQuietly() {
+    try {
+      close();
+    } catch (IOException ignored) {
+      // Nothing left to read.
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.blockscore.net;
+
+import org.jetbrains.annotations.NotNull;
+import retrofit.client.Response;
+
+/**
+ * Recognizes calls that failed because the API throttled them, for callers that pace their own requests
+ * with a {@link RateLimiter}.
+ */
+public final class Throttling {
+  /** Returned by {@link #retryAfterMillis(Throwable)} when the failure was not caused by throttling. */
+  public static final long NOT_THROTTLED = -1L;
+
+  private Throttling() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Gets the delay requested by the throttling response behind a failed call.
+   *
+   * @param failure  the exception thrown by the call
+   * @return the requested delay in milliseconds, 0 if none was requested, or {@link #NOT_THROTTLED} if the
+   *     failure was not a {@code 429 Too Many Requests} response
+   */
+  public static long retryAfterMillis(@NotNull final Throwable failure) {
+    Response response = Responses.of(failure);
+    if (response == null || response.getStatus() != Responses.TOO_MANY_REQUESTS) {
+      return NOT_THROTTLED;
+    }
+    return Responses.retryAfterMillis(response);
+  }
+}
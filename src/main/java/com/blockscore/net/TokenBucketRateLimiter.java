@@ -0,0 +1,137 @@
+package com.blockscore.net;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket rate limiter that adapts to throttling responses.
+ *
+ * <p>
+ * The bucket refills at the configured rate and holds up to {@code burst} tokens. It is implemented as
+ * a virtual scheduling clock updated with compare-and-set, so concurrent callers never block each other
+ * except to wait for their own token.
+ *
+ * <p>
+ * When the API throttles a request the refill rate is halved and no tokens are issued until its
+ * {@code Retry-After} period has passed. Each accepted request then speeds the rate back up
+ * gradually towards the configured rate, settling just below the point where throttling starts.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+  private static final long DEFAULT_THROTTLE_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int MAX_SLOWDOWN_FACTOR = 64;
+  private static final int RECOVERY_DIVISOR = 32;
+
+  private final long baseIntervalNanos;
+  private final long maxIntervalNanos;
+  private final int burst;
+
+  private final AtomicLong intervalNanos;
+  private final AtomicLong nextFreeNanos;
+
+  /**
+   * Creates a rate limiter.
+   *
+   * @param requestsPerSecond  the sustained rate of requests
+   * @param burst  the maximum number of requests sent back to back after an idle period
+   */
+  public TokenBucketRateLimiter(final double requestsPerSecond, final int burst) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("requestsPerSecond must be positive");
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be at least 1");
+    }
+
+    this.baseIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+    this.maxIntervalNanos = baseIntervalNanos * MAX_SLOWDOWN_FACTOR;
+    this.burst = burst;
+    this.intervalNanos = new AtomicLong(baseIntervalNanos);
+    this.nextFreeNanos = new AtomicLong(System.nanoTime() - burstCapacityNanos(baseIntervalNanos));
+  }
+
+  @Override
+  public void acquire() throws InterruptedException {
+    long waitNanos = reserve(System.nanoTime());
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * Takes a token if one is available right now.
+   *
+   * @return true if a token was taken
+   */
+  public boolean tryAcquire() {
+    long interval = intervalNanos.get();
+    while (true) {
+      long now = System.nanoTime();
+      long nextFree = nextFreeNanos.get();
+      long start = Math.max(nextFree, now - burstCapacityNanos(interval));
+      if (start > now) {
+        return false;
+      }
+      if (nextFreeNanos.compareAndSet(nextFree, start + interval)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public void onThrottled(final long retryAfterMillis) {
+    long current;
+    long slowed;
+    do {
+      current = intervalNanos.get();
+      slowed = Math.min(maxIntervalNanos, current * 2);
+    } while (!intervalNanos.compareAndSet(current, slowed));
+
+    long pauseNanos = retryAfterMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(retryAfterMillis)
+                                           : DEFAULT_THROTTLE_PAUSE_NANOS;
+    long resumeAt = System.nanoTime() + pauseNanos;
+    long nextFree;
+    do {
+      nextFree = nextFreeNanos.get();
+      if (nextFree - resumeAt >= 0) {
+        return;
+      }
+    } while (!nextFreeNanos.compareAndSet(nextFree, resumeAt));
+  }
+
+  @Override
+  public void onAccepted() {
+    long current;
+    long recovered;
+    do {
+      current = intervalNanos.get();
+      if (current <= baseIntervalNanos) {
+        return;
+      }
+      recovered = Math.max(baseIntervalNanos, current - current / RECOVERY_DIVISOR);
+    } while (!intervalNanos.compareAndSet(current, recovered));
+  }
+
+  /**
+   * Gets the rate currently enforced, which is below the configured rate after throttling.
+   *
+   * @return the current requests per second
+   */
+  public double getCurrentRate() {
+    return (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos.get();
+  }
+
+  private long reserve(long now) {
+    long interval = intervalNanos.get();
+    while (true) {
+      long nextFree = nextFreeNanos.get();
+      long start = Math.max(nextFree, now - burstCapacityNanos(interval));
+      if (nextFreeNanos.compareAndSet(nextFree, start + interval)) {
+        return start - now;
+      }
+    }
+  }
+
+  private long burstCapacityNanos(long interval) {
+    return interval * (burst - 1);
+  }
+}
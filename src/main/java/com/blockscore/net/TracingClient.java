@@ -0,0 +1,128 @@
+package com.blockscore.net;
+
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+import com.blockscore.tracing.Tracer;
+
+import retrofit.client.Client;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedInput;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Emits a span around every call, parented to the {@link TraceContext#current() current} span.
+ *
+ * <p>
+ * The span is current while the call is executed, so the per attempt spans of
+ * {@link TracingInterceptor} become its children. It ends once the response body has been read and
+ * closed by the converter, so that decoding is part of the call.
+ */
+class TracingClient implements Client {
+  static final String CALL_SPAN = "blockscore.call";
+  static final String DECODE_SPAN = "blockscore.decode";
+
+  private final Client delegate;
+  private final Tracer tracer;
+  private final String endpoint;
+
+  public TracingClient(Client delegate, Tracer tracer, String endpoint) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+    this.endpoint = Routes.trimEndpoint(endpoint);
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    Span span = tracer.startSpan(CALL_SPAN, TraceContext.current());
+    span.setTag("http.method", request.getMethod());
+    span.setTag("http.route", Routes.of(endpoint, request.getMethod(), request.getUrl()));
+
+    Response response;
+    Span previous = TraceContext.attach(span);
+    try {
+      response = delegate.execute(request);
+    } catch (IOException e) {
+      span.setError(e);
+      span.finish();
+      throw e;
+    } catch (RuntimeException e) {
+      span.setError(e);
+      span.finish();
+      throw e;
+    } finally {
+      TraceContext.restore(previous);
+    }
+
+    span.setTag("http.status_code", String.valueOf(response.getStatus()));
+    if (response.getBody() == null) {
+      span.finish();
+      return response;
+    }
+    return new Response(response.getUrl(), response.getStatus(), response.getReason(), response.getHeaders(),
+                        new TracedBody(response.getBody(), span));
+  }
+
+  /**
+   * A response body that reports its decoding and ends the call span once closed.
+   */
+  private class TracedBody implements TypedInput {
+    private final TypedInput body;
+    private final Span callSpan;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private Span decodeSpan;
+
+    TracedBody(TypedInput body, Span callSpan) {
+      this.body = body;
+      this.callSpan = callSpan;
+    }
+
+    @Override
+    public String mimeType() {
+      return body.mimeType();
+    }
+
+    @Override
+    public long length() {
+      return body.length();
+    }
+
+    @Override
+    public synchronized InputStream in() throws IOException {
+      if (decodeSpan == null) {
+        decodeSpan = tracer.startSpan(DECODE_SPAN, callSpan);
+      }
+
+      InputStream in;
+      try {
+        in = body.in();
+      } catch (IOException e) {
+        decodeSpan.setError(e);
+        finish();
+        throw e;
+      }
+
+      return new FilterInputStream(in) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            finish();
+          }
+        }
+      };
+    }
+
+    private void finish() {
+      if (finished.compareAndSet(false, true)) {
+        decodeSpan.finish();
+        callSpan.finish();
+      }
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.blockscore.net;
+
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+import com.blockscore.tracing.Tracer;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Emits the connect, request write and first byte spans of every attempt, and propagates the trace
+ * context of the call to the API in the request headers.
+ *
+ * <p>
+ * OkHttp runs network interceptors once a connection has been acquired, so the connect span is
+ * started by a {@link ConnectTracingClient} just before the attempt is handed to OkHttp and ended when this
+ * interceptor runs. When the {@link java.net.HttpURLConnection} bridge is used the request body is
+ * written by the connection itself, outside of any interceptor, and is timed as part of the first
+ * byte span.
+ */
+class TracingInterceptor implements Interceptor {
+  static final String CONNECT_SPAN = "blockscore.connect";
+  static final String REQUEST_WRITE_SPAN = "blockscore.request_write";
+  static final String FIRST_BYTE_SPAN = "blockscore.first_byte";
+
+  private static final ThreadLocal<Span> PENDING_CONNECT = new ThreadLocal<Span>();
+
+  private final Tracer tracer;
+
+  public TracingInterceptor(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    endConnect(null);
+
+    Span callSpan = TraceContext.current();
+    if (callSpan == null) {
+      return chain.proceed(chain.request());
+    }
+
+    Map<String, String> traceHeaders = new LinkedHashMap<String, String>();
+    tracer.inject(callSpan, traceHeaders);
+    Request.Builder builder = chain.request().newBuilder();
+    for (Map.Entry<String, String> header : traceHeaders.entrySet()) {
+      builder.header(header.getKey(), header.getValue());
+    }
+
+    Exchange exchange = new Exchange(callSpan);
+    RequestBody body = chain.request().body();
+    if (body != null) {
+      builder.method(chain.request().method(), exchange.trace(body));
+    } else {
+      exchange.written();
+    }
+
+    try {
+      return chain.proceed(builder.build());
+    } catch (IOException e) {
+      exchange.fail(e);
+      throw e;
+    } catch (RuntimeException e) {
+      exchange.fail(e);
+      throw e;
+    } finally {
+      exchange.finish();
+    }
+  }
+
+  static void beginConnect(Span connectSpan) {
+    PENDING_CONNECT.set(connectSpan);
+  }
+
+  static void endConnect(Throwable error) {
+    Span connectSpan = PENDING_CONNECT.get();
+    if (connectSpan != null) {
+      PENDING_CONNECT.remove();
+      if (error != null) {
+        connectSpan.setError(error);
+      }
+      connectSpan.finish();
+    }
+  }
+
+  /**
+   * The spans of a single request and response exchange.
+   */
+  private class Exchange {
+    private final Span callSpan;
+    private Span writeSpan;
+    private Span firstByteSpan;
+
+    Exchange(Span callSpan) {
+      this.callSpan = callSpan;
+    }
+
+    RequestBody trace(final RequestBody body) {
+      writeSpan = tracer.startSpan(REQUEST_WRITE_SPAN, callSpan);
+      return new RequestBody() {
+        @Override
+        public MediaType contentType() {
+          return body.contentType();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+          return body.contentLength();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+          body.writeTo(sink);
+          written();
+        }
+      };
+    }
+
+    synchronized void written() {
+      if (writeSpan != null) {
+        writeSpan.finish();
+      }
+      if (firstByteSpan == null) {
+        firstByteSpan = tracer.startSpan(FIRST_BYTE_SPAN, callSpan);
+      }
+    }
+
+    synchronized void fail(Throwable error) {
+      Span open = firstByteSpan != null ? firstByteSpan : writeSpan;
+      if (open != null) {
+        open.setError(error);
+      }
+    }
+
+    synchronized void finish() {
+      if (writeSpan != null) {
+        writeSpan.finish();
+      }
+      if (firstByteSpan != null) {
+        firstByteSpan.finish();
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.blockscore.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * A tracer that records nothing. API clients using it are not traced at all.
+ */
+public final class NoopTracer implements Tracer {
+  public static final NoopTracer INSTANCE = new NoopTracer();
+
+  private static final Span NOOP_SPAN = new Span() {
+    @Override
+    public void setTag(@NotNull String key, @NotNull String value) {
+      // Discarded.
+    }
+
+    @Override
+    public void setError(@NotNull Throwable error) {
+      // Discarded.
+    }
+
+    @Override
+    public void finish() {
+      // Discarded.
+    }
+  };
+
+  private NoopTracer() {
+    // Use the shared instance.
+  }
+
+  @NotNull
+  @Override
+  public Span startSpan(@NotNull String name, @Nullable Span parent) {
+    return NOOP_SPAN;
+  }
+
+  @Override
+  public void inject(@NotNull Span span, @NotNull Map<String, String> headers) {
+    // Nothing to propagate.
+  }
+}
@@ -0,0 +1,29 @@
+package com.blockscore.tracing;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A timed operation reported to a {@link Tracer}. A span starts when it is created by
+ * {@link Tracer#startSpan(String, Span)} and ends when it is finished.
+ */
+public interface Span {
+  /**
+   * Attaches a key and value to the span.
+   *
+   * @param key  the tag name
+   * @param value  the tag value
+   */
+  void setTag(@NotNull String key, @NotNull String value);
+
+  /**
+   * Marks the span as failed.
+   *
+   * @param error  the cause of the failure
+   */
+  void setError(@NotNull Throwable error);
+
+  /**
+   * Ends the span. Only the first call has any effect.
+   */
+  void finish();
+}
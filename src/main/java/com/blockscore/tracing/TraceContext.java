@@ -0,0 +1,112 @@
+package com.blockscore.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Tracks the span enclosing the work of the current thread.
+ *
+ * <p>
+ * API calls are parented to the current span. Attach your own span around a call to make it the
+ * parent, and restore the previous span afterwards:
+ * <pre>
+ * Span previous = TraceContext.attach(span);
+ * try {
+ *   client.retrieveCandidate(id);
+ * } finally {
+ *   TraceContext.restore(previous);
+ * }
+ * </pre>
+ * Work handed to another thread loses the current span unless it is {@link #wrap(Runnable) wrapped}.
+ * The asynchronous client and the batch utilities wrap their work already.
+ */
+public final class TraceContext {
+  private static final ThreadLocal<Span> CURRENT = new ThreadLocal<Span>();
+
+  private TraceContext() {
+    //Prevents user from initializing the static class
+  }
+
+  /**
+   * Gets the current span of this thread.
+   *
+   * @return the current span, or null if there is none
+   */
+  @Nullable
+  public static Span current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Makes a span the current span of this thread.
+   *
+   * @param span  the new current span, or null for none
+   * @return the previous current span, to be passed to {@link #restore(Span)}
+   */
+  @Nullable
+  public static Span attach(@Nullable final Span span) {
+    Span previous = CURRENT.get();
+    if (span == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(span);
+    }
+    return previous;
+  }
+
+  /**
+   * Restores the span that was current before {@link #attach(Span)} was called.
+   *
+   * @param previous  the span returned by {@link #attach(Span)}
+   */
+  public static void restore(@Nullable final Span previous) {
+    attach(previous);
+  }
+
+  /**
+   * Wraps a task so that it runs with this thread's current span, whichever thread runs it.
+   *
+   * @param task  the task
+   * @return the wrapped task
+   */
+  @NotNull
+  public static Runnable wrap(@NotNull final Runnable task) {
+    final Span span = current();
+    return new Runnable() {
+      @Override
+      public void run() {
+        Span previous = attach(span);
+        try {
+          task.run();
+        } finally {
+          restore(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Wraps a task so that it runs with this thread's current span, whichever thread runs it.
+   *
+   * @param task  the task
+   * @param <T>  the result type of the task
+   * @return the wrapped task
+   */
+  @NotNull
+  public static <T> Callable<T> wrap(@NotNull final Callable<T> task) {
+    final Span span = current();
+    return new Callable<T>() {
+      @Override
+      public T call() throws Exception {
+        Span previous = attach(span);
+        try {
+          return task.call();
+        } finally {
+          restore(previous);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,43 @@
+package com.blockscore.tracing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Creates the spans API clients emit for their calls and propagates them to the Blockscore API.
+ *
+ * <p>
+ * Every call gets a {@code blockscore.call} span, parented to the {@link TraceContext#current() current}
+ * span, with the following children:
+ * <ul>
+ *   <li>{@code blockscore.queue} while an asynchronous call waits for a free worker</li>
+ *   <li>{@code blockscore.connect} while a connection is acquired, including DNS and TLS</li>
+ *   <li>{@code blockscore.request_write} while the request is sent</li>
+ *   <li>{@code blockscore.first_byte} while waiting for the response headers</li>
+ *   <li>{@code blockscore.decode} while the response body is read and converted</li>
+ * </ul>
+ * Retried calls report the connect, write and first byte spans once per attempt. Implementations
+ * adapt these calls to a tracing system such as OpenTelemetry or Zipkin; they are called on the
+ * requesting thread and must be thread safe.
+ */
+public interface Tracer {
+  /**
+   * Starts a span.
+   *
+   * @param name  the operation name
+   * @param parent  the enclosing span, or null to start a new trace
+   * @return the started span
+   */
+  @NotNull
+  Span startSpan(@NotNull String name, @Nullable Span parent);
+
+  /**
+   * Adds the headers that carry a span's trace context to an outgoing request.
+   *
+   * @param span  the span to propagate
+   * @param headers  the request headers to add to
+   */
+  void inject(@NotNull Span span, @NotNull Map<String, String> headers);
+}
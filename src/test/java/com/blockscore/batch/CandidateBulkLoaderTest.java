@@ -0,0 +1,233 @@
+package com.blockscore.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.Candidate;
+import com.blockscore.net.BlockscoreRestAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CandidateBulkLoader unit tests.
+ */
+public class CandidateBulkLoaderTest {
+  private final List<String> created = Collections.synchronizedList(new ArrayList<String>());
+  private final List<String> updated = Collections.synchronizedList(new ArrayList<String>());
+  private volatile CountDownLatch writesAllowed = new CountDownLatch(0);
+  private volatile String failingNote;
+
+  @Test
+  public void testEveryCandidateIsReportedOnceWithItsInputIndex() throws InterruptedException {
+    final List<CandidateWriteResult> results = new ArrayList<CandidateWriteResult>();
+
+    long succeeded = new CandidateBulkLoader(adapter(), 4).load(candidates(20),
+        new RecordHandler<CandidateWriteResult>() {
+          @Override
+          public void handle(CandidateWriteResult result) {
+            results.add(result);
+          }
+        });
+
+    assertEquals(20, succeeded);
+    assertEquals(20, results.size());
+    assertEquals(10, created.size());
+    assertEquals(10, updated.size());
+
+    boolean[] seen = new boolean[20];
+    for (CandidateWriteResult result : results) {
+      int index = (int) result.getIndex();
+      assertFalse(seen[index]);
+      seen[index] = true;
+      assertTrue(result.isSuccess());
+      assertEquals("candidate-" + index, result.getCandidate().getNote());
+      assertEquals((index % 2 == 0 ? "created-" : "existing-") + index, result.getId());
+    }
+  }
+
+  @Test
+  public void testFailedWritesDoNotAbortTheLoad() throws InterruptedException {
+    final List<CandidateWriteResult> failures = new ArrayList<CandidateWriteResult>();
+    failingNote = "candidate-5";
+
+    long succeeded = new CandidateBulkLoader(adapter(), 2).load(candidates(11),
+        new RecordHandler<CandidateWriteResult>() {
+          @Override
+          public void handle(CandidateWriteResult result) {
+            if (!result.isSuccess()) {
+              failures.add(result);
+            }
+          }
+        });
+
+    assertEquals(10, succeeded);
+    assertEquals(1, failures.size());
+    assertEquals(5, failures.get(0).getIndex());
+    assertEquals("candidate-5", failures.get(0).getCandidate().getNote());
+    assertNull(failures.get(0).getId());
+    assertNotNull(failures.get(0).getError());
+  }
+
+  @Test
+  public void testHandlerFailureAbortsTheLoad() throws InterruptedException {
+    final IllegalStateException handlerFailure = new IllegalStateException("handler failed");
+
+    try {
+      new CandidateBulkLoader(adapter(), 3).load(candidates(Integer.MAX_VALUE),
+          new RecordHandler<CandidateWriteResult>() {
+            @Override
+            public void handle(CandidateWriteResult result) {
+              throw handlerFailure;
+            }
+          });
+      fail("The handler failure should have been rethrown.");
+    } catch (IllegalStateException e) {
+      assertTrue(e == handlerFailure);
+    }
+  }
+
+  @Test
+  public void testInputIsConsumedOnlyAsFastAsWritesComplete() throws Exception {
+    writesAllowed = new CountDownLatch(1);
+    final CountingIterator input = new CountingIterator(candidates(50));
+    final AtomicReference<Long> succeeded = new AtomicReference<Long>();
+
+    Thread loader = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          succeeded.set(new CandidateBulkLoader(adapter(), 2).load(input, new RecordHandler<CandidateWriteResult>() {
+            @Override
+            public void handle(CandidateWriteResult result) {
+              // discard
+            }
+          }));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    loader.start();
+
+    while (input.taken.get() < 4) {
+      Thread.sleep(5);
+    }
+    Thread.sleep(100);
+    assertEquals(4, input.taken.get());
+
+    writesAllowed.countDown();
+    loader.join(TimeUnit.SECONDS.toMillis(10));
+    assertEquals(Long.valueOf(50), succeeded.get());
+    assertEquals(50, input.taken.get());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private BlockscoreRestAdapter adapter() {
+    return (BlockscoreRestAdapter) Proxy.newProxyInstance(BlockscoreRestAdapter.class.getClassLoader(),
+        new Class<?>[] {BlockscoreRestAdapter.class}, new InvocationHandler() {
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
+            writesAllowed.await();
+            Candidate candidate = (Candidate) args[args.length - 1];
+            if (candidate.getNote().equals(failingNote)) {
+              throw new IllegalStateException("write failed");
+            }
+
+            if (method.getName().equals("createCandidate") && args.length == 2) {
+              created.add(candidate.getNote());
+              String index = candidate.getNote().substring("candidate-".length());
+              return candidate("created-" + index, candidate.getNote());
+            } else if (method.getName().equals("updateCandidate")) {
+              updated.add((String) args[0]);
+              return candidate;
+            }
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  /**
+   * Produces candidates lazily, alternating new candidates with existing ones.
+   */
+  private static Iterator<Candidate> candidates(final int count) {
+    return new Iterator<Candidate>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < count;
+      }
+
+      @Override
+      public Candidate next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int index = next++;
+        return candidate(index % 2 == 0 ? null : "existing-" + index, "candidate-" + index);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private static Candidate candidate(String id, String note) {
+    String json = (id == null ? "{" : "{\"id\":\"" + id + "\",") + "\"note\":\"" + note + "\"}";
+    try {
+      return new ObjectMapper().readValue(json, Candidate.class);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class CountingIterator implements Iterator<Candidate> {
+    private final Iterator<Candidate> delegate;
+    private final AtomicInteger taken = new AtomicInteger();
+
+    CountingIterator(Iterator<Candidate> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public Candidate next() {
+      taken.incrementAndGet();
+      return delegate.next();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.blockscore.batch;
+
+import static org.junit.Assert.assertEquals;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.PaginatedIterable;
+import com.blockscore.models.PaginatedResult;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ParallelPageExporter unit tests.
+ */
+public class ParallelPageExporterTest {
+
+  @Test
+  public void testExportPreservesListingOrder() throws InterruptedException {
+    final List<Integer> records = new ArrayList<Integer>();
+    PaginatedIterable<Integer> listing = new PaginatedIterable<Integer>(new SlowFetcher(95), 10);
+
+    long exported = new ParallelPageExporter<Integer>(listing, 4).export(new RecordHandler<Integer>() {
+      @Override
+      public void handle(Integer record) {
+        records.add(record);
+      }
+    });
+
+    assertEquals(95, exported);
+    for (int i = 0; i < records.size(); i++) {
+      assertEquals(Integer.valueOf(i), records.get(i));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExportPropagatesFetchFailures() throws InterruptedException {
+    PaginatedIterable<Integer> listing = new PaginatedIterable<Integer>(new SlowFetcher(50) {
+      @NotNull
+      @Override
+      public PaginatedResult<Integer> fetchPage(int offset, int limit) {
+        if (offset == 30) {
+          throw new IllegalStateException("page unavailable");
+        }
+        return super.fetchPage(offset, limit);
+      }
+    }, 10);
+
+    new ParallelPageExporter<Integer>(listing, 2).export(new RecordHandler<Integer>() {
+      @Override
+      public void handle(Integer record) {
+        // discard
+      }
+    });
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static class SlowFetcher implements PaginatedIterable.PageFetcher<Integer> {
+    private final int totalCount;
+    private final Random random = new Random();
+
+    SlowFetcher(int totalCount) {
+      this.totalCount = totalCount;
+    }
+
+    @NotNull
+    @Override
+    public PaginatedResult<Integer> fetchPage(int offset, int limit) {
+      try {
+        Thread.sleep(random.nextInt(10));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      List<Integer> page = new ArrayList<Integer>();
+      for (int i = offset; i < Math.min(offset + limit, totalCount); i++) {
+        page.add(i);
+      }
+      return new PaginatedResult<Integer>(page, totalCount, offset + page.size() < totalCount);
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package com.blockscore.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.models.Candidate;
+import com.blockscore.models.PaginatedIterable;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.models.WatchlistSearchResults;
+import com.blockscore.net.BlockscoreRestAdapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import retrofit.RetrofitError;
+import retrofit.client.Header;
+import retrofit.client.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RescreeningScheduler unit tests.
+ */
+public class RescreeningSchedulerTest {
+  private final List<String> searched = Collections.synchronizedList(new ArrayList<String>());
+  private final Set<String> existing = Collections.synchronizedSet(new HashSet<String>());
+  private volatile String searchedLists = "\"US OFAC\",\"UK HMT\"";
+  private File stateFile;
+  private File hitFile;
+
+  @Before
+  public void setUp() throws IOException {
+    stateFile = File.createTempFile("screening-state", ".json");
+    assertTrue(stateFile.delete());
+    hitFile = File.createTempFile("watchlist-hits", ".json");
+    assertTrue(hitFile.delete());
+  }
+
+  @After
+  public void tearDown() {
+    stateFile.delete();
+    hitFile.delete();
+  }
+
+  @Test
+  public void testFirstRunScreensEveryCandidate() throws Exception {
+    RescreeningReport report = scheduler(candidate("a", 100), candidate("b", 100)).run();
+
+    assertEquals(2, report.getListedCount());
+    assertEquals(2, report.getDueCount());
+    assertFalse(report.isWatchlistsChanged());
+    assertEquals(2, report.getSummary().getScreenedCount());
+
+    ScreenedCandidate screened = ScreeningStateStore.open(stateFile).get("a");
+    assertNotNull(screened);
+    assertEquals(100000L, screened.getUpdatedAt().getTime());
+    assertEquals(Arrays.asList("UK HMT", "US OFAC"), screened.getSearchedLists());
+  }
+
+  @Test
+  public void testUnchangedCandidatesAreSkipped() throws Exception {
+    scheduler(candidate("a", 100), candidate("b", 100), candidate("c", 100)).run();
+    searched.clear();
+
+    RescreeningReport report = scheduler(candidate("a", 100), candidate("b", 200), candidate("c", 100)).run();
+
+    // One probe search for the watchlists, plus the edited candidate
+    assertEquals(2, report.getDueCount());
+    assertEquals(2, searched.size());
+    assertTrue(searched.contains("b"));
+    assertFalse(report.isWatchlistsChanged());
+  }
+
+  @Test
+  public void testChangedWatchlistsMakeEveryCandidateDue() throws Exception {
+    scheduler(candidate("a", 100), candidate("b", 100), candidate("c", 100)).run();
+    searched.clear();
+    searchedLists = "\"US OFAC\",\"UK HMT\",\"EU CFSP\"";
+
+    RescreeningReport report = scheduler(candidate("a", 100), candidate("b", 100), candidate("c", 100)).run();
+
+    assertTrue(report.isWatchlistsChanged());
+    assertEquals(3, report.getDueCount());
+    assertEquals(3, report.getSummary().getScreenedCount());
+    assertEquals(3, searched.size());
+  }
+
+  @Test
+  public void testUnusedWatchlistSetsAreNotSaved() throws Exception {
+    scheduler(candidate("a", 100), candidate("b", 100)).run();
+    searchedLists = "\"US OFAC\",\"UK HMT\",\"EU CFSP\"";
+
+    scheduler(candidate("a", 100), candidate("b", 100)).run();
+
+    Map<?, ?> state = new ObjectMapper().readValue(stateFile, Map.class);
+    assertEquals(1, ((List<?>) state.get("list_sets")).size());
+    assertEquals(Arrays.asList("EU CFSP", "UK HMT", "US OFAC"),
+                 ScreeningStateStore.open(stateFile).get("a").getSearchedLists());
+  }
+
+  @Test
+  public void testMaxAgeRescreensStaleCandidates() throws Exception {
+    scheduler(candidate("a", 100), candidate("b", 100)).run();
+    Thread.sleep(10);
+
+    RescreeningReport report = scheduler(candidate("a", 100), candidate("b", 100))
+        .setMaxAge(5, TimeUnit.MILLISECONDS)
+        .run();
+
+    assertEquals(2, report.getDueCount());
+  }
+
+  @Test
+  public void testDeletedCandidatesArePruned() throws Exception {
+    scheduler(candidate("a", 100), candidate("b", 100)).run();
+
+    RescreeningReport report = scheduler(candidate("a", 100)).run();
+
+    assertEquals(1, report.getPrunedCount());
+    ScreeningStateStore store = ScreeningStateStore.open(stateFile);
+    assertEquals(1, store.size());
+    assertNull(store.get("b"));
+  }
+
+  @Test
+  public void testDeletedCandidatesArePrunedFromHitStore() throws Exception {
+    WatchlistHitStore hitStore = WatchlistHitStore.open(hitFile);
+    WatchlistHit hit = new ObjectMapper().readValue("{\"watchlist_name\":\"US OFAC\",\"confidence\":0.9}",
+                                                    WatchlistHit.class);
+    hitStore.record("a", Collections.singletonList(hit));
+    hitStore.record("b", Collections.singletonList(hit));
+
+    scheduler(candidate("a", 100)).setHitStore(hitStore).run();
+
+    WatchlistHitStore reopened = WatchlistHitStore.open(hitFile);
+    assertEquals(1, reopened.get("a").size());
+    assertTrue(reopened.get("b").isEmpty());
+  }
+
+  @Test
+  public void testCandidatesSkippedByTheListingAreNotPruned() throws Exception {
+    WatchlistHitStore hitStore = WatchlistHitStore.open(hitFile);
+    WatchlistHit hit = new ObjectMapper().readValue("{\"watchlist_name\":\"US OFAC\",\"confidence\":0.9}",
+                                                    WatchlistHit.class);
+    hitStore.record("c", Collections.singletonList(hit));
+    final List<Candidate> book = new ArrayList<Candidate>(Arrays.asList(
+        candidate("e", 100), candidate("d", 100), candidate("c", 100), candidate("b", 100), candidate("a", 100)));
+    scheduler(book.toArray(new Candidate[book.size()])).setHitStore(hitStore).run();
+
+    // Deleting "d" once the first page was read shifts "c" onto the first page, so the listing skips it
+    PaginatedIterable<Candidate> listing = new PaginatedIterable<Candidate>(
+        new PaginatedIterable.PageFetcher<Candidate>() {
+          @NotNull
+          @Override
+          public PaginatedResult<Candidate> fetchPage(int offset, int limit) {
+            int end = Math.min(book.size(), offset + limit);
+            List<Candidate> page = new ArrayList<Candidate>(book.subList(offset, end));
+            if (offset == 0) {
+              book.remove(1);
+              existing.remove("d");
+            }
+            return new PaginatedResult<Candidate>(page, book.size(), offset + limit < book.size());
+          }
+        }, 2);
+    RescreeningReport report = scheduler(listing).setHitStore(hitStore).run();
+
+    assertEquals(4, report.getListedCount());
+    assertEquals(0, report.getPrunedCount());
+    assertNotNull(ScreeningStateStore.open(stateFile).get("c"));
+    assertEquals(1, WatchlistHitStore.open(hitFile).get("c").size());
+
+    report = scheduler(book.toArray(new Candidate[book.size()])).setHitStore(hitStore).run();
+
+    assertEquals(1, report.getPrunedCount());
+    assertNull(ScreeningStateStore.open(stateFile).get("d"));
+    assertNotNull(ScreeningStateStore.open(stateFile).get("c"));
+  }
+
+  @Test
+  public void testFailedSearchesStayDue() throws Exception {
+    RescreeningReport report = scheduler(candidate("a", 100), candidate("broken", 100)).run();
+    assertEquals(1, report.getSummary().getFailedCount());
+    assertNull(ScreeningStateStore.open(stateFile).get("broken"));
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  /**
+   * Creates a scheduler for a book holding exactly the given candidates.
+   */
+  private RescreeningScheduler scheduler(Candidate... candidates) throws IOException {
+    existing.clear();
+    for (Candidate candidate : candidates) {
+      existing.add(candidate.getId());
+    }
+    return scheduler(Arrays.asList(candidates));
+  }
+
+  private RescreeningScheduler scheduler(Iterable<Candidate> listing) throws IOException {
+    BlockscoreRestAdapter adapter = adapter();
+    WatchlistScreener screener = new WatchlistScreener(adapter, new ScreeningOptions(), 2);
+    return new RescreeningScheduler(listing, adapter, screener, ScreeningStateStore.open(stateFile));
+  }
+
+  private static Candidate candidate(String id, long updatedAtSeconds) throws IOException {
+    String json = "{\"id\":\"" + id + "\",\"created_at\":1,\"updated_at\":" + updatedAtSeconds + "}";
+    return new ObjectMapper().readValue(json, Candidate.class);
+  }
+
+  private BlockscoreRestAdapter adapter() {
+    return (BlockscoreRestAdapter) Proxy.newProxyInstance(BlockscoreRestAdapter.class.getClassLoader(),
+        new Class<?>[] {BlockscoreRestAdapter.class}, new InvocationHandler() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+            if (method.getName().equals("retrieveCandidate")) {
+              String candidateId = (String) args[0];
+              if (!existing.contains(candidateId)) {
+                String url = "https://api.blockscore.com/candidates/" + candidateId;
+                throw RetrofitError.httpError(url, new Response(url, 404, "Not Found",
+                    Collections.<Header>emptyList(), null), null, null);
+              }
+              return candidate(candidateId, 100);
+            }
+            if (!method.getName().equals("searchWatchlists")) {
+              throw new UnsupportedOperationException(method.getName());
+            }
+            String candidateId = ((Map<String, String>) args[0]).get("candidate_id");
+            searched.add(candidateId);
+            if ("broken".equals(candidateId)) {
+              throw new IllegalStateException("search failed");
+            }
+            String json = "{\"searched_lists\":[" + searchedLists + "],\"count\":0,\"matches\":[]}";
+            return new ObjectMapper().readValue(json, WatchlistSearchResults.class);
+          }
+        });
+  }
+}
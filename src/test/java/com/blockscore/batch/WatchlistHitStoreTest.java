@@ -0,0 +1,144 @@
+package com.blockscore.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.WatchlistHit;
+import com.blockscore.models.WatchlistSearchResults;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WatchlistHitStore unit tests.
+ */
+public class WatchlistHitStoreTest {
+  private File storeFile;
+
+  @Before
+  public void setUp() throws IOException {
+    storeFile = File.createTempFile("watchlist-hits", ".json");
+    assertTrue(storeFile.delete());
+  }
+
+  @After
+  public void tearDown() {
+    storeFile.delete();
+  }
+
+  @Test
+  public void testFirstRecordingReportsEveryHitAsNew() throws IOException {
+    WatchlistHitStore store = WatchlistHitStore.open(storeFile);
+
+    HitDelta delta = store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name", "dob"),
+                                                      hit("UK HMT", "Jon Doe", 0.7, "name")));
+
+    assertEquals(2, delta.getNewHits().size());
+    assertTrue(delta.getRemovedHits().isEmpty());
+    assertTrue(delta.getConfidenceChanges().isEmpty());
+    assertEquals(2, store.get("c1").size());
+  }
+
+  @Test
+  public void testRescreenReportsOnlyDifferences() throws IOException {
+    WatchlistHitStore store = WatchlistHitStore.open(storeFile);
+    store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name", "dob"),
+                                     hit("UK HMT", "Jon Doe", 0.7, "name"),
+                                     hit("EU CFSP", "J. Doe", 0.6, "name")));
+
+    HitDelta delta = store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "dob", "name"),
+                                                      hit("UK HMT", "Jon Doe", 0.8, "name"),
+                                                      hit("US OFAC", "Johnny Doe", 0.5, "name")));
+
+    assertEquals(1, delta.getNewHits().size());
+    assertEquals("Johnny Doe", delta.getNewHits().get(0).getName());
+    assertEquals(1, delta.getRemovedHits().size());
+    assertEquals("EU CFSP", delta.getRemovedHits().get(0).getWatchlist());
+    assertEquals(1, delta.getConfidenceChanges().size());
+    assertEquals(0.7, delta.getConfidenceChanges().get(0).getPreviousConfidence(), 0.0);
+    assertEquals(0.8, delta.getConfidenceChanges().get(0).getHit().getConfidence(), 0.0);
+  }
+
+  @Test
+  public void testHitsSurviveReopening() throws IOException {
+    WatchlistHitStore store = WatchlistHitStore.open(storeFile);
+    store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name")));
+    store.record("c2", Arrays.asList(hit("UK HMT", null, 0.4)));
+    store.save();
+
+    WatchlistHitStore reopened = WatchlistHitStore.open(storeFile);
+    assertEquals(1, reopened.get("c2").size());
+    HitDelta delta = reopened.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name")));
+    assertTrue(delta.isEmpty());
+    delta = reopened.record("c2", Collections.<WatchlistHit>emptyList());
+    assertEquals(1, delta.getRemovedHits().size());
+    assertTrue(reopened.get("c2").isEmpty());
+  }
+
+  @Test
+  public void testRetainAllForgetsOtherCandidates() throws IOException {
+    WatchlistHitStore store = WatchlistHitStore.open(storeFile);
+    store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name")));
+    store.record("c2", Arrays.asList(hit("UK HMT", "Jane Roe", 0.6, "name")));
+
+    assertEquals(1, store.retainAll(Collections.singleton("c1")));
+    assertEquals(1, store.get("c1").size());
+    assertTrue(store.get("c2").isEmpty());
+  }
+
+  @Test
+  public void testDeltaHandlerSkipsFailuresAndEmptyDeltas() throws IOException {
+    WatchlistHitStore store = WatchlistHitStore.open(storeFile);
+    store.record("c1", Arrays.asList(hit("US OFAC", "John Doe", 0.9, "name")));
+    final List<HitDelta> deltas = new ArrayList<HitDelta>();
+    RecordHandler<ScreeningResult> handler = store.deltaHandler(new RecordHandler<HitDelta>() {
+      @Override
+      public void handle(HitDelta delta) {
+        deltas.add(delta);
+      }
+    });
+
+    handler.handle(new ScreeningResult(0, "c1", results("US OFAC", "John Doe", 0.9), null));
+    handler.handle(new ScreeningResult(1, "c2", null, new IllegalStateException("search failed")));
+    handler.handle(new ScreeningResult(2, "c3", results("UK HMT", "Jane Roe", 0.6), null));
+
+    assertEquals(1, deltas.size());
+    assertEquals("c3", deltas.get(0).getCandidateId());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static WatchlistHit hit(String watchlist, String name, double confidence, String... matchingInfo)
+      throws IOException {
+    return new ObjectMapper().readValue(hitJson(watchlist, name, confidence, matchingInfo), WatchlistHit.class);
+  }
+
+  private static WatchlistSearchResults results(String watchlist, String name, double confidence)
+      throws IOException {
+    String json = "{\"searched_lists\":[],\"count\":1,\"matches\":["
+        + hitJson(watchlist, name, confidence, "name") + "]}";
+    return new ObjectMapper().readValue(json, WatchlistSearchResults.class);
+  }
+
+  private static String hitJson(String watchlist, String name, double confidence, String... matchingInfo) {
+    StringBuilder info = new StringBuilder();
+    for (String field : matchingInfo) {
+      info.append(info.length() == 0 ? "" : ",").append('"').append(field).append('"');
+    }
+    return "{\"watchlist_name\":\"" + watchlist + "\",\"confidence\":" + confidence
+        + ",\"name_full\":" + (name == null ? "null" : "\"" + name + "\"")
+        + ",\"matching_info\":[" + info + "]}";
+  }
+}
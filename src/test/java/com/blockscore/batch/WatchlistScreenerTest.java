@@ -0,0 +1,161 @@
+package com.blockscore.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.EntityType;
+import com.blockscore.models.WatchlistSearchResults;
+import com.blockscore.net.BlockscoreRestAdapter;
+import com.blockscore.net.RateLimiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import retrofit.RetrofitError;
+import retrofit.client.Header;
+import retrofit.client.Response;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WatchlistScreener unit tests.
+ */
+public class WatchlistScreenerTest {
+  private final List<Map<String, String>> queries = Collections.synchronizedList(new ArrayList<Map<String, String>>());
+
+  @Test
+  public void testSummaryAggregatesHitsPerWatchlist() throws InterruptedException {
+    ScreeningOptions options = new ScreeningOptions().setMinimumConfidence(0.8);
+    WatchlistScreener screener = new WatchlistScreener(adapter(), options, 3);
+
+    ScreeningSummary summary = screener.screen(Arrays.asList("clean", "risky", "broken", "weak"));
+
+    assertEquals(3, summary.getScreenedCount());
+    assertEquals(1, summary.getFailedCount());
+    assertEquals(2, summary.getCandidatesWithHits());
+    assertEquals(3, summary.getHitCount());
+    assertEquals(1, summary.getHitsAboveConfidence());
+    assertEquals(Long.valueOf(2), summary.getHitsPerWatchlist().get("US OFAC"));
+    assertEquals(Arrays.asList("risky"), summary.getFlaggedCandidateIds());
+    assertEquals(Arrays.asList("broken"), summary.getFailedCandidateIds());
+  }
+
+  @Test
+  public void testSharedOptionsAreSentWithEverySearch() throws InterruptedException {
+    ScreeningOptions options = new ScreeningOptions().setEntityType(EntityType.INDIVIDUAL)
+                                                     .setSimilarityThreshold(0.75);
+
+    new WatchlistScreener(adapter(), options, 2).screen(Arrays.asList("clean", "weak"));
+
+    assertEquals(2, queries.size());
+    for (Map<String, String> query : queries) {
+      assertEquals("INDIVIDUAL", query.get("match_type"));
+      assertEquals("0.75", query.get("similarity_threshold"));
+      assertTrue(query.containsKey("candidate_id"));
+    }
+  }
+
+  @Test
+  public void testProgressIsReportedForEveryCandidate() throws InterruptedException {
+    final AtomicLong updates = new AtomicLong();
+    final AtomicLong lastTotal = new AtomicLong();
+    final List<String> handled = new ArrayList<String>();
+
+    new WatchlistScreener(adapter(), new ScreeningOptions(), 4).screen(
+        Arrays.asList("clean", "risky", "broken", "weak", "clean"),
+        new RecordHandler<ScreeningResult>() {
+          @Override
+          public void handle(ScreeningResult result) {
+            handled.add(result.getCandidateId());
+          }
+        },
+        new ScreeningProgressListener() {
+          @Override
+          public void onProgress(long screened, long failed) {
+            updates.incrementAndGet();
+            lastTotal.set(Math.max(lastTotal.get(), screened + failed));
+          }
+        });
+
+    assertEquals(5, updates.get());
+    assertEquals(5, lastTotal.get());
+    assertEquals(5, handled.size());
+  }
+
+  @Test
+  public void testThrottledSearchesAreReportedToTheRateLimiter() throws InterruptedException {
+    final List<Long> throttled = Collections.synchronizedList(new ArrayList<Long>());
+    final AtomicLong accepted = new AtomicLong();
+    RateLimiter rateLimiter = new RateLimiter() {
+      @Override
+      public void acquire() {
+      }
+
+      @Override
+      public void onThrottled(long retryAfterMillis) {
+        throttled.add(retryAfterMillis);
+      }
+
+      @Override
+      public void onAccepted() {
+        accepted.incrementAndGet();
+      }
+    };
+
+    ScreeningSummary summary = new WatchlistScreener(adapter(), new ScreeningOptions().setRateLimiter(rateLimiter), 2)
+        .screen(Arrays.asList("clean", "throttled", "broken", "weak"));
+
+    assertEquals(Arrays.asList(3000L), throttled);
+    assertEquals(2, accepted.get());
+    assertEquals(2, summary.getFailedCount());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private BlockscoreRestAdapter adapter() {
+    return (BlockscoreRestAdapter) Proxy.newProxyInstance(BlockscoreRestAdapter.class.getClassLoader(),
+        new Class<?>[] {BlockscoreRestAdapter.class}, new InvocationHandler() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+            if (!method.getName().equals("searchWatchlists")) {
+              throw new UnsupportedOperationException(method.getName());
+            }
+            Map<String, String> query = (Map<String, String>) args[0];
+            queries.add(query);
+            return results(query.get("candidate_id"));
+          }
+        });
+  }
+
+  private static WatchlistSearchResults results(String candidateId) throws IOException {
+    String matches;
+    if ("risky".equals(candidateId)) {
+      matches = "{\"watchlist_name\":\"US OFAC\",\"confidence\":0.95},"
+          + "{\"watchlist_name\":\"UK HMT\",\"confidence\":0.6}";
+    } else if ("weak".equals(candidateId)) {
+      matches = "{\"watchlist_name\":\"US OFAC\",\"confidence\":0.5}";
+    } else if ("throttled".equals(candidateId)) {
+      String url = "https://api.blockscore.com/watchlists";
+      List<Header> headers = Arrays.asList(new Header("Retry-After", "3"));
+      throw RetrofitError.httpError(url, new Response(url, 429, "Too Many Requests", headers, null), null, null);
+    } else if ("broken".equals(candidateId)) {
+      throw new IllegalStateException("search failed");
+    } else {
+      matches = "";
+    }
+    String json = "{\"searched_lists\":[\"US OFAC\",\"UK HMT\"],\"count\":0,\"matches\":[" + matches + "]}";
+    return new ObjectMapper().readValue(json, WatchlistSearchResults.class);
+  }
+}
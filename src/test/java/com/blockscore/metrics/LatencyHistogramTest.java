@@ -0,0 +1,51 @@
+package com.blockscore.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * LatencyHistogram unit tests.
+ */
+public class LatencyHistogramTest {
+
+  @Test
+  public void testPercentilesAreWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long millis = 1; millis <= 1000; millis++) {
+      histogram.record(millis * 1000000L);
+    }
+
+    assertWithinPrecision(500000000L, histogram.getValueAtPercentile(50));
+    assertWithinPrecision(990000000L, histogram.getValueAtPercentile(99));
+    assertEquals(1000000000L, histogram.getValueAtPercentile(100));
+    assertEquals(1000, histogram.getCount());
+    assertEquals(500500000.0, histogram.getMeanNanos(), 1.0);
+  }
+
+  @Test
+  public void testEveryValueFallsInsideItsBucket() {
+    for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+      int index = LatencyHistogram.bucketIndex(value);
+      assertTrue(value <= LatencyHistogram.highestValueInBucket(index));
+      assertTrue(index == 0 || value > LatencyHistogram.highestValueInBucket(index - 1));
+    }
+  }
+
+  @Test
+  public void testEmptyHistogramReportsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertEquals(0L, histogram.getValueAtPercentile(99));
+    assertEquals(0.0, histogram.getMeanNanos(), 0.0);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue("expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 16);
+  }
+}
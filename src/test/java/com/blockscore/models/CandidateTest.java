@@ -8,6 +8,7 @@ import static com.blockscore.models.TestUtils.setupBlockscoreApiClient;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
 import com.blockscore.exceptions.InvalidRequestException;
@@ -37,6 +38,18 @@ public class CandidateTest {
     assertCandidateIsValid(createEmptyCandidate());
   }
 
+  @Test
+  public void testBuiltCandidatesAreNotChangedByTheBuilder() {
+    Candidate.Builder builder = new Candidate.Builder(client).setFirstName("John");
+    Candidate first = builder.build();
+
+    Candidate second = builder.setFirstName("Jack").build();
+
+    assertNotSame(first, second);
+    assertEquals("John", first.getFirstName());
+    assertEquals("Jack", second.getFirstName());
+  }
+
   @Test
   public void testCandidateRetrieval() {
     Candidate candidate = createTestCandidate();
@@ -0,0 +1,81 @@
+package com.blockscore.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * PaginatedIterable unit tests.
+ */
+public class PaginatedIterableTest {
+
+  @Test
+  public void testIterationWalksEveryPage() {
+    CountingFetcher fetcher = new CountingFetcher(7);
+    List<Integer> records = new ArrayList<Integer>();
+
+    for (Integer record : new PaginatedIterable<Integer>(fetcher, 3)) {
+      records.add(record);
+    }
+
+    assertEquals(7, records.size());
+    assertEquals(Integer.valueOf(0), records.get(0));
+    assertEquals(Integer.valueOf(6), records.get(6));
+    assertEquals(3, fetcher.fetchCount);
+  }
+
+  @Test
+  public void testIterationFetchesOnlyWhatIsRead() {
+    CountingFetcher fetcher = new CountingFetcher(100);
+    Iterator<Integer> iterator = new PaginatedIterable<Integer>(fetcher, 10).iterator();
+
+    for (int i = 0; i < 15; i++) {
+      iterator.next();
+    }
+
+    assertEquals(2, fetcher.fetchCount);
+  }
+
+  @Test
+  public void testIterationOfEmptyListing() {
+    CountingFetcher fetcher = new CountingFetcher(0);
+
+    assertFalse(new PaginatedIterable<Integer>(fetcher, 10).iterator().hasNext());
+    assertEquals(1, fetcher.fetchCount);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPageSize() {
+    new PaginatedIterable<Integer>(new CountingFetcher(1), PaginatedIterable.MAX_PAGE_SIZE + 1);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static class CountingFetcher implements PaginatedIterable.PageFetcher<Integer> {
+    private final int totalCount;
+    private int fetchCount;
+
+    CountingFetcher(int totalCount) {
+      this.totalCount = totalCount;
+    }
+
+    @NotNull
+    @Override
+    public PaginatedResult<Integer> fetchPage(int offset, int limit) {
+      fetchCount++;
+      List<Integer> page = new ArrayList<Integer>();
+      for (int i = offset; i < Math.min(offset + limit, totalCount); i++) {
+        page.add(i);
+      }
+      return new PaginatedResult<Integer>(page, totalCount, offset + page.size() < totalCount);
+    }
+  }
+}
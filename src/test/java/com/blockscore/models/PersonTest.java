@@ -5,18 +5,25 @@ import static com.blockscore.models.TestUtils.assertAddressesAreEquivalent;
 import static com.blockscore.models.TestUtils.assertBasicResponseIsValid;
 import static com.blockscore.models.TestUtils.assertBasicResponsesAreEquivalent;
 import static com.blockscore.models.TestUtils.setupBlockscoreApiClient;
+import static com.blockscore.models.TestUtils.setupMockApiClient;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 
 import com.blockscore.exceptions.InvalidRequestException;
 import com.blockscore.net.BlockscoreApiClient;
+import com.blockscore.net.BlockscoreClientConfig;
+import com.blockscore.net.MockBlockscoreServer;
+import com.blockscore.net.RetryPolicy;
 
 import org.junit.Test;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Person unit tests.
@@ -76,11 +83,56 @@ public class PersonTest {
     assertPeopleAreValid(persons.getData());
   }
 
+  @Test
+  public void testPersonCreation_RetriedAfterTimeout() throws IOException {
+    MockBlockscoreServer server = new MockBlockscoreServer(2).start();
+    try {
+      server.setTimeoutDelay(1, TimeUnit.SECONDS).failNext(MockBlockscoreServer.Fault.TIMEOUT, 1);
+      RetryPolicy retryPolicy = new RetryPolicy().setBaseDelay(1, TimeUnit.MILLISECONDS)
+                                                 .setMaxDelay(10, TimeUnit.MILLISECONDS);
+      BlockscoreClientConfig config = new BlockscoreClientConfig().setReadTimeout(200, TimeUnit.MILLISECONDS)
+                                                                  .setRetryPolicy(retryPolicy);
+      BlockscoreApiClient mockClient = setupMockApiClient(server, config);
+
+      Person person = testPersonBuilder(mockClient).create();
+
+      assertPersonIsValid(person);
+      assertEquals(1, server.getFaultCount(MockBlockscoreServer.Fault.TIMEOUT));
+      assertEquals(2, server.getRequestCount("POST /people"));
+      assertEquals(1, mockClient.listPeople().getTotalCount());
+    } finally {
+      server.stop();
+    }
+  }
+
+  @Test
+  public void testPersonCreation_BuilderReusedAfterCreation() throws IOException {
+    MockBlockscoreServer server = new MockBlockscoreServer(2).start();
+    try {
+      BlockscoreApiClient mockClient = setupMockApiClient(server, new BlockscoreClientConfig());
+      Person.Builder builder = testPersonBuilder(mockClient);
+
+      Person first = builder.create();
+      Person second = builder.setFirstName("Jane").create();
+
+      assertNotEquals(first.getId(), second.getId());
+      assertEquals("John", first.getFirstName());
+      assertEquals("Jane", second.getFirstName());
+      assertEquals(2, mockClient.listPeople().getTotalCount());
+    } finally {
+      server.stop();
+    }
+  }
+
   /*------------------*/
   /* Helper Functions */
   /*------------------*/
 
   static Person createTestPerson() {
+    return testPersonBuilder(client).create();
+  }
+
+  private static Person.Builder testPersonBuilder(BlockscoreApiClient client) {
     Address address = new Address("1 Infinite Loop", "Apt 6", "Cupertino", "CA", "95014", "US");
     
     SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
@@ -99,7 +151,7 @@ public class PersonTest {
           .setDocumentValue("0000")
           .setAddress(address)
           .setDateOfBirth(dateOfBirth);
-    return builder.create();
+    return builder;
   }
 
   private Person createInvalidTestPerson() {
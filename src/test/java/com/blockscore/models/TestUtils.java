@@ -6,8 +6,15 @@ import static org.junit.Assert.assertNotNull;
 
 import com.blockscore.models.base.BasicResponse;
 import com.blockscore.net.BlockscoreApiClient;
+import com.blockscore.net.BlockscoreClientConfig;
+import com.blockscore.net.MockBlockscoreServer;
+
+import java.io.IOException;
 
 class TestUtils {
+  private static final String API_KEY = "sk_test_a1ed66cc16a7cbc9f262f51869da31b3";
+  private static MockBlockscoreServer mockServer;
+
   static void assertAddressesAreEquivalent(Address expected, Address actual) {
     assertEquals(expected.getCity(), actual.getCity());
     assertEquals(expected.getCountryCode(), actual.getCountryCode());
@@ -43,6 +50,34 @@ class TestUtils {
 
   static BlockscoreApiClient setupBlockscoreApiClient() {
     BlockscoreApiClient.useVerboseLogs(false);
-    return new BlockscoreApiClient("sk_test_a1ed66cc16a7cbc9f262f51869da31b3");
+    if (Boolean.getBoolean("blockscore.mock")) {
+      BlockscoreClientConfig config = new BlockscoreClientConfig().setEndpoint(getMockServer().getEndpoint());
+      return new BlockscoreApiClient(API_KEY, config);
+    }
+    return new BlockscoreApiClient(API_KEY);
+  }
+
+  /**
+   * Creates a client for a dedicated mock server, for tests that inject faults.
+   */
+  static BlockscoreApiClient setupMockApiClient(final MockBlockscoreServer server,
+                                                final BlockscoreClientConfig config) {
+    BlockscoreApiClient.useVerboseLogs(false);
+    return new BlockscoreApiClient(API_KEY, config.setEndpoint(server.getEndpoint()));
+  }
+
+  /**
+   * Gets the mock server shared by the tests, used instead of the live API when the
+   * {@code blockscore.mock} system property is set.
+   */
+  private static synchronized MockBlockscoreServer getMockServer() {
+    if (mockServer == null) {
+      try {
+        mockServer = new MockBlockscoreServer().start();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return mockServer;
   }
 }
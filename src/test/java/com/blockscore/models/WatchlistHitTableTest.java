@@ -0,0 +1,126 @@
+package com.blockscore.models;
+
+import static com.blockscore.models.TestUtils.assertAddressesAreEquivalent;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WatchlistHitTable unit tests.
+ */
+public class WatchlistHitTableTest {
+  private static final String FULL_HIT = "{\"watchlist_name\":\"US OFAC\",\"entry_type\":\"person\","
+      + "\"matching_info\":[\"name\",\"date_of_birth\"],\"confidence\":0.92,\"url\":\"http://example.com\","
+      + "\"notes\":\"note\",\"title\":\"Minister\",\"name_full\":\"John Doe\",\"alternate_names\":\"Jon Doe\","
+      + "\"date_of_birth\":\"1970-01-02\",\"passport\":\"P123\",\"ssn\":\"0000\",\"address_street1\":\"1 Main St\","
+      + "\"address_street2\":\"Apt 2\",\"address_city\":\"Springfield\",\"address_state\":\"IL\","
+      + "\"address_postal_code\":\"62701\",\"address_country_code\":\"US\",\"address_raw\":\"1 Main St\","
+      + "\"names\":[{\"name_full\":\"John Doe\"}],\"births\":[],\"documents\":[],"
+      + "\"addresses\":[{\"address_city\":\"Springfield\"}]}";
+
+  private static final String SPARSE_HIT = "{\"watchlist_name\":\"UK HMT\",\"confidence\":0.4}";
+
+  @Test
+  public void testViewsMatchTheOriginalHits() throws IOException {
+    List<WatchlistHit> hits = Arrays.asList(hit(FULL_HIT), hit(SPARSE_HIT), hit(FULL_HIT));
+
+    WatchlistHitTable table = WatchlistHitTable.of(hits);
+
+    assertEquals(3, table.size());
+    assertHitsAreEquivalent(hits.get(0), table.get(0));
+    assertHitsAreEquivalent(hits.get(2), table.get(2));
+    assertEquals(0.92, table.getConfidence(0), 0.0);
+    assertEquals("UK HMT", table.getWatchlist(1));
+  }
+
+  @Test
+  public void testSparseHitsReadAsEmpty() throws IOException {
+    WatchlistHit view = WatchlistHitTable.of(Arrays.asList(hit(SPARSE_HIT))).get(0);
+
+    assertEquals("UK HMT", view.getWatchlist());
+    assertNull(view.getEntryType());
+    assertNull(view.getDateOfBirth());
+    assertNull(view.getAddress().getCountryCode());
+    assertEquals(0, view.getMatchingInfo().length);
+    assertTrue(view.getNames().isEmpty());
+    assertTrue(view.getAddresses().isEmpty());
+  }
+
+  @Test
+  public void testTableGrowsAndAcceptsViews() throws IOException {
+    WatchlistHitTable source = WatchlistHitTable.of(Arrays.asList(hit(FULL_HIT), hit(SPARSE_HIT)));
+    WatchlistHitTable table = new WatchlistHitTable(1);
+
+    for (int i = 0; i < 40; i++) {
+      table.add(source.get(i % 2));
+    }
+
+    assertEquals(40, table.size());
+    assertHitsAreEquivalent(source.get(0), table.get(38));
+    assertHitsAreEquivalent(source.get(1), table.get(39));
+  }
+
+  @Test
+  public void testMatchingInfoIsCopied() throws IOException {
+    WatchlistHit view = WatchlistHitTable.of(Arrays.asList(hit(FULL_HIT))).get(0);
+
+    String[] info = view.getMatchingInfo();
+    info[0] = "changed";
+
+    assertNotSame(info, view.getMatchingInfo());
+    assertEquals("name", view.getMatchingInfo()[0]);
+  }
+
+  @Test
+  public void testIteration() throws IOException {
+    List<String> watchlists = new ArrayList<String>();
+    for (WatchlistHit hit : WatchlistHitTable.of(Arrays.asList(hit(FULL_HIT), hit(SPARSE_HIT)))) {
+      watchlists.add(hit.getWatchlist());
+    }
+    assertEquals(Arrays.asList("US OFAC", "UK HMT"), watchlists);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds() {
+    new WatchlistHitTable().get(0);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static WatchlistHit hit(String json) throws IOException {
+    return new ObjectMapper().readValue(json, WatchlistHit.class);
+  }
+
+  private static void assertHitsAreEquivalent(WatchlistHit expected, WatchlistHit actual) {
+    assertEquals(expected.getWatchlist(), actual.getWatchlist());
+    assertEquals(expected.getEntryType(), actual.getEntryType());
+    assertArrayEquals(expected.getMatchingInfo(), actual.getMatchingInfo());
+    assertEquals(expected.getConfidence(), actual.getConfidence(), 0.0);
+    assertEquals(expected.getUrl(), actual.getUrl());
+    assertEquals(expected.getNotes(), actual.getNotes());
+    assertEquals(expected.getTitle(), actual.getTitle());
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.getAlternateNames(), actual.getAlternateNames());
+    assertEquals(expected.getDateOfBirth(), actual.getDateOfBirth());
+    assertEquals(expected.getSsn(), actual.getSsn());
+    assertEquals(expected.getPassports(), actual.getPassports());
+    assertAddressesAreEquivalent(expected.getAddress(), actual.getAddress());
+    assertEquals(expected.getRawAddress(), actual.getRawAddress());
+    assertEquals(expected.getNames(), actual.getNames());
+    assertEquals(expected.getBirths(), actual.getBirths());
+    assertEquals(expected.getDocuments(), actual.getDocuments());
+    assertEquals(expected.getAddresses(), actual.getAddresses());
+  }
+}
@@ -0,0 +1,227 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.blockscore.exceptions.InvalidRequestException;
+import com.blockscore.models.Address;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.Person;
+import com.blockscore.models.QuestionSet;
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * BlockscoreAsyncClient unit tests.
+ */
+public class BlockscoreAsyncClientTest {
+  private static final String API_KEY = "sk_test_a1ed66cc16a7cbc9f262f51869da31b3";
+
+  private MockBlockscoreServer server;
+  private BlockscoreApiClient client;
+
+  @Before
+  public void setUp() throws IOException {
+    BlockscoreApiClient.useVerboseLogs(false);
+    server = new MockBlockscoreServer(4).start();
+    client = new BlockscoreApiClient(API_KEY, new BlockscoreClientConfig().setEndpoint(server.getEndpoint()));
+  }
+
+  @After
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  public void testSuccessIsReportedToCallback() throws Exception {
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client);
+    RecordingCallback<Person> callback = new RecordingCallback<Person>();
+
+    Future<Person> future = asyncClient.createPerson(personBuilder(client), callback);
+
+    Person person = future.get(5, TimeUnit.SECONDS);
+    callback.await();
+    assertSame(person, callback.result.get());
+    assertEquals("John", person.getFirstName());
+  }
+
+  @Test
+  public void testBuildersAreCreatedThroughTheAsyncClient() throws Exception {
+    BlockscoreApiClient unreachable = new BlockscoreApiClient(API_KEY,
+        new BlockscoreClientConfig().setEndpoint("http://127.0.0.1:1"));
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client);
+
+    Person person = asyncClient.createPerson(personBuilder(unreachable)).get(5, TimeUnit.SECONDS);
+
+    assertNotNull(person.getId());
+    assertEquals(1, server.getRequestCount("POST /people"));
+  }
+
+  @Test
+  public void testRecordsAreSentThroughTheAsyncClient() throws Exception {
+    BlockscoreApiClient unreachable = new BlockscoreApiClient(API_KEY,
+        new BlockscoreClientConfig().setEndpoint("http://127.0.0.1:1"));
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client);
+    Person person = personBuilder(client).create();
+    person.setAdapter(unreachable.getAdapter());
+    Candidate candidate = new Candidate.Builder(client).setFirstName("John").setLastName("Doe").create();
+    candidate.setAdapter(unreachable.getAdapter());
+
+    QuestionSet questionSet = asyncClient.createQuestionSet(person, 0L).get(5, TimeUnit.SECONDS);
+    asyncClient.retrieveQuestionSet(person, questionSet.getId()).get(5, TimeUnit.SECONDS);
+    candidate.setNote("Updated");
+    assertEquals("Updated", asyncClient.updateCandidate(candidate).get(5, TimeUnit.SECONDS).getNote());
+    assertEquals(2, asyncClient.getRevisionHistory(candidate).get(5, TimeUnit.SECONDS).size());
+    assertNotNull(asyncClient.getPastHits(candidate).get(5, TimeUnit.SECONDS));
+    assertNotNull(asyncClient.searchWatchlists(candidate, null, null).get(5, TimeUnit.SECONDS));
+    asyncClient.deleteCandidate(candidate).get(5, TimeUnit.SECONDS);
+
+    assertEquals(1, server.getRequestCount("DELETE /candidates/{id}"));
+  }
+
+  @Test
+  public void testFailureIsReportedToCallback() throws Exception {
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client);
+    RecordingCallback<Person> callback = new RecordingCallback<Person>();
+
+    Future<Person> future = asyncClient.retrievePerson("-1", callback);
+
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      fail("Expected the retrieval to fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof InvalidRequestException);
+    }
+    callback.await();
+    assertTrue(callback.error.get() instanceof InvalidRequestException);
+  }
+
+  @Test
+  public void testCallsBeyondQueueCapacityAreRejected() throws Exception {
+    server.setLatency(MockBlockscoreServer.fixedLatency(500, TimeUnit.MILLISECONDS));
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client, 1, 1);
+
+    asyncClient.listPeople();
+    asyncClient.listPeople();
+    try {
+      asyncClient.listPeople();
+      fail("Expected the call to be rejected");
+    } catch (RejectedExecutionException expected) {
+      // The only worker is busy and the queue is full
+    } finally {
+      asyncClient.shutdown();
+    }
+  }
+
+  @Test
+  public void testCancellationIsReportedToCallback() throws Exception {
+    server.setLatency(MockBlockscoreServer.fixedLatency(500, TimeUnit.MILLISECONDS));
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client, 1, 1);
+    RecordingCallback<Person> callback = new RecordingCallback<Person>();
+
+    asyncClient.listPeople();
+    Future<Person> queued = asyncClient.retrievePerson("-1", callback);
+    queued.cancel(false);
+
+    callback.await();
+    assertTrue(callback.error.get() instanceof CancellationException);
+    asyncClient.shutdown();
+  }
+
+  @Test
+  public void testCallbacksRunWithCallersTraceContext() throws Exception {
+    BlockscoreAsyncClient asyncClient = new BlockscoreAsyncClient(client);
+    final Span span = new NamedSpan();
+    final AtomicReference<Span> seen = new AtomicReference<Span>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    Span previous = TraceContext.attach(span);
+    try {
+      asyncClient.listPeople(new BlockscoreCallback<PaginatedResult<Person>>() {
+        @Override
+        public void onSuccess(PaginatedResult<Person> result) {
+          seen.set(TraceContext.current());
+          done.countDown();
+        }
+
+        @Override
+        public void onFailure(@NotNull Throwable error) {
+          done.countDown();
+        }
+      });
+    } finally {
+      TraceContext.restore(previous);
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertSame(span, seen.get());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Person.Builder personBuilder(BlockscoreApiClient client) {
+    return new Person.Builder(client).setFirstName("John")
+                                     .setLastName("Doe")
+                                     .setDocumentType("ssn")
+                                     .setDocumentValue("0000")
+                                     .setAddress(new Address("1 Infinite Loop", null, "Cupertino", "CA", "95014", "US"))
+                                     .setDateOfBirth(new Date(335836800000L));
+  }
+
+  private static class RecordingCallback<T> implements BlockscoreCallback<T> {
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final AtomicReference<T> result = new AtomicReference<T>();
+    private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+    @Override
+    public void onSuccess(T value) {
+      result.set(value);
+      done.countDown();
+    }
+
+    @Override
+    public void onFailure(@NotNull Throwable cause) {
+      error.set(cause);
+      done.countDown();
+    }
+
+    void await() throws InterruptedException {
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  private static class NamedSpan implements Span {
+    @Override
+    public void setTag(@NotNull String key, @NotNull String value) {
+    }
+
+    @Override
+    public void setError(@NotNull Throwable error) {
+    }
+
+    @Override
+    public void finish() {
+    }
+  }
+}
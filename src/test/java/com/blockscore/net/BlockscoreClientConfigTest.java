@@ -0,0 +1,86 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.blockscore.common.Constants;
+
+import com.squareup.okhttp.OkHttpClient;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlockscoreClientConfig unit tests.
+ */
+public class BlockscoreClientConfigTest {
+  private static final String API_KEY = "sk_test_a1ed66cc16a7cbc9f262f51869da31b3";
+
+  @Test
+  public void testDefaultConfigurationCannotChange() {
+    BlockscoreClientConfig config = BlockscoreClientConfig.getDefault();
+
+    assertSame(config, BlockscoreClientConfig.getDefault());
+    try {
+      config.setEndpoint("http://localhost:1/v1");
+      fail("The default configuration should be immutable.");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertEquals(Constants.BLOCKSCORE_DOMAIN, config.getEndpoint());
+  }
+
+  @Test
+  public void testConfigurationIsFrozenOnceUsed() {
+    BlockscoreClientConfig config = new BlockscoreClientConfig().setReadTimeout(5, TimeUnit.SECONDS);
+    new BlockscoreApiClient(API_KEY, config);
+
+    try {
+      config.setReadTimeout(10, TimeUnit.SECONDS);
+      fail("A configuration in use should be frozen.");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testReadsAreNotCoalescedByDefault() {
+    assertFalse(new BlockscoreClientConfig().isCoalescingReads());
+    assertTrue(new BlockscoreClientConfig().coalesceReads(true).isCoalescingReads());
+  }
+
+  @Test
+  public void testHttpClientUsesConfiguredTimeouts() {
+    OkHttpClient client = new BlockscoreClientConfig().setConnectTimeout(1, TimeUnit.SECONDS)
+                                                       .setReadTimeout(2, TimeUnit.SECONDS)
+                                                       .setWriteTimeout(3, TimeUnit.SECONDS)
+                                                       .getHttpClient();
+
+    assertEquals(1000, client.getConnectTimeout());
+    assertEquals(2000, client.getReadTimeout());
+    assertEquals(3000, client.getWriteTimeout());
+  }
+
+  @Test
+  public void testClientsSharingConfigurationShareConnections() throws IOException {
+    MockBlockscoreServer server = new MockBlockscoreServer(2).start();
+    try {
+      BlockscoreClientConfig config = new BlockscoreClientConfig().setEndpoint(server.getEndpoint());
+      BlockscoreApiClient first = new BlockscoreApiClient(API_KEY, config);
+      BlockscoreApiClient second = new BlockscoreApiClient("sk_test_second", config);
+
+      first.listCandidates();
+      second.listCandidates();
+      first.listPeople();
+
+      assertEquals(3, server.getRequestCount());
+      assertEquals(1, config.getHttpClient().getConnectionPool().getConnectionCount());
+    } finally {
+      server.stop();
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedByteArray;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BoundedClient unit tests.
+ */
+public class BoundedClientTest {
+  private final Semaphore permits = new Semaphore(2, true);
+
+  @Test
+  public void testConcurrentRequestsAreLimitedToThePermits() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final BoundedClient client = new BoundedClient(new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        int now = running.incrementAndGet();
+        synchronized (maxRunning) {
+          maxRunning.set(Math.max(maxRunning.get(), now));
+        }
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new InterruptedIOException();
+        }
+        running.decrementAndGet();
+        return new Response(request.getUrl(), 200, "OK", Collections.<Header>emptyList(), null);
+      }
+    }, permits);
+
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < 6; i++) {
+      Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            client.execute(request());
+          } catch (IOException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+
+    while (running.get() < 2) {
+      Thread.sleep(5);
+    }
+    Thread.sleep(50);
+    assertEquals(2, running.get());
+
+    release.countDown();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    assertEquals(2, maxRunning.get());
+    assertEquals(2, permits.availablePermits());
+  }
+
+  @Test
+  public void testPermitIsHeldUntilTheBodyIsClosed() throws IOException {
+    BoundedClient client = new BoundedClient(new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        return new Response(request.getUrl(), 200, "OK", Collections.<Header>emptyList(),
+                            new TypedByteArray("application/json", "{}".getBytes("UTF-8")));
+      }
+    }, permits);
+
+    Response response = client.execute(request());
+    assertEquals(1, permits.availablePermits());
+
+    InputStream in = response.getBody().in();
+    assertEquals('{', in.read());
+    assertEquals(1, permits.availablePermits());
+
+    in.close();
+    in.close();
+    assertEquals(2, permits.availablePermits());
+  }
+
+  @Test
+  public void testPermitIsReleasedWhenThereIsNoBody() throws IOException {
+    BoundedClient client = new BoundedClient(new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        return new Response(request.getUrl(), 204, "No Content", Collections.<Header>emptyList(), null);
+      }
+    }, permits);
+
+    client.execute(request());
+    assertEquals(2, permits.availablePermits());
+  }
+
+  @Test
+  public void testPermitIsReleasedWhenTheRequestFails() {
+    BoundedClient client = new BoundedClient(new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        throw new IOException("connection reset");
+      }
+    }, permits);
+
+    try {
+      client.execute(request());
+      fail("The failure should have been rethrown.");
+    } catch (IOException e) {
+      assertEquals("connection reset", e.getMessage());
+    }
+    assertEquals(2, permits.availablePermits());
+  }
+
+  @Test
+  public void testInterruptedWaitFailsTheRequest() throws IOException {
+    permits.drainPermits();
+    Thread.currentThread().interrupt();
+
+    try {
+      new BoundedClient(null, permits).execute(request());
+      fail("The interrupted wait should have failed the request.");
+    } catch (InterruptedIOException e) {
+      assertTrue(Thread.interrupted());
+    }
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Request request() {
+    return new Request("GET", "https://api.blockscore.com/people", Collections.<Header>emptyList(), null);
+  }
+}
@@ -0,0 +1,140 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import com.blockscore.models.Candidate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CachingRestAdapter unit tests.
+ */
+public class CachingRestAdapterTest {
+  private final AtomicInteger retrieveCount = new AtomicInteger();
+  private final AtomicInteger historyCount = new AtomicInteger();
+  private final List<Candidate> revisions = new ArrayList<Candidate>();
+  private final CachingRestAdapter adapter = new CachingRestAdapter(new StubAdapter(), new CachePolicy());
+
+  @Test
+  public void testRetrievedCandidateIsCachedAsCopy() throws IOException {
+    revisions.add(candidate(100));
+
+    Candidate first = adapter.retrieveCandidate("c1");
+    Candidate second = adapter.retrieveCandidate("c1");
+
+    assertEquals(1, retrieveCount.get());
+    assertNotSame(first, second);
+  }
+
+  @Test
+  public void testUpdateReplacesCachedCandidateAndExtendsHistory() throws IOException {
+    revisions.add(candidate(100));
+    adapter.getCandidateHistory("c1");
+
+    adapter.updateCandidate("c1", candidate(200));
+    adapter.retrieveCandidate("c1");
+    List<Candidate> history = adapter.getCandidateHistory("c1");
+
+    assertEquals(0, retrieveCount.get());
+    assertEquals(1, historyCount.get());
+    assertEquals(2, history.size());
+    assertEquals(200000L, history.get(0).getUpdatedAtDate().getTime());
+  }
+
+  @Test
+  public void testHistoryIsFetchedAgainWhenNewerRevisionIsSeen() throws IOException {
+    revisions.add(candidate(100));
+    adapter.getCandidateHistory("c1");
+
+    revisions.add(0, candidate(300));
+    adapter.retrieveCandidate("c1");
+    List<Candidate> history = adapter.getCandidateHistory("c1");
+
+    assertEquals(2, historyCount.get());
+    assertEquals(2, history.size());
+  }
+
+  @Test
+  public void testDeleteEvictsCandidateAndHistory() throws IOException {
+    revisions.add(candidate(100));
+    adapter.retrieveCandidate("c1");
+    adapter.getCandidateHistory("c1");
+
+    adapter.deleteCandidate("c1");
+
+    assertNull(adapter.getCandidateCache().get("c1"));
+    assertNull(adapter.getHistoryCache().get("c1"));
+  }
+
+  @Test
+  public void testHistoryLookupsDoNotCountAsCandidateLookups() throws IOException {
+    revisions.add(candidate(100));
+    adapter.retrieveCandidate("c1");
+
+    adapter.getCandidateHistory("c1");
+    adapter.getCandidateHistory("c1");
+
+    assertEquals(0L, adapter.getCandidateCache().getHitCount());
+    assertEquals(1L, adapter.getCandidateCache().getMissCount());
+  }
+
+  @Test
+  public void testHistoryIsCachedForItsOwnTimeToLive() throws Exception {
+    CachePolicy policy = new CachePolicy().setCandidateTtl(1, TimeUnit.MILLISECONDS)
+                                          .setHistoryTtl(1, TimeUnit.MINUTES);
+    CachingRestAdapter adapter = new CachingRestAdapter(new StubAdapter(), policy);
+    revisions.add(candidate(100));
+
+    adapter.getCandidateHistory("c1");
+    Thread.sleep(10);
+    adapter.getCandidateHistory("c1");
+
+    assertEquals(1, historyCount.get());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Candidate candidate(long updatedAtSeconds) throws IOException {
+    String json = "{\"id\":\"c1\",\"created_at\":100,\"updated_at\":" + updatedAtSeconds + "}";
+    return new ObjectMapper().readValue(json, Candidate.class);
+  }
+
+  private class StubAdapter extends ForwardingRestAdapter {
+    StubAdapter() {
+      super(null);
+    }
+
+    @Override
+    public Candidate retrieveCandidate(String id) {
+      retrieveCount.incrementAndGet();
+      return revisions.get(0).copy();
+    }
+
+    @Override
+    public Candidate updateCandidate(String id, Candidate candidate) {
+      revisions.add(0, candidate);
+      return candidate.copy();
+    }
+
+    @Override
+    public Candidate deleteCandidate(String id) {
+      return revisions.get(0);
+    }
+
+    @Override
+    public List<Candidate> getCandidateHistory(String id) {
+      historyCount.incrementAndGet();
+      return new ArrayList<Candidate>(revisions);
+    }
+  }
+}
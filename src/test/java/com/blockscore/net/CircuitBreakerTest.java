@@ -0,0 +1,122 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CircuitBreaker unit tests.
+ */
+public class CircuitBreakerTest {
+  private final List<String> transitions = new ArrayList<String>();
+  private final CircuitBreaker breaker = new CircuitBreaker().setWindow(10, 4)
+                                                             .setOpenDuration(20, TimeUnit.MILLISECONDS)
+                                                             .setHalfOpenProbes(2);
+
+  @Test
+  public void testBreakerOpensOnFailureRate() {
+    listen();
+    recordCalls(2, false);
+    recordCalls(2, true);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission().isGranted());
+    assertEquals("CLOSED->OPEN", transitions.get(0));
+  }
+
+  @Test
+  public void testBreakerOpensOnSlowCalls() {
+    breaker.setSlowCallRateThreshold(0.5, 1, TimeUnit.SECONDS);
+
+    for (int i = 0; i < 4; i++) {
+      breaker.onCallComplete(breaker.tryAcquirePermission(), false, TimeUnit.SECONDS.toNanos(2));
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  public void testHalfOpenProbesCloseBreaker() throws InterruptedException {
+    listen();
+    recordCalls(4, true);
+    Thread.sleep(30);
+
+    recordCalls(2, false);
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals("OPEN->HALF_OPEN", transitions.get(1));
+    assertEquals("HALF_OPEN->CLOSED", transitions.get(2));
+  }
+
+  @Test
+  public void testFailedProbeReopensBreaker() throws InterruptedException {
+    recordCalls(4, true);
+    Thread.sleep(30);
+
+    recordCalls(1, true);
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+  }
+
+  @Test
+  public void testCallsFromBeforeHalfOpenAreNotProbes() throws InterruptedException {
+    CircuitBreaker.Permit lateSuccess = breaker.tryAcquirePermission();
+    CircuitBreaker.Permit lateFailure = breaker.tryAcquirePermission();
+    recordCalls(4, true);
+    Thread.sleep(30);
+
+    CircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+    assertTrue(probe.isGranted());
+    breaker.onCallComplete(lateSuccess, false, 0L);
+    breaker.onCallComplete(lateFailure, true, 0L);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    breaker.onCallComplete(probe, false, 0L);
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    recordCalls(1, false);
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroHalfOpenProbesAreRejected() {
+    breaker.setHalfOpenProbes(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroFailureRateIsRejected() {
+    breaker.setFailureRateThreshold(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSlowCallRateAboveOneIsRejected() {
+    breaker.setSlowCallRateThreshold(1.5, 1, TimeUnit.SECONDS);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private void listen() {
+    breaker.addListener(new CircuitBreaker.Listener() {
+      @Override
+      public void onStateChange(@NotNull CircuitBreaker.State from, @NotNull CircuitBreaker.State to) {
+        transitions.add(from + "->" + to);
+      }
+    });
+  }
+
+  private void recordCalls(int count, boolean failed) {
+    for (int i = 0; i < count; i++) {
+      CircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+      assertTrue(permit.isGranted());
+      breaker.onCallComplete(permit, failed, 0L);
+    }
+  }
+}
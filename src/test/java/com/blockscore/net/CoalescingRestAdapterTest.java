@@ -0,0 +1,111 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.models.PaginatedResult;
+import com.blockscore.models.WatchlistHit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CoalescingRestAdapter unit tests.
+ */
+public class CoalescingRestAdapterTest {
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @Test
+  public void testConcurrentReadsShareOneRequest() throws Exception {
+    final CoalescingRestAdapter adapter = new CoalescingRestAdapter(new SlowAdapter());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    List<Future<PaginatedResult<WatchlistHit>>> results = new ArrayList<Future<PaginatedResult<WatchlistHit>>>();
+    for (int i = 0; i < 4; i++) {
+      results.add(executor.submit(new Callable<PaginatedResult<WatchlistHit>>() {
+        @Override
+        public PaginatedResult<WatchlistHit> call() {
+          return adapter.getCandidateHits("c1");
+        }
+      }));
+    }
+
+    waitForWaiters(adapter, 3);
+    release.countDown();
+
+    PaginatedResult<WatchlistHit> first = results.get(0).get(1, TimeUnit.SECONDS);
+    for (Future<PaginatedResult<WatchlistHit>> result : results) {
+      assertSame(first, result.get(1, TimeUnit.SECONDS));
+    }
+    assertEquals(1, requestCount.get());
+    executor.shutdown();
+  }
+
+  @Test
+  public void testSequentialReadsAreNotCoalesced() {
+    release.countDown();
+    CoalescingRestAdapter adapter = new CoalescingRestAdapter(new SlowAdapter());
+
+    adapter.getCandidateHits("c1");
+    adapter.getCandidateHits("c1");
+
+    assertEquals(2, requestCount.get());
+    assertEquals(0L, adapter.getCoalescedCount());
+  }
+
+  @Test
+  public void testDifferentPagesAreNotCoalesced() {
+    release.countDown();
+    CoalescingRestAdapter adapter = new CoalescingRestAdapter(new SlowAdapter());
+
+    adapter.getCandidateHits("c1", 0, 10);
+    adapter.getCandidateHits("c1", 10, 10);
+
+    assertEquals(2, requestCount.get());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private void waitForWaiters(CoalescingRestAdapter adapter, int waiters) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 1000;
+    while (adapter.getCoalescedCount() < waiters) {
+      assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  private class SlowAdapter extends ForwardingRestAdapter {
+    SlowAdapter() {
+      super(null);
+    }
+
+    @Override
+    public PaginatedResult<WatchlistHit> getCandidateHits(String id) {
+      return getCandidateHits(id, 0, 10);
+    }
+
+    @Override
+    public PaginatedResult<WatchlistHit> getCandidateHits(String id, int offset, int limit) {
+      requestCount.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      return new PaginatedResult<WatchlistHit>(Collections.<WatchlistHit>emptyList(), 0, false);
+    }
+  }
+}
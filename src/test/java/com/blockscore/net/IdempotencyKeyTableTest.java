@@ -0,0 +1,75 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IdempotencyKeyTable unit tests.
+ */
+public class IdempotencyKeyTableTest {
+
+  @Test
+  public void testCompletedKeyIsNotRepeated() {
+    IdempotencyKeyTable table = new IdempotencyKeyTable();
+    CountingCall call = new CountingCall(false);
+
+    assertEquals("created-1", table.execute("key", call));
+    assertEquals("created-1", table.execute("key", call));
+    assertEquals(1, call.calls.get());
+  }
+
+  @Test
+  public void testFailedKeyCanBeRetried() {
+    IdempotencyKeyTable table = new IdempotencyKeyTable();
+    CountingCall failingCall = new CountingCall(true);
+
+    try {
+      table.execute("key", failingCall);
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertFalse(table.contains("key"));
+    assertEquals("created-1", table.execute("key", new CountingCall(false)));
+  }
+
+  @Test
+  public void testOldestCompletedKeysAreForgotten() {
+    IdempotencyKeyTable table = new IdempotencyKeyTable(2);
+
+    table.execute("first", new CountingCall(false));
+    table.execute("second", new CountingCall(false));
+    table.execute("third", new CountingCall(false));
+
+    assertFalse(table.contains("first"));
+    assertTrue(table.contains("third"));
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static class CountingCall implements Callable<String> {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final boolean fail;
+
+    CountingCall(boolean fail) {
+      this.fail = fail;
+    }
+
+    @Override
+    public String call() {
+      int count = calls.incrementAndGet();
+      if (fail) {
+        throw new IllegalStateException("request timed out");
+      }
+      return "created-" + count;
+    }
+  }
+}
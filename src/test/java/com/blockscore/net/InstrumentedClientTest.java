@@ -0,0 +1,102 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import com.blockscore.metrics.InMemoryClientMetrics;
+import com.blockscore.metrics.RouteMetrics;
+import com.blockscore.models.error.BlockscoreErrorType;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * InstrumentedClient unit tests.
+ */
+public class InstrumentedClientTest {
+  private static final String ENDPOINT = "https://api.blockscore.com";
+
+  private final InMemoryClientMetrics metrics = new InMemoryClientMetrics();
+
+  @Test
+  public void testRoutesReplaceRecordIds() {
+    InstrumentedClient client = new InstrumentedClient(null, metrics, ENDPOINT);
+
+    assertEquals("GET /people", client.route("GET", ENDPOINT + "/people?offset=0&limit=25"));
+    assertEquals("GET /people/{id}", client.route("GET", ENDPOINT + "/people/55f4a5ef3962"));
+    assertEquals("POST /question_sets/{id}/score", client.route("POST", ENDPOINT + "/question_sets/55f4/score"));
+    assertEquals("GET /candidates/{id}/hits", client.route("GET", ENDPOINT + "/candidates/55f4/hits?limit=5"));
+  }
+
+  @Test
+  public void testSuccessfulRequestIsMeasured() throws IOException {
+    InstrumentedClient client = new InstrumentedClient(respondWith(200, "{\"id\":\"1\"}"), metrics, ENDPOINT);
+
+    client.execute(request("POST", "/candidates", "{}"));
+
+    RouteMetrics route = metrics.getRoute("POST /candidates");
+    assertNotNull(route);
+    assertEquals(1, route.getSuccessCount());
+    assertEquals(0, route.getInFlight());
+    assertEquals(2, route.getBytesSent());
+    assertEquals(10, route.getBytesReceived());
+    assertEquals(1, route.getLatency().getCount());
+  }
+
+  @Test
+  public void testErrorsAreCountedByType() throws IOException {
+    new InstrumentedClient(respondWith(404, "{}"), metrics, ENDPOINT).execute(request("GET", "/people/1", null));
+    new InstrumentedClient(respondWith(503, "{}"), metrics, ENDPOINT).execute(request("GET", "/people/2", null));
+
+    RouteMetrics route = metrics.getRoute("GET /people/{id}");
+    assertNotNull(route);
+    assertEquals(1, route.getErrorCount(BlockscoreErrorType.INVALID));
+    assertEquals(1, route.getErrorCount(BlockscoreErrorType.API));
+    assertEquals(0, route.getSuccessCount());
+  }
+
+  @Test
+  public void testTransportFailureIsCountedAsUnknown() {
+    Client failing = new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        throw new IOException("connection reset");
+      }
+    };
+
+    try {
+      new InstrumentedClient(failing, metrics, ENDPOINT).execute(request("GET", "/companies", null));
+    } catch (IOException expected) {
+      // Measured below
+    }
+
+    RouteMetrics route = metrics.getRoute("GET /companies");
+    assertNotNull(route);
+    assertEquals(1, route.getErrorCount(BlockscoreErrorType.UNKNOWN));
+    assertEquals(0, route.getInFlight());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Request request(String method, String path, String body) {
+    return new Request(method, ENDPOINT + path, Collections.<Header>emptyList(),
+                       body == null ? null : new TypedString(body));
+  }
+
+  private static Client respondWith(final int status, final String body) {
+    return new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        return new Response(request.getUrl(), status, "", Collections.<Header>emptyList(), new TypedString(body));
+      }
+    };
+  }
+}
@@ -0,0 +1,171 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MockBlockscoreServer unit tests.
+ */
+public class MockBlockscoreServerTest {
+  private static final String PERSON_QUERY = "name_first=John&name_last=Doe&document_type=ssn&document_value=0000"
+      + "&birth_day=23&birth_month=8&birth_year=1980&address_street1=1+Infinite+Loop&address_city=Cupertino"
+      + "&address_country_code=US";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private MockBlockscoreServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = new MockBlockscoreServer(4).start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  public void testPersonIsCreatedAndRetrieved() throws IOException {
+    Map<String, Object> created = call("POST", "/people?" + PERSON_QUERY, null, 200);
+    Map<String, Object> retrieved = call("GET", "/people/" + created.get("id"), null, 200);
+
+    assertEquals("John", retrieved.get("name_first"));
+    assertEquals(23, retrieved.get("birth_day"));
+    assertNotNull(retrieved.get("details"));
+    assertEquals(1L, server.getRequestCount("GET /people/{id}"));
+  }
+
+  @Test
+  public void testMissingParameterIsRejected() throws IOException {
+    Map<String, Object> response = call("POST", "/people?name_first=John", null, 400);
+
+    Map<?, ?> error = (Map<?, ?>) response.get("error");
+    assertEquals("invalid_request_error", error.get("type"));
+    assertEquals("name_last", error.get("param"));
+  }
+
+  @Test
+  public void testUnknownIdIsRejected() throws IOException {
+    Map<String, Object> response = call("GET", "/candidates/missing", null, 404);
+
+    assertEquals("invalid_request_error", ((Map<?, ?>) response.get("error")).get("type"));
+  }
+
+  @Test
+  public void testCandidateRevisionsAreRecorded() throws IOException {
+    Map<String, Object> created = call("POST", "/candidates", "{\"name_first\":\"John\"}", 200);
+    String path = "/candidates/" + created.get("id");
+
+    call("PATCH", path, "{\"name_first\":\"Mickey\"}", 200);
+    List<?> history = mapper.readValue(request("GET", path + "/history", null, 200), List.class);
+
+    assertEquals(2, history.size());
+    assertEquals("Mickey", ((Map<?, ?>) history.get(0)).get("name_first"));
+  }
+
+  @Test
+  public void testWatchlistSearchRecordsHits() throws IOException {
+    Map<String, Object> created = call("POST", "/candidates", "{\"name_first\":\"John\"}", 200);
+
+    Map<String, Object> results = call("POST", "/watchlists?candidate_id=" + created.get("id"), null, 200);
+    Map<String, Object> hits = call("GET", "/candidates/" + created.get("id") + "/hits?limit=1", null, 200);
+
+    assertEquals(2, results.get("count"));
+    assertEquals(2, hits.get("total_count"));
+    assertEquals(true, hits.get("has_more"));
+  }
+
+  @Test
+  public void testInjectedApiErrorIsReturned() throws IOException {
+    server.injectFault(MockBlockscoreServer.Fault.API, 1.0);
+
+    Map<String, Object> response = call("GET", "/people", null, 500);
+
+    assertEquals("api_error", ((Map<?, ?>) response.get("error")).get("type"));
+    assertEquals(1L, server.getFaultCount(MockBlockscoreServer.Fault.API));
+  }
+
+  @Test
+  public void testInjectedTimeoutDropsRequest() throws IOException {
+    server.injectFault(MockBlockscoreServer.Fault.TIMEOUT, 1.0).setTimeoutDelay(500, TimeUnit.MILLISECONDS);
+
+    try {
+      request("GET", "/people", null, 200, 100);
+      fail("Expected the request to time out");
+    } catch (SocketTimeoutException expected) {
+      assertEquals(1L, server.getFaultCount(MockBlockscoreServer.Fault.TIMEOUT));
+    }
+  }
+
+  @Test
+  public void testLatencyIsAdded() throws IOException {
+    server.setLatency(MockBlockscoreServer.fixedLatency(50, TimeUnit.MILLISECONDS));
+
+    long start = System.nanoTime();
+    call("GET", "/companies", null, 200);
+
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> call(String method, String path, String body, int expectedStatus) throws IOException {
+    return mapper.readValue(request(method, path, body, expectedStatus), Map.class);
+  }
+
+  private byte[] request(String method, String path, String body, int expectedStatus) throws IOException {
+    return request(method, path, body, expectedStatus, 5000);
+  }
+
+  private byte[] request(String method, String path, String body, int expectedStatus, int readTimeoutMillis)
+      throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(server.getEndpoint() + path).openConnection();
+    connection.setReadTimeout(readTimeoutMillis);
+    if (method.equals("PATCH")) {
+      connection.setRequestMethod("POST");
+      connection.setRequestProperty("X-HTTP-Method-Override", "PATCH");
+    } else {
+      connection.setRequestMethod(method);
+    }
+
+    if (body != null) {
+      connection.setDoOutput(true);
+      connection.setRequestProperty("Content-Type", "application/json");
+      OutputStream out = connection.getOutputStream();
+      out.write(body.getBytes("UTF-8"));
+      out.close();
+    }
+
+    assertEquals(expectedStatus, connection.getResponseCode());
+    InputStream in = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      bytes.write(buffer, 0, read);
+    }
+    in.close();
+    return bytes.toByteArray();
+  }
+}
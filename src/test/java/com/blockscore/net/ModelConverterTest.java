@@ -0,0 +1,61 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.models.Candidate;
+import com.blockscore.models.PaginatedResult;
+import org.junit.Test;
+import retrofit.mime.TypedByteArray;
+import retrofit.mime.TypedOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * ModelConverter unit tests.
+ */
+public class ModelConverterTest {
+  private final ModelConverter converter = ModelConverter.getInstance();
+
+  @Test
+  public void testReadersAreBuiltOncePerType() throws Exception {
+    Type type = BlockscoreRestAdapter.class.getMethod("listCandidates").getGenericReturnType();
+
+    assertSame(converter.readerFor(type), converter.readerFor(type));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testPaginatedCandidatesAreRead() throws Exception {
+    Type type = BlockscoreRestAdapter.class.getMethod("listCandidates").getGenericReturnType();
+    String json = "{\"total_count\":1,\"has_more\":false,\"unknown\":1,"
+        + "\"data\":[{\"id\":\"c1\",\"name_first\":\"John\",\"created_at\":100,\"updated_at\":100}]}";
+
+    PaginatedResult<Candidate> result = (PaginatedResult<Candidate>) converter.fromBody(body(json), type);
+
+    assertEquals(1, result.getData().size());
+    assertEquals("c1", result.getData().get(0).getId());
+    assertEquals("John", result.getData().get(0).getFirstName());
+  }
+
+  @Test
+  public void testCandidateIsWritten() throws Exception {
+    Candidate candidate = (Candidate) converter.fromBody(body("{\"name_first\":\"John\"}"), Candidate.class);
+
+    TypedOutput output = converter.toBody(candidate);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    output.writeTo(bytes);
+
+    assertTrue(bytes.toString("UTF-8").contains("\"name_first\":\"John\""));
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static TypedByteArray body(String json) throws Exception {
+    return new TypedByteArray("application/json", json.getBytes("UTF-8"));
+  }
+}
@@ -0,0 +1,72 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecordCache unit tests.
+ */
+public class RecordCacheTest {
+
+  @Test
+  public void testCachedRecordIsReturned() {
+    RecordCache<String> cache = new RecordCache<String>(10, TimeUnit.MINUTES.toNanos(1));
+    cache.put("a", "alpha");
+
+    assertEquals("alpha", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(1L, cache.getHitCount());
+    assertEquals(1L, cache.getMissCount());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedRecordIsEvicted() {
+    RecordCache<String> cache = new RecordCache<String>(2, TimeUnit.MINUTES.toNanos(1));
+    cache.put("a", "alpha");
+    cache.put("b", "beta");
+    cache.get("a");
+    cache.put("c", "gamma");
+
+    assertEquals("alpha", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(1L, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testPeekIsNotCountedAndDoesNotMarkRecordAsUsed() {
+    RecordCache<String> cache = new RecordCache<String>(2, TimeUnit.MINUTES.toNanos(1));
+    cache.put("a", "alpha");
+    cache.put("b", "beta");
+
+    assertEquals("alpha", cache.peek("a"));
+    assertNull(cache.peek("c"));
+    cache.put("c", "gamma");
+
+    assertNull(cache.peek("a"));
+    assertEquals(0L, cache.getHitCount());
+    assertEquals(0L, cache.getMissCount());
+  }
+
+  @Test
+  public void testExpiredRecordIsNotReturned() throws InterruptedException {
+    RecordCache<String> cache = new RecordCache<String>(10, TimeUnit.MILLISECONDS.toNanos(5));
+    cache.put("a", "alpha");
+    Thread.sleep(10);
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testInvalidatedRecordIsNotReturned() {
+    RecordCache<String> cache = new RecordCache<String>(10, TimeUnit.MINUTES.toNanos(1));
+    cache.put("a", "alpha");
+    cache.invalidate("a");
+
+    assertNull(cache.get("a"));
+  }
+}
@@ -0,0 +1,85 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.common.Constants;
+
+import org.junit.Test;
+import retrofit.RequestInterceptor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RequestHeaderInterceptor unit tests.
+ */
+public class RequestHeaderInterceptorTest {
+
+  @Test
+  public void testAddsAuthorizationAndAcceptHeaders() {
+    RequestHeaderInterceptor interceptor = new RequestHeaderInterceptor(new RotatingCredentialsProvider("sk_test_key"));
+
+    Map<String, String> headers = intercept(interceptor);
+
+    assertEquals("Basic c2tfdGVzdF9rZXk6", headers.get(Constants.AUTHORIZATION_HEADER));
+    assertEquals("application/vnd.blockscore+json;version=4", headers.get(Constants.ACCEPT_HEADER));
+  }
+
+  @Test
+  public void testHeaderValuesAreReusedAcrossRequests() {
+    RequestHeaderInterceptor interceptor = new RequestHeaderInterceptor(new RotatingCredentialsProvider("sk_test_key"));
+
+    Map<String, String> first = intercept(interceptor);
+    Map<String, String> second = intercept(interceptor);
+
+    assertSame(first.get(Constants.AUTHORIZATION_HEADER), second.get(Constants.AUTHORIZATION_HEADER));
+    assertSame(first.get(Constants.ACCEPT_HEADER), second.get(Constants.ACCEPT_HEADER));
+  }
+
+  @Test
+  public void testRotatedKeyIsSentWithLaterRequests() {
+    RotatingCredentialsProvider credentials = new RotatingCredentialsProvider("sk_test_key");
+    RequestHeaderInterceptor interceptor = new RequestHeaderInterceptor(credentials);
+
+    Credentials replaced = credentials.rotate("sk_live_key");
+
+    assertEquals("sk_test_key", replaced.getApiKey());
+    assertTrue(replaced.isTestMode());
+    assertFalse(credentials.getCredentials().isTestMode());
+    assertEquals("Basic c2tfbGl2ZV9rZXk6", intercept(interceptor).get(Constants.AUTHORIZATION_HEADER));
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Map<String, String> intercept(RequestInterceptor interceptor) {
+    final Map<String, String> headers = new LinkedHashMap<String, String>();
+    interceptor.intercept(new RequestInterceptor.RequestFacade() {
+      @Override
+      public void addHeader(String name, String value) {
+        headers.put(name, value);
+      }
+
+      @Override
+      public void addPathParam(String name, String value) {
+      }
+
+      @Override
+      public void addEncodedPathParam(String name, String value) {
+      }
+
+      @Override
+      public void addQueryParam(String name, String value) {
+      }
+
+      @Override
+      public void addEncodedQueryParam(String name, String value) {
+      }
+    });
+    return headers;
+  }
+}
@@ -0,0 +1,183 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.blockscore.common.Constants;
+
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RetryingClient unit tests.
+ */
+public class RetryingClientTest {
+  private final RetryPolicy policy = new RetryPolicy().setBaseDelay(1, TimeUnit.MILLISECONDS)
+                                                      .setMaxDelay(5, TimeUnit.MILLISECONDS);
+
+  @Test
+  public void testIdempotentRequestIsRetried() throws IOException {
+    ScriptedClient transport = new ScriptedClient(503, 503, 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("GET"));
+
+    assertEquals(200, response.getStatus());
+    assertEquals(3, transport.attempts);
+    assertEquals(2, policy.getRetryCount());
+  }
+
+  @Test
+  public void testNonIdempotentRequestIsNotRetriedAfterServerError() throws IOException {
+    ScriptedClient transport = new ScriptedClient(503, 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("POST"));
+
+    assertEquals(503, response.getStatus());
+    assertEquals(1, transport.attempts);
+  }
+
+  @Test
+  public void testThrottledRequestIsAlwaysRetried() throws IOException {
+    ScriptedClient transport = new ScriptedClient(429, 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("POST"));
+
+    assertEquals(200, response.getStatus());
+    assertEquals(2, transport.attempts);
+  }
+
+  @Test
+  public void testRetriesAreExhausted() throws IOException {
+    ScriptedClient transport = new ScriptedClient(502, 502, 502, 502, 502);
+
+    Response response = new RetryingClient(transport, policy.setMaxRetries(2)).execute(request("GET"));
+
+    assertEquals(502, response.getStatus());
+    assertEquals(3, transport.attempts);
+    assertEquals(1, policy.getExhaustedCount());
+  }
+
+  @Test
+  public void testRetryBudgetLimitsRetries() throws IOException {
+    policy.setRetryBudget(0.0, 1);
+    ScriptedClient transport = new ScriptedClient(503, 503, 503, 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("GET"));
+
+    assertEquals(503, response.getStatus());
+    assertEquals(2, transport.attempts);
+    assertEquals(1, policy.getBudgetRejectedCount());
+  }
+
+  @Test
+  public void testIdempotentRequestIsRetriedAfterIoException() throws IOException {
+    ScriptedClient transport = new ScriptedClient(new IOException("connection reset"), 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("GET"));
+
+    assertEquals(200, response.getStatus());
+    assertEquals(2, transport.attempts);
+  }
+
+  @Test
+  public void testIdempotentRequestIsRetriedAfterTimeout() throws IOException {
+    ScriptedClient transport = new ScriptedClient(new SocketTimeoutException("Read timed out"),
+                                                  new InterruptedIOException("timeout"), 200);
+
+    Response response = new RetryingClient(transport, policy).execute(request("GET"));
+
+    assertEquals(200, response.getStatus());
+    assertEquals(3, transport.attempts);
+  }
+
+  @Test
+  public void testPostWithIdempotencyKeyIsRetriedAfterTimeout() throws IOException {
+    ScriptedClient transport = new ScriptedClient(new SocketTimeoutException("Read timed out"), 200);
+    List<Header> headers = Collections.singletonList(new Header(Constants.IDEMPOTENCY_KEY_HEADER, "key"));
+    Request request = new Request("POST", "https://api.blockscore.com/candidates", headers, null);
+
+    Response response = new RetryingClient(transport, policy).execute(request);
+
+    assertEquals(200, response.getStatus());
+    assertEquals(2, transport.attempts);
+  }
+
+  @Test
+  public void testPostWithoutIdempotencyKeyIsNotRetriedAfterTimeout() throws IOException {
+    ScriptedClient transport = new ScriptedClient(new SocketTimeoutException("Read timed out"), 200);
+
+    try {
+      new RetryingClient(transport, policy).execute(request("POST"));
+      fail("Expected the timeout to be thrown");
+    } catch (SocketTimeoutException e) {
+      assertEquals(1, transport.attempts);
+    }
+  }
+
+  @Test
+  public void testInterruptedThreadIsNotRetried() throws IOException {
+    ScriptedClient transport = new ScriptedClient(new InterruptedIOException("interrupted"), 200);
+
+    Thread.currentThread().interrupt();
+    try {
+      new RetryingClient(transport, policy).execute(request("GET"));
+      fail("Expected the interruption to be thrown");
+    } catch (InterruptedIOException e) {
+      assertEquals(1, transport.attempts);
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testRetryAfterIsCappedAtMaxDelay() {
+    for (int retry = 0; retry < 5; retry++) {
+      assertTrue(policy.backoffMillis(retry, TimeUnit.MINUTES.toMillis(5)) <= 5);
+    }
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Request request(String method) {
+    return new Request(method, "https://api.blockscore.com/candidates", Collections.<Header>emptyList(), null);
+  }
+
+  private static class ScriptedClient implements Client {
+    private final LinkedList<Object> steps = new LinkedList<Object>();
+    private int attempts;
+
+    /**
+     * Each step is either a status to respond with or an IOException to throw.
+     */
+    ScriptedClient(Object... steps) {
+      Collections.addAll(this.steps, steps);
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+      attempts++;
+      Object step = steps.removeFirst();
+      if (step instanceof IOException) {
+        throw (IOException) step;
+      }
+      List<Header> headers = new ArrayList<Header>();
+      return new Response(request.getUrl(), (Integer) step, "", headers, new TypedString("{}"));
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * SecondsDateDeserializer unit tests.
+ */
+public class SecondsDateDeserializerTest {
+
+  @Test
+  public void testNumericTimestampIsRead() throws IOException {
+    assertEquals(1433462400000L, read("1433462400").getTime());
+  }
+
+  @Test
+  public void testStringTimestampIsRead() throws IOException {
+    assertEquals(1433462400000L, read("\"1433462400\"").getTime());
+  }
+
+  @Test
+  public void testFractionalTimestampIsRead() throws IOException {
+    assertEquals(1437084416500L, read("1437084416.5").getTime());
+    assertEquals(1437084416123L, read("\"1437084416.1239\"").getTime());
+  }
+
+  @Test
+  public void testZeroTimestampIsEpoch() throws IOException {
+    assertEquals(0L, read("0").getTime());
+  }
+
+  @Test(expected = IOException.class)
+  public void testMalformedTimestampIsRejected() throws IOException {
+    read("\"yesterday\"");
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Date read(String timestamp) throws IOException {
+    String json = "{\"created_at\":" + timestamp + "}";
+    return new ObjectMapper().readValue(json, Timestamped.class).createdAt;
+  }
+
+  private static class Timestamped {
+    @JsonDeserialize(using = SecondsDateDeserializer.class)
+    @JsonProperty("created_at")
+    private Date createdAt;
+  }
+}
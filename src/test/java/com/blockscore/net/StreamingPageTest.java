@@ -0,0 +1,136 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.common.RecordHandler;
+import com.blockscore.models.Candidate;
+import com.blockscore.models.WatchlistHit;
+
+import org.junit.Test;
+import retrofit.mime.TypedInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StreamingPage unit tests.
+ */
+public class StreamingPageTest {
+
+  @Test
+  public void testRecordsAreReadBeforeTrailingCounts() throws IOException {
+    TrackedBody body = new TrackedBody("{\"object\":\"list\",\"data\":["
+        + "{\"watchlist_name\":\"US OFAC\",\"names\":[{\"name_full\":\"John Doe\"}]},"
+        + "{\"watchlist_name\":\"UK HMT\",\"names\":[]}],\"has_more\":true,\"total_count\":30}");
+    StreamingPage<WatchlistHit> page = new StreamingPage<WatchlistHit>(body, WatchlistHit.class, null);
+
+    assertEquals(-1, page.getTotalCount());
+    assertEquals("US OFAC", page.next().getWatchlist());
+    assertEquals("UK HMT", page.next().getWatchlist());
+    assertFalse(page.hasNext());
+
+    assertEquals(30, page.getTotalCount());
+    assertTrue(page.hasMore());
+    assertTrue(body.closed);
+  }
+
+  @Test
+  public void testLeadingCountsAreAvailableImmediately() throws IOException {
+    TrackedBody body = new TrackedBody("{\"total_count\":2,\"has_more\":false,"
+        + "\"data\":[{\"id\":\"c1\"},{\"id\":\"c2\"}]}");
+    final List<String> ids = new ArrayList<String>();
+
+    StreamingPage<Candidate> page = new StreamingPage<Candidate>(body, Candidate.class, null);
+    assertEquals(2, page.getTotalCount());
+
+    long count = page.drainTo(new RecordHandler<Candidate>() {
+      @Override
+      public void handle(Candidate candidate) {
+        ids.add(candidate.getId());
+      }
+    });
+
+    assertEquals(2, count);
+    assertEquals("c2", ids.get(1));
+    assertTrue(body.closed);
+  }
+
+  @Test
+  public void testRecordsArePreparedBeforeBeingHandedOut() throws IOException {
+    final List<Candidate> prepared = new ArrayList<Candidate>();
+    StreamingPage<Candidate> page = new StreamingPage<Candidate>(new TrackedBody("{\"data\":[{\"id\":\"c1\"}]}"),
+        Candidate.class, new RecordHandler<Candidate>() {
+          @Override
+          public void handle(Candidate candidate) {
+            prepared.add(candidate);
+          }
+        });
+
+    Candidate candidate = page.next();
+
+    assertEquals(1, prepared.size());
+    assertSame(candidate, prepared.get(0));
+  }
+
+  @Test
+  public void testClosingEarlyReleasesTheBody() throws IOException {
+    TrackedBody body = new TrackedBody("{\"data\":[{\"id\":\"c1\"},{\"id\":\"c2\"}],\"total_count\":2}");
+    StreamingPage<Candidate> page = new StreamingPage<Candidate>(body, Candidate.class, null);
+
+    page.next();
+    page.close();
+
+    assertTrue(body.closed);
+    assertFalse(page.hasNext());
+  }
+
+  @Test
+  public void testEmptyListingHasNoRecords() throws IOException {
+    TrackedBody body = new TrackedBody("{\"data\":[],\"total_count\":0,\"has_more\":false}");
+    StreamingPage<Candidate> page = new StreamingPage<Candidate>(body, Candidate.class, null);
+
+    assertFalse(page.hasNext());
+    assertEquals(0, page.getTotalCount());
+    assertTrue(body.closed);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static class TrackedBody implements TypedInput {
+    private final byte[] bytes;
+    private boolean closed;
+
+    TrackedBody(String json) throws IOException {
+      this.bytes = json.getBytes("UTF-8");
+    }
+
+    @Override
+    public String mimeType() {
+      return "application/json";
+    }
+
+    @Override
+    public long length() {
+      return bytes.length;
+    }
+
+    @Override
+    public InputStream in() {
+      return new ByteArrayInputStream(bytes) {
+        @Override
+        public void close() throws IOException {
+          closed = true;
+          super.close();
+        }
+      };
+    }
+  }
+}
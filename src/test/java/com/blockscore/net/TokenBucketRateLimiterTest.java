@@ -0,0 +1,58 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * TokenBucketRateLimiter unit tests.
+ */
+public class TokenBucketRateLimiterTest {
+
+  @Test
+  public void testBurstIsAllowedImmediately() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0.1, 5);
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+    assertFalse(limiter.tryAcquire());
+  }
+
+  @Test
+  public void testThrottlingPausesAndSlowsDown() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5);
+
+    limiter.onThrottled(60 * 1000L);
+
+    assertFalse(limiter.tryAcquire());
+    assertEquals(5.0, limiter.getCurrentRate(), 0.01);
+  }
+
+  @Test
+  public void testAcceptedRequestsRecoverRate() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5);
+    limiter.onThrottled(1L);
+
+    for (int i = 0; i < 1000; i++) {
+      limiter.onAccepted();
+    }
+
+    assertEquals(10.0, limiter.getCurrentRate(), 0.01);
+  }
+
+  @Test
+  public void testAcquireWaitsForToken() throws InterruptedException {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 3; i++) {
+      limiter.acquire();
+    }
+    long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+    assertTrue(elapsedMillis >= 35);
+  }
+}
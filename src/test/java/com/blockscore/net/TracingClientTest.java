@@ -0,0 +1,175 @@
+package com.blockscore.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.blockscore.tracing.Span;
+import com.blockscore.tracing.TraceContext;
+import com.blockscore.tracing.Tracer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+import retrofit.client.Client;
+import retrofit.client.Header;
+import retrofit.client.Request;
+import retrofit.client.Response;
+import retrofit.mime.TypedString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TracingClient unit tests.
+ */
+public class TracingClientTest {
+  private static final String ENDPOINT = "https://api.blockscore.com";
+
+  private final RecordingTracer tracer = new RecordingTracer();
+
+  @Test
+  public void testCallSpanIsCurrentWhileExecuting() throws IOException {
+    final List<Span> seen = new ArrayList<Span>();
+    Client transport = new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        seen.add(TraceContext.current());
+        return new Response(request.getUrl(), 200, "", Collections.<Header>emptyList(), null);
+      }
+    };
+
+    new TracingClient(transport, tracer, ENDPOINT).execute(request("GET", "/people/55f4"));
+
+    RecordedSpan call = tracer.spans.get(0);
+    assertSame(call, seen.get(0));
+    assertEquals(TracingClient.CALL_SPAN, call.name);
+    assertEquals("GET /people/{id}", call.tags.get("http.route"));
+    assertEquals("200", call.tags.get("http.status_code"));
+    assertTrue(call.finished);
+    assertNull(TraceContext.current());
+  }
+
+  @Test
+  public void testCallEndsOnceBodyIsDecoded() throws IOException {
+    Response response = new TracingClient(respondWith(200, "{}"), tracer, ENDPOINT)
+        .execute(request("GET", "/candidates/55f4/hits"));
+
+    RecordedSpan call = tracer.spans.get(0);
+    assertFalse(call.finished);
+
+    InputStream in = response.getBody().in();
+    RecordedSpan decode = tracer.spans.get(1);
+    assertEquals(TracingClient.DECODE_SPAN, decode.name);
+    assertSame(call, decode.parent);
+    assertFalse(decode.finished);
+
+    in.close();
+    assertTrue(decode.finished);
+    assertTrue(call.finished);
+  }
+
+  @Test
+  public void testCallIsParentedToCurrentSpan() throws IOException {
+    RecordedSpan parent = new RecordedSpan("caller", null);
+    Span previous = TraceContext.attach(parent);
+    try {
+      new TracingClient(respondWith(200, "{}"), tracer, ENDPOINT).execute(request("GET", "/companies"));
+    } finally {
+      TraceContext.restore(previous);
+    }
+
+    assertSame(parent, tracer.spans.get(0).parent);
+  }
+
+  @Test
+  public void testTransportFailureEndsCallWithError() {
+    Client failing = new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        throw new IOException("connection reset");
+      }
+    };
+
+    try {
+      new TracingClient(failing, tracer, ENDPOINT).execute(request("POST", "/candidates"));
+    } catch (IOException expected) {
+      // Checked below
+    }
+
+    RecordedSpan call = tracer.spans.get(0);
+    assertNotNull(call.error);
+    assertTrue(call.finished);
+    assertNull(TraceContext.current());
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static Request request(String method, String path) {
+    return new Request(method, ENDPOINT + path, Collections.<Header>emptyList(), null);
+  }
+
+  private static Client respondWith(final int status, final String body) {
+    return new Client() {
+      @Override
+      public Response execute(Request request) throws IOException {
+        return new Response(request.getUrl(), status, "", Collections.<Header>emptyList(), new TypedString(body));
+      }
+    };
+  }
+
+  private static class RecordingTracer implements Tracer {
+    private final List<RecordedSpan> spans = new ArrayList<RecordedSpan>();
+
+    @NotNull
+    @Override
+    public Span startSpan(@NotNull String name, @Nullable Span parent) {
+      RecordedSpan span = new RecordedSpan(name, parent);
+      spans.add(span);
+      return span;
+    }
+
+    @Override
+    public void inject(@NotNull Span span, @NotNull Map<String, String> headers) {
+      headers.put("X-Trace", ((RecordedSpan) span).name);
+    }
+  }
+
+  private static class RecordedSpan implements Span {
+    private final String name;
+    private final Span parent;
+    private final Map<String, String> tags = new HashMap<String, String>();
+    private Throwable error;
+    private boolean finished;
+
+    RecordedSpan(String name, Span parent) {
+      this.name = name;
+      this.parent = parent;
+    }
+
+    @Override
+    public void setTag(@NotNull String key, @NotNull String value) {
+      tags.put(key, value);
+    }
+
+    @Override
+    public void setError(@NotNull Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void finish() {
+      finished = true;
+    }
+  }
+}
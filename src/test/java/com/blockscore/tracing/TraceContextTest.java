@@ -0,0 +1,92 @@
+package com.blockscore.tracing;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TraceContext unit tests.
+ */
+public class TraceContextTest {
+
+  @Test
+  public void testRestoreReturnsToPreviousSpan() {
+    Span outer = new NamedSpan();
+    Span inner = new NamedSpan();
+
+    Span none = TraceContext.attach(outer);
+    Span previous = TraceContext.attach(inner);
+    assertSame(inner, TraceContext.current());
+
+    TraceContext.restore(previous);
+    assertSame(outer, TraceContext.current());
+
+    TraceContext.restore(none);
+    assertNull(TraceContext.current());
+  }
+
+  @Test
+  public void testWrappedTasksRunWithSubmittersSpan() throws Exception {
+    final Span span = new NamedSpan();
+    final AtomicReference<Span> seenByRunnable = new AtomicReference<Span>();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    Span previous = TraceContext.attach(span);
+    try {
+      executor.execute(TraceContext.wrap(new Runnable() {
+        @Override
+        public void run() {
+          seenByRunnable.set(TraceContext.current());
+        }
+      }));
+      Span seenByCallable = executor.submit(TraceContext.wrap(new Callable<Span>() {
+        @Override
+        public Span call() {
+          return TraceContext.current();
+        }
+      })).get();
+
+      assertSame(span, seenByCallable);
+      assertSame(span, seenByRunnable.get());
+    } finally {
+      TraceContext.restore(previous);
+    }
+
+    Span leftOnWorker = executor.submit(new Callable<Span>() {
+      @Override
+      public Span call() {
+        return TraceContext.current();
+      }
+    }).get();
+    assertNull(leftOnWorker);
+
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.SECONDS);
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private static class NamedSpan implements Span {
+    @Override
+    public void setTag(@NotNull String key, @NotNull String value) {
+    }
+
+    @Override
+    public void setError(@NotNull Throwable error) {
+    }
+
+    @Override
+    public void finish() {
+    }
+  }
+}
@@ -0,0 +1,1034 @@
+package com.blockscore.net;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An in-process stand-in for the Blockscore API, for offline tests and load tests.
+ *
+ * <p>
+ * Every route of {@link BlockscoreRestAdapter} is implemented against in-memory records, with the
+ * same validation errors the API returns for missing parameters and unknown IDs. Responses can be
+ * delayed according to a {@link LatencyDistribution}, and a share of requests can be failed with a
+ * {@link Fault}. Requests are counted per route. Like the API, a creation repeated with the same
+ * {@code Idempotency-Key} returns the original record instead of creating another.
+ *
+ * <p>
+ * The server ships in the {@code test-fixtures} jar, so applications can use it in their own tests.
+ * Point a client at the server with {@link BlockscoreClientConfig#setEndpoint(String)} and
+ * {@link #getEndpoint()}.
+ */
+public class MockBlockscoreServer {
+  public static final int DEFAULT_THREADS = 16;
+  public static final long DEFAULT_TIMEOUT_DELAY_MILLIS = 60 * 1000L;
+
+  private static final int DEFAULT_PAGE_SIZE = 25;
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int QUESTION_COUNT = 5;
+  private static final int ANSWER_COUNT = 5;
+  private static final int HITS_PER_SEARCH = 2;
+
+  /**
+   * A way in which a request can be made to fail.
+   */
+  public enum Fault {
+    /** Responds with 400 and an invalid_request_error. */
+    INVALID,
+    /** Responds with 500 and an api_error. */
+    API,
+    /** Holds the request for the timeout delay, then drops the connection without responding. */
+    TIMEOUT
+  }
+
+  /**
+   * The distribution from which the delay added to each response is drawn.
+   */
+  public interface LatencyDistribution {
+    /**
+     * Draws the delay for one response.
+     *
+     * @param random  the source of randomness
+     * @return the delay in nanoseconds
+     */
+    long nextDelayNanos(@NotNull Random random);
+  }
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Random random = new Random();
+  private final List<Route> routes = new ArrayList<Route>();
+  private final int threads;
+
+  private final Object lock = new Object();
+  private final Map<String, Map<String, Object>> people = new LinkedHashMap<String, Map<String, Object>>();
+  private final Map<String, Map<String, Object>> companies = new LinkedHashMap<String, Map<String, Object>>();
+  private final Map<String, Map<String, Object>> questionSets = new HashMap<String, Map<String, Object>>();
+  private final Map<String, Map<String, Object>> candidates = new LinkedHashMap<String, Map<String, Object>>();
+  private final Map<String, List<Map<String, Object>>> histories = new HashMap<String, List<Map<String, Object>>>();
+  private final Map<String, List<Map<String, Object>>> hits = new HashMap<String, List<Map<String, Object>>>();
+  private final Map<String, Object> idempotentResponses = new HashMap<String, Object>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final long idPrefix = System.currentTimeMillis() / 1000;
+
+  private final ConcurrentMap<String, AtomicLong> requestCounts = new ConcurrentHashMap<String, AtomicLong>();
+  private final Map<Fault, AtomicLong> faultCounts = new EnumMap<Fault, AtomicLong>(Fault.class);
+  private final AtomicLong totalRequests = new AtomicLong();
+  private volatile long countingSinceNanos = System.nanoTime();
+
+  private volatile LatencyDistribution latency = fixedLatency(0, TimeUnit.MILLISECONDS);
+  private volatile Map<Fault, Double> faultProbabilities = new EnumMap<Fault, Double>(Fault.class);
+  private final Queue<Fault> scheduledFaults = new ConcurrentLinkedQueue<Fault>();
+  private volatile long timeoutDelayMillis = DEFAULT_TIMEOUT_DELAY_MILLIS;
+
+  private HttpServer server;
+  private ExecutorService executor;
+
+  public MockBlockscoreServer() {
+    this(DEFAULT_THREADS);
+  }
+
+  /**
+   * Creates a server handling requests on a fixed number of threads.
+   *
+   * @param threads  the number of request threads
+   */
+  public MockBlockscoreServer(final int threads) {
+    this.threads = threads;
+    for (Fault fault : Fault.values()) {
+      faultCounts.put(fault, new AtomicLong());
+    }
+    registerRoutes();
+  }
+
+  /**
+   * A latency distribution that always adds the same delay.
+   *
+   * @param delay  the delay
+   * @param unit  the unit of the delay
+   * @return the distribution
+   */
+  @NotNull
+  public static LatencyDistribution fixedLatency(final long delay, @NotNull final TimeUnit unit) {
+    final long delayNanos = unit.toNanos(delay);
+    return new LatencyDistribution() {
+      @Override
+      public long nextDelayNanos(@NotNull Random random) {
+        return delayNanos;
+      }
+    };
+  }
+
+  /**
+   * A latency distribution drawing delays uniformly from a range.
+   *
+   * @param min  the smallest delay
+   * @param max  the largest delay
+   * @param unit  the unit of the delays
+   * @return the distribution
+   */
+  @NotNull
+  public static LatencyDistribution uniformLatency(final long min, final long max, @NotNull final TimeUnit unit) {
+    final long minNanos = unit.toNanos(min);
+    final long spreadNanos = unit.toNanos(max) - minNanos;
+    return new LatencyDistribution() {
+      @Override
+      public long nextDelayNanos(@NotNull Random random) {
+        return minNanos + (long) (random.nextDouble() * spreadNanos);
+      }
+    };
+  }
+
+  /**
+   * A long tailed latency distribution: log-normal with the given median and 99th percentile.
+   *
+   * @param median  the median delay
+   * @param p99  the 99th percentile delay
+   * @param unit  the unit of the delays
+   * @return the distribution
+   */
+  @NotNull
+  public static LatencyDistribution logNormalLatency(final long median, final long p99, @NotNull final TimeUnit unit) {
+    final double mu = Math.log(unit.toNanos(median));
+    final double sigma = (Math.log(unit.toNanos(p99)) - mu) / 2.326;
+    return new LatencyDistribution() {
+      @Override
+      public long nextDelayNanos(@NotNull Random random) {
+        return (long) Math.exp(mu + sigma * random.nextGaussian());
+      }
+    };
+  }
+
+  /**
+   * Starts listening on an ephemeral port of the loopback interface.
+   *
+   * @return this
+   * @throws IOException if the server cannot be bound
+   */
+  @NotNull
+  public synchronized MockBlockscoreServer start() throws IOException {
+    if (server != null) {
+      throw new IllegalStateException("The server has already been started.");
+    }
+
+    executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override
+      public Thread newThread(@NotNull Runnable runnable) {
+        Thread thread = new Thread(runnable, "blockscore-mock-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        dispatch(exchange);
+      }
+    });
+    server.start();
+    resetCounters();
+    return this;
+  }
+
+  /**
+   * Stops the server, dropping any requests in progress.
+   */
+  public synchronized void stop() {
+    if (server != null) {
+      server.stop(0);
+      executor.shutdownNow();
+      server = null;
+      executor = null;
+    }
+  }
+
+  /**
+   * Gets the base URL to configure clients with.
+   *
+   * @return the endpoint
+   */
+  @NotNull
+  public synchronized String getEndpoint() {
+    if (server == null) {
+      throw new IllegalStateException("The server has not been started.");
+    }
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Sets the distribution of the delay added to every response.
+   *
+   * @param latency  the latency distribution
+   * @return this
+   */
+  @NotNull
+  public MockBlockscoreServer setLatency(@NotNull final LatencyDistribution latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  /**
+   * Fails a share of requests in the given way. Probabilities of different faults add up.
+   *
+   * @param fault  the way to fail
+   * @param probability  the share of requests to fail, between 0 and 1
+   * @return this
+   */
+  @NotNull
+  public synchronized MockBlockscoreServer injectFault(@NotNull final Fault fault, final double probability) {
+    Map<Fault, Double> probabilities = new EnumMap<Fault, Double>(faultProbabilities);
+    probabilities.put(fault, probability);
+    faultProbabilities = probabilities;
+    return this;
+  }
+
+  /**
+   * Fails the next requests in the given way, before any probabilistic fault is drawn.
+   *
+   * @param fault  the way to fail
+   * @param count  the number of requests to fail
+   * @return this
+   */
+  @NotNull
+  public MockBlockscoreServer failNext(@NotNull final Fault fault, final int count) {
+    for (int i = 0; i < count; i++) {
+      scheduledFaults.add(fault);
+    }
+    return this;
+  }
+
+  /**
+   * Stops failing requests.
+   *
+   * @return this
+   */
+  @NotNull
+  public synchronized MockBlockscoreServer clearFaults() {
+    faultProbabilities = new EnumMap<Fault, Double>(Fault.class);
+    scheduledFaults.clear();
+    return this;
+  }
+
+  /**
+   * Sets how long a request failed with {@link Fault#TIMEOUT} is held before its connection is dropped.
+   *
+   * @param delay  the delay
+   * @param unit  the unit of the delay
+   * @return this
+   */
+  @NotNull
+  public MockBlockscoreServer setTimeoutDelay(final long delay, @NotNull final TimeUnit unit) {
+    this.timeoutDelayMillis = unit.toMillis(delay);
+    return this;
+  }
+
+  /**
+   * Gets the number of requests received since the counters were last reset.
+   *
+   * @return the request count
+   */
+  public long getRequestCount() {
+    return totalRequests.get();
+  }
+
+  /**
+   * Gets the number of requests received for one route, such as {@code "GET /people/{id}"}.
+   *
+   * @param route  the route
+   * @return the request count
+   */
+  public long getRequestCount(@NotNull final String route) {
+    AtomicLong count = requestCounts.get(route);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Gets the number of requests received per route.
+   *
+   * @return the request counts by route
+   */
+  @NotNull
+  public Map<String, Long> getRequestCounts() {
+    Map<String, Long> counts = new HashMap<String, Long>();
+    for (Map.Entry<String, AtomicLong> entry : requestCounts.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue().get());
+    }
+    return counts;
+  }
+
+  /**
+   * Gets the number of requests failed with a given fault.
+   *
+   * @param fault  the fault
+   * @return the failed request count
+   */
+  public long getFaultCount(@NotNull final Fault fault) {
+    return faultCounts.get(fault).get();
+  }
+
+  /**
+   * Gets the average number of requests received per second since the counters were last reset.
+   *
+   * @return the throughput
+   */
+  public double getThroughput() {
+    long elapsedNanos = System.nanoTime() - countingSinceNanos;
+    return elapsedNanos <= 0 ? 0 : totalRequests.get() * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Resets the request and fault counters.
+   */
+  public void resetCounters() {
+    requestCounts.clear();
+    totalRequests.set(0);
+    for (AtomicLong count : faultCounts.values()) {
+      count.set(0);
+    }
+    countingSinceNanos = System.nanoTime();
+  }
+
+  /*---------*/
+  /* Routing */
+  /*---------*/
+
+  private void dispatch(HttpExchange exchange) throws IOException {
+    try {
+      String method = exchange.getRequestMethod();
+      String override = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+      if (method.equals("POST") && override != null) {
+        // Lets HTTP stacks without PATCH support, such as HttpURLConnection, reach the update route.
+        method = override;
+      }
+      String path = exchange.getRequestURI().getPath();
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      byte[] body = readFully(exchange.getRequestBody());
+
+      Route route = null;
+      Matcher matcher = null;
+      for (Route candidate : routes) {
+        matcher = candidate.match(method, path);
+        if (matcher != null) {
+          route = candidate;
+          break;
+        }
+      }
+
+      count(route == null ? method + " " + path : route.name);
+      delay();
+
+      Fault fault = scheduledFaults.poll();
+      if (fault == null) {
+        fault = drawFault();
+      }
+      if (fault != null) {
+        faultCounts.get(fault).incrementAndGet();
+        fail(exchange, fault);
+        return;
+      }
+
+      if (route == null) {
+        throw new MockError(404, "invalid_request_error", null, null, "No route matches " + method + " " + path);
+      }
+
+      String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+      Object response;
+      synchronized (lock) {
+        response = idempotencyKey == null ? null : idempotentResponses.get(route.name + " " + idempotencyKey);
+        if (response == null) {
+          response = route.handler.handle(matcher, query, body);
+          if (idempotencyKey != null) {
+            idempotentResponses.put(route.name + " " + idempotencyKey, response);
+          }
+        }
+      }
+      respond(exchange, 200, response);
+    } catch (MockError e) {
+      respond(exchange, e.status, e.toBody());
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void count(String route) {
+    totalRequests.incrementAndGet();
+    AtomicLong count = requestCounts.get(route);
+    if (count == null) {
+      AtomicLong created = new AtomicLong();
+      count = requestCounts.putIfAbsent(route, created);
+      if (count == null) {
+        count = created;
+      }
+    }
+    count.incrementAndGet();
+  }
+
+  private void delay() {
+    long delayNanos = latency.nextDelayNanos(random);
+    if (delayNanos > 0) {
+      sleep(TimeUnit.NANOSECONDS.toMillis(delayNanos), (int) (delayNanos % 1000000));
+    }
+  }
+
+  private Fault drawFault() {
+    double roll = random.nextDouble();
+    double cumulative = 0;
+    for (Map.Entry<Fault, Double> entry : faultProbabilities.entrySet()) {
+      cumulative += entry.getValue();
+      if (roll < cumulative) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+
+  private void fail(HttpExchange exchange, Fault fault) throws IOException {
+    switch (fault) {
+      case INVALID:
+        respond(exchange, 400, new MockError(400, "invalid_request_error", null, null, "Injected fault").toBody());
+        break;
+      case API:
+        respond(exchange, 500, new MockError(500, "api_error", null, null, "Injected fault").toBody());
+        break;
+      default:
+        sleep(timeoutDelayMillis, 0);
+        break;
+    }
+  }
+
+  private void respond(HttpExchange exchange, int status, Object response) throws IOException {
+    byte[] bytes = mapper.writeValueAsBytes(response);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    OutputStream out = exchange.getResponseBody();
+    out.write(bytes);
+    out.flush();
+  }
+
+  private void route(String method, String template, Handler handler) {
+    routes.add(new Route(method, template, handler));
+  }
+
+  private void registerRoutes() {
+    route("POST", "/people", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return createPerson(query);
+      }
+    });
+    route("GET", "/people/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return find(people, "Person", path.group(1));
+      }
+    });
+    route("GET", "/people", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return page(new ArrayList<Map<String, Object>>(people.values()), query);
+      }
+    });
+    route("POST", "/question_sets", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return createQuestionSet(query);
+      }
+    });
+    route("POST", "/question_sets/{id}/score", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return scoreQuestionSet(path.group(1), readBody(body));
+      }
+    });
+    route("GET", "/question_sets/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return find(questionSets, "Question set", path.group(1));
+      }
+    });
+    route("POST", "/companies", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return createCompany(query);
+      }
+    });
+    route("GET", "/companies/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return find(companies, "Company", path.group(1));
+      }
+    });
+    route("GET", "/companies", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return page(new ArrayList<Map<String, Object>>(companies.values()), query);
+      }
+    });
+    route("POST", "/candidates", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return createCandidate(readBody(body));
+      }
+    });
+    route("GET", "/candidates/{id}/history", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        find(candidates, "Candidate", path.group(1));
+        return histories.get(path.group(1));
+      }
+    });
+    route("GET", "/candidates/{id}/hits", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        find(candidates, "Candidate", path.group(1));
+        return page(hits.get(path.group(1)), query);
+      }
+    });
+    route("GET", "/candidates/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return find(candidates, "Candidate", path.group(1));
+      }
+    });
+    route("PATCH", "/candidates/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return updateCandidate(path.group(1), readBody(body));
+      }
+    });
+    route("DELETE", "/candidates/{id}", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return deleteCandidate(path.group(1));
+      }
+    });
+    route("GET", "/candidates", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return page(new ArrayList<Map<String, Object>>(candidates.values()), query);
+      }
+    });
+    route("POST", "/watchlists", new Handler() {
+      @Override
+      public Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError {
+        return searchWatchlists(query);
+      }
+    });
+  }
+
+  /*-----------*/
+  /* Resources */
+  /*-----------*/
+
+  private Map<String, Object> createPerson(Map<String, String> query) throws MockError {
+    require(query, "name_first", "name_last", "document_type", "document_value", "birth_day", "birth_month",
+            "birth_year", "address_street1", "address_city", "address_country_code");
+
+    Map<String, Object> person = newRecord("person");
+    copyStrings(query, person, "name_first", "name_middle", "name_last", "document_type", "document_value",
+                "address_street1", "address_street2", "address_city", "address_subdivision",
+                "address_postal_code", "address_country_code", "phone_number", "ip_address", "note");
+    copyIntegers(query, person, "birth_day", "birth_month", "birth_year");
+    person.put("status", "valid");
+
+    Map<String, Object> details = new LinkedHashMap<String, Object>();
+    details.put("address", "match");
+    details.put("address_risk", "low");
+    details.put("identification", "match");
+    details.put("date_of_birth", "match");
+    details.put("ofac", "no_match");
+    details.put("pep", "no_match");
+    person.put("details", details);
+    person.put("question_sets", new ArrayList<String>());
+
+    people.put((String) person.get("id"), person);
+    return person;
+  }
+
+  private Map<String, Object> createQuestionSet(Map<String, String> query) throws MockError {
+    require(query, "person_id");
+    Map<String, Object> person = find(people, "Person", query.get("person_id"));
+
+    Map<String, Object> questionSet = newRecord("question_set");
+    questionSet.put("person_id", person.get("id"));
+    questionSet.put("score", null);
+    questionSet.put("expired", false);
+    questionSet.put("time_limit", query.containsKey("time_limit") ? Long.valueOf(query.get("time_limit")) : 0L);
+
+    List<Map<String, Object>> questions = new ArrayList<Map<String, Object>>();
+    for (int i = 1; i <= QUESTION_COUNT; i++) {
+      Map<String, Object> question = new LinkedHashMap<String, Object>();
+      question.put("id", i);
+      question.put("question", "Which one of the following addresses is associated with you? (" + i + ")");
+
+      List<Map<String, Object>> answers = new ArrayList<Map<String, Object>>();
+      for (int j = 1; j <= ANSWER_COUNT; j++) {
+        Map<String, Object> answer = new LinkedHashMap<String, Object>();
+        answer.put("id", j);
+        answer.put("answer", j == ANSWER_COUNT ? "None of the above" : j + " Infinite Loop");
+        answers.add(answer);
+      }
+      question.put("answers", answers);
+      questions.add(question);
+    }
+    questionSet.put("questions", questions);
+
+    @SuppressWarnings("unchecked")
+    List<String> questionSetIds = (List<String>) person.get("question_sets");
+    questionSetIds.add((String) questionSet.get("id"));
+
+    questionSets.put((String) questionSet.get("id"), questionSet);
+    return questionSet;
+  }
+
+  /**
+   * Scores a question set. The first answer to every question is the correct one.
+   */
+  private Map<String, Object> scoreQuestionSet(String id, Map<String, Object> body) throws MockError {
+    Map<String, Object> questionSet = find(questionSets, "Question set", id);
+
+    Object answers = body.get("answers");
+    if (!(answers instanceof List) || ((List<?>) answers).isEmpty()) {
+      throw new MockError(400, "invalid_request_error", "answers", "cant_be_blank", "Answers can't be blank");
+    }
+
+    int correct = 0;
+    for (Object answer : (List<?>) answers) {
+      Object answerId = answer instanceof Map ? ((Map<?, ?>) answer).get("answer_id") : null;
+      if (answerId instanceof Number && ((Number) answerId).intValue() == 1) {
+        correct++;
+      }
+    }
+    questionSet.put("score", correct * 100 / QUESTION_COUNT);
+    touch(questionSet);
+    return questionSet;
+  }
+
+  private Map<String, Object> createCompany(Map<String, String> query) throws MockError {
+    require(query, "entity_name", "tax_id", "incorporation_country_code", "incorporation_type",
+            "address_street1", "address_city", "address_country_code");
+
+    Map<String, Object> company = newRecord("company");
+    copyStrings(query, company, "entity_name", "tax_id", "incorporation_state", "incorporation_country_code",
+                "incorporation_type", "dbas", "registration_number", "email", "url", "phone_number",
+                "ip_address", "note", "address_street1", "address_street2", "address_city",
+                "address_subdivision", "address_postal_code", "address_country_code");
+    copyIntegers(query, company, "incorporation_day", "incorporation_month", "incorporation_year");
+    company.put("status", "valid");
+
+    Map<String, Object> details = new LinkedHashMap<String, Object>();
+    details.put("ofac", "no_match");
+    details.put("state", "match");
+    details.put("tax_id", "match");
+    details.put("address", "match");
+    details.put("entity_name", "match");
+    details.put("incorp_date", "match");
+    details.put("country_code", "match");
+    company.put("details", details);
+
+    companies.put((String) company.get("id"), company);
+    return company;
+  }
+
+  private Map<String, Object> createCandidate(Map<String, Object> body) {
+    Map<String, Object> candidate = newRecord("candidate");
+    merge(body, candidate);
+
+    String id = (String) candidate.get("id");
+    candidates.put(id, candidate);
+    histories.put(id, new ArrayList<Map<String, Object>>(Collections.singletonList(snapshot(candidate))));
+    hits.put(id, new ArrayList<Map<String, Object>>());
+    return candidate;
+  }
+
+  private Map<String, Object> updateCandidate(String id, Map<String, Object> body) throws MockError {
+    Map<String, Object> candidate = find(candidates, "Candidate", id);
+    merge(body, candidate);
+    touch(candidate);
+    histories.get(id).add(0, snapshot(candidate));
+    return candidate;
+  }
+
+  private Map<String, Object> deleteCandidate(String id) throws MockError {
+    Map<String, Object> candidate = find(candidates, "Candidate", id);
+    candidates.remove(id);
+    histories.remove(id);
+    hits.remove(id);
+
+    Map<String, Object> deleted = snapshot(candidate);
+    deleted.put("deleted", true);
+    return deleted;
+  }
+
+  private Map<String, Object> searchWatchlists(Map<String, String> query) throws MockError {
+    require(query, "candidate_id");
+    Map<String, Object> candidate = find(candidates, "Candidate", query.get("candidate_id"));
+
+    String name = ((candidate.get("name_first") == null ? "" : candidate.get("name_first") + " ")
+        + (candidate.get("name_last") == null ? "" : candidate.get("name_last"))).trim();
+    List<Map<String, Object>> matches = new ArrayList<Map<String, Object>>();
+    for (int i = 0; i < HITS_PER_SEARCH; i++) {
+      matches.add(watchlistHit(name.isEmpty() ? "John Doe" : name, i));
+    }
+    hits.get(candidate.get("id")).addAll(matches);
+
+    Map<String, Object> results = new LinkedHashMap<String, Object>();
+    results.put("object", "watchlist_search");
+    results.put("searched_lists", Arrays.asList("us_ofac", "ca_osfi", "eu_consolidated", "un_consolidated"));
+    results.put("count", matches.size());
+    results.put("matches", matches);
+    return results;
+  }
+
+  private static Map<String, Object> watchlistHit(String name, int index) {
+    Map<String, Object> hit = new LinkedHashMap<String, Object>();
+    hit.put("watchlist_name", index % 2 == 0 ? "US Office of Foreign Asset Control" : "UN Consolidated List");
+    hit.put("entry_type", "person");
+    hit.put("matching_info", Arrays.asList("name", "date_of_birth"));
+    hit.put("confidence", 0.95 - index * 0.1);
+    hit.put("url", null);
+    hit.put("notes", null);
+    hit.put("title", null);
+    hit.put("name_full", name);
+    hit.put("alternate_names", name.toUpperCase());
+    hit.put("date_of_birth", "1980-08-23");
+    hit.put("passport", "X" + (1234567 + index));
+    hit.put("ssn", null);
+    hit.put("address_street1", index + 1 + " Main St");
+    hit.put("address_city", "Kabul");
+    hit.put("address_country_code", "AF");
+    hit.put("address_raw", index + 1 + " Main St, Kabul, Afghanistan");
+
+    List<Map<String, Object>> names = new ArrayList<Map<String, Object>>();
+    names.add(nameResult(true, name, "strong"));
+    names.add(nameResult(false, name.toUpperCase(), "strong"));
+    names.add(nameResult(false, name.replace(' ', '-'), "weak"));
+    hit.put("names", names);
+
+    Map<String, Object> birth = new LinkedHashMap<String, Object>();
+    birth.put("birth_day", 23);
+    birth.put("birth_month", 8);
+    birth.put("birth_year", 1980);
+    hit.put("births", Collections.singletonList(birth));
+
+    List<Map<String, Object>> documents = new ArrayList<Map<String, Object>>();
+    // Four documents like the API's fixtures, limited to the types DocumentType knows
+    for (int i = 0; i < 4; i++) {
+      Map<String, Object> document = new LinkedHashMap<String, Object>();
+      document.put("document_type", i % 2 == 0 ? "passport" : "ssn");
+      document.put("document_value", "X" + (1234567 + index * 4 + i));
+      document.put("document_country_code", "AF");
+      documents.add(document);
+    }
+    hit.put("documents", documents);
+
+    Map<String, Object> address = new LinkedHashMap<String, Object>();
+    address.put("address_street1", index + 1 + " Main St");
+    address.put("address_city", "Kabul");
+    address.put("address_country_code", "AF");
+    hit.put("addresses", Collections.singletonList(address));
+    return hit;
+  }
+
+  private static Map<String, Object> nameResult(boolean primary, String fullName, String strength) {
+    Map<String, Object> name = new LinkedHashMap<String, Object>();
+    name.put("name_primary", primary);
+    name.put("name_full", fullName);
+    name.put("name_strength", strength);
+    return name;
+  }
+
+  /*------------------*/
+  /* Helper Functions */
+  /*------------------*/
+
+  private Map<String, Object> newRecord(String type) {
+    long now = System.currentTimeMillis() / 1000;
+    Map<String, Object> record = new LinkedHashMap<String, Object>();
+    record.put("object", type);
+    record.put("id", String.format("%08x%016x", idPrefix, nextId.incrementAndGet()));
+    record.put("created_at", now);
+    record.put("updated_at", now);
+    record.put("livemode", false);
+    return record;
+  }
+
+  /**
+   * Bumps a record's updated_at, keeping revisions strictly ordered even within the same second.
+   */
+  private static void touch(Map<String, Object> record) {
+    long now = System.currentTimeMillis() / 1000;
+    record.put("updated_at", Math.max(now, ((Number) record.get("updated_at")).longValue() + 1));
+  }
+
+  private static void merge(Map<String, Object> body, Map<String, Object> record) {
+    for (Map.Entry<String, Object> entry : body.entrySet()) {
+      String key = entry.getKey();
+      if (!key.equals("id") && !key.equals("object") && !key.equals("created_at") && !key.equals("updated_at")
+          && !key.equals("livemode")) {
+        record.put(key, entry.getValue());
+      }
+    }
+  }
+
+  private static Map<String, Object> snapshot(Map<String, Object> record) {
+    return new LinkedHashMap<String, Object>(record);
+  }
+
+  private static Map<String, Object> find(Map<String, Map<String, Object>> records, String type, String id)
+      throws MockError {
+    Map<String, Object> record = records.get(id);
+    if (record == null) {
+      throw new MockError(404, "invalid_request_error", "id", null, type + " with id " + id + " not found");
+    }
+    return record;
+  }
+
+  private static void require(Map<String, String> query, String... params) throws MockError {
+    for (String param : params) {
+      String value = query.get(param);
+      if (value == null || value.isEmpty()) {
+        throw new MockError(400, "invalid_request_error", param, "cant_be_blank", param + " can't be blank");
+      }
+    }
+  }
+
+  private static void copyStrings(Map<String, String> query, Map<String, Object> record, String... params) {
+    for (String param : params) {
+      record.put(param, query.get(param));
+    }
+  }
+
+  private static void copyIntegers(Map<String, String> query, Map<String, Object> record, String... params)
+      throws MockError {
+    for (String param : params) {
+      String value = query.get(param);
+      try {
+        record.put(param, value == null ? null : Integer.valueOf(value));
+      } catch (NumberFormatException e) {
+        throw new MockError(400, "invalid_request_error", param, "is_invalid", param + " is invalid");
+      }
+    }
+  }
+
+  private static Map<String, Object> page(List<Map<String, Object>> records, Map<String, String> query)
+      throws MockError {
+    List<Map<String, Object>> newestFirst = new ArrayList<Map<String, Object>>(records);
+    Collections.reverse(newestFirst);
+
+    int offset = intParam(query, "offset", 0);
+    int limit = Math.min(intParam(query, "limit", DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE);
+    int from = Math.min(offset, newestFirst.size());
+    int to = Math.min(from + limit, newestFirst.size());
+
+    Map<String, Object> page = new LinkedHashMap<String, Object>();
+    page.put("object", "list");
+    page.put("total_count", newestFirst.size());
+    page.put("has_more", to < newestFirst.size());
+    page.put("data", new ArrayList<Map<String, Object>>(newestFirst.subList(from, to)));
+    return page;
+  }
+
+  private static int intParam(Map<String, String> query, String param, int defaultValue) throws MockError {
+    String value = query.get(param);
+    try {
+      return value == null ? defaultValue : Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new MockError(400, "invalid_request_error", param, "is_invalid", param + " is invalid");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> readBody(byte[] body) throws MockError {
+    if (body.length == 0) {
+      return new LinkedHashMap<String, Object>();
+    }
+    try {
+      return mapper.readValue(body, LinkedHashMap.class);
+    } catch (IOException e) {
+      throw new MockError(400, "invalid_request_error", null, null, "Malformed JSON body");
+    }
+  }
+
+  private static Map<String, String> parseQuery(String rawQuery) throws IOException {
+    Map<String, String> query = new HashMap<String, String>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int separator = pair.indexOf('=');
+      if (separator < 0) {
+        query.put(URLDecoder.decode(pair, "UTF-8"), "");
+      } else {
+        query.put(URLDecoder.decode(pair.substring(0, separator), "UTF-8"),
+                  URLDecoder.decode(pair.substring(separator + 1), "UTF-8"));
+      }
+    }
+    return query;
+  }
+
+  private static byte[] readFully(InputStream in) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[4096];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      bytes.write(buffer, 0, read);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void sleep(long millis, int nanos) {
+    try {
+      Thread.sleep(millis, nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private interface Handler {
+    Object handle(Matcher path, Map<String, String> query, byte[] body) throws MockError;
+  }
+
+  private static class Route {
+    private final String method;
+    private final String name;
+    private final Pattern pattern;
+    private final Handler handler;
+
+    Route(String method, String template, Handler handler) {
+      this.method = method;
+      this.name = method + " " + template;
+      this.pattern = Pattern.compile(template.replace("{id}", "([^/]+)"));
+      this.handler = handler;
+    }
+
+    Matcher match(String method, String path) {
+      if (!this.method.equals(method)) {
+        return null;
+      }
+      Matcher matcher = pattern.matcher(path);
+      return matcher.matches() ? matcher : null;
+    }
+  }
+
+  private static class MockError extends Exception {
+    private static final long serialVersionUID = 0L;
+
+    private final int status;
+    private final String type;
+    private final String param;
+    private final String code;
+
+    MockError(int status, String type, String param, String code, String message) {
+      super(message);
+      this.status = status;
+      this.type = type;
+      this.param = param;
+      this.code = code;
+    }
+
+    Map<String, Object> toBody() {
+      Map<String, Object> error = new LinkedHashMap<String, Object>();
+      error.put("type", type);
+      error.put("message", getMessage());
+      error.put("param", param);
+      error.put("code", code);
+      return Collections.<String, Object>singletonMap("error", error);
+    }
+  }
+}